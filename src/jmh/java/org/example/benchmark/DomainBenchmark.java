@@ -0,0 +1,63 @@
+package org.example.benchmark;
+
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.valueobject.Price;
+import org.example.domain.valueobject.SeatNumber;
+import org.example.shared.util.CityCodeNormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminos calientes del dominio: precio por clase, validación de asiento y
+ * normalización de ciudades. Cada grupo tiene su propio estado para que los
+ * parámetros de uno no multipliquen las corridas de los demás.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class PriceState {
+
+        @Param({"ECONOMY", "BUSINESS", "FIRST_CLASS"})
+        public TicketClass ticketClass;
+
+        final PriceCalculationService priceCalculationService = new PriceCalculationService();
+        final Price basePrice = new Price(new BigDecimal("350000.00"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class SeatState {
+
+        @Param({"1A", "12F"})
+        public String seat;
+    }
+
+    @State(Scope.Benchmark)
+    public static class CityState {
+
+        @Param({"BOG", "Bogotá", "San Andrés", "XYZ"})
+        public String city;
+    }
+
+    @Benchmark
+    public Price calculatePrice(PriceState state) {
+        return state.priceCalculationService.calculatePrice(state.basePrice, state.ticketClass);
+    }
+
+    @Benchmark
+    public SeatNumber seatNumber(SeatState state) {
+        return new SeatNumber(state.seat);
+    }
+
+    @Benchmark
+    public String normalizeCity(CityState state) {
+        return CityCodeNormalizer.normalize(state.city);
+    }
+}
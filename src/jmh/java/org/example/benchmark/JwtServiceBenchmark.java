@@ -0,0 +1,77 @@
+package org.example.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.infrastructure.config.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de autenticar un token por petición
+ *
+ * legacyTripleParse reproduce el filtro anterior: extractUsername seguido de
+ * validateToken, que volvía a leer el token dos veces construyendo un parser
+ * nuevo en cada lectura. singleParse es la lectura única sin caché y
+ * cachedPrincipal el camino habitual con el token ya verificado.
+ * generateToken mide la firma de un token nuevo en cada login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidation123456789";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private SecretKey secretKey;
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedService = new JwtService(SECRET, EXPIRATION, 0);
+        cachedService = new JwtService(SECRET, EXPIRATION, 10_000);
+        token = cachedService.generateToken("admin");
+        cachedService.authenticate(token);
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(username)
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncachedService.authenticate(token).username();
+    }
+
+    @Benchmark
+    public String cachedPrincipal() {
+        return cachedService.authenticate(token).username();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedService.generateToken("admin");
+    }
+
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
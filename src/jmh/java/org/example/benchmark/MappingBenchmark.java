@@ -0,0 +1,106 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.domain.model.Flight;
+import org.example.infrastructure.drivenadapters.r2dbc.entity.FlightEntity;
+import org.example.infrastructure.drivenadapters.r2dbc.mapper.FlightPersistenceMapper;
+import org.example.infrastructure.entrypoints.rest.dto.response.ApiResponse;
+import org.example.infrastructure.entrypoints.rest.dto.response.FlightResponseDTO;
+import org.example.infrastructure.entrypoints.rest.mapper.FlightResponseMapper;
+import org.example.shared.constants.MessageConstants;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mapeos entre capas y serialización de la respuesta de búsqueda de vuelos
+ *
+ * serializeSearchResponse usa un ObjectMapper armado como el de Spring Boot
+ * y mide el cuerpo completo de ApiResponse con una lista de vuelos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final FlightPersistenceMapper persistenceMapper = new FlightPersistenceMapper();
+    private final FlightResponseMapper responseMapper = new FlightResponseMapper();
+
+    private FlightEntity entity;
+    private Flight flight;
+
+    @Setup
+    public void setUp() {
+        entity = entity(1L);
+        flight = persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Flight toDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public FlightEntity toEntity() {
+        return persistenceMapper.toEntity(flight);
+    }
+
+    @Benchmark
+    public FlightResponseDTO toResponse() {
+        return responseMapper.toResponse(flight);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ResponseState {
+
+        @Param({"1", "20", "100"})
+        public int flights;
+
+        ObjectMapper objectMapper;
+        ApiResponse<List<FlightResponseDTO>> response;
+
+        @Setup
+        public void setUp() {
+            FlightPersistenceMapper persistenceMapper = new FlightPersistenceMapper();
+            FlightResponseMapper responseMapper = new FlightResponseMapper();
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            List<FlightResponseDTO> body = IntStream.rangeClosed(1, flights)
+                    .mapToObj(id -> responseMapper.toResponse(persistenceMapper.toDomain(entity(id))))
+                    .toList();
+            response = ApiResponse.success(body, String.format(MessageConstants.FLIGHTS_FOUND, flights));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeSearchResponse(ResponseState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.response);
+    }
+
+    private static FlightEntity entity(long id) {
+        LocalDateTime departure = LocalDateTime.of(2030, 5, 10, 8, 0).plusHours(id);
+        return FlightEntity.builder()
+                .flightId(id)
+                .flightNumber("AV" + (100 + id))
+                .origin("BOG")
+                .destination("MDE")
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(1))
+                .availableSeats(120)
+                .totalSeats(180)
+                .price(new BigDecimal("350000.00"))
+                .airline("Avianca")
+                .status("ACTIVE")
+                .createdAt(departure.minusDays(30))
+                .updatedAt(departure.minusDays(30))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.infrastructure.config.RouteClassifier;
+import org.example.shared.constants.SecurityConstants;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por petición de decidir si una ruta es pública
+ *
+ * legacyDoubleMatch reproduce la cadena anterior: el filtro JWT recorría los
+ * patrones con AntPathMatcher y después las reglas de autorización volvían a
+ * compararlos con sus propios matchers. classifiedOnce usa RouteClassifier
+ * desde el filtro y desde la autorización, como la cadena actual; borra el
+ * atributo en cada operación para medir una petición nueva.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteClassifierBenchmark {
+
+    @Param({"/airline/reservations/user/1", "/airline/flights/15/seats", "/actuator/health"})
+    public String path;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private List<ServerWebExchangeMatcher> securityMatchers;
+    private RouteClassifier routeClassifier;
+    private ServerWebExchangeMatcher classifiedMatcher;
+    private ServerWebExchange exchange;
+
+    @Setup
+    public void setUp() {
+        securityMatchers = SecurityConstants.PUBLIC_PATHS.stream()
+                .<ServerWebExchangeMatcher>map(PathPatternParserServerWebExchangeMatcher::new)
+                .toList();
+        routeClassifier = new RouteClassifier();
+        classifiedMatcher = routeClassifier.publicRoutes();
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+    }
+
+    @Benchmark
+    public boolean legacyDoubleMatch() {
+        String requestPath = exchange.getRequest().getPath().toString();
+        boolean filterPublic = SecurityConstants.PUBLIC_PATHS.stream()
+                .anyMatch(pattern -> antPathMatcher.match(pattern, requestPath));
+
+        boolean authorizationPublic = false;
+        for (ServerWebExchangeMatcher matcher : securityMatchers) {
+            if (matcher.matches(exchange).block().isMatch()) {
+                authorizationPublic = true;
+                break;
+            }
+        }
+        return filterPublic && authorizationPublic;
+    }
+
+    @Benchmark
+    public boolean classifiedOnce() {
+        exchange.getAttributes().remove(RouteClassifier.ROUTE_ACCESS_ATTRIBUTE);
+        boolean filterPublic = routeClassifier.isPublic(exchange);
+        boolean authorizationPublic = classifiedMatcher.matches(exchange).block().isMatch();
+        return filterPublic && authorizationPublic;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.example.loadtest.LoadScenario.Step;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cliente no bloqueante de la API que ejecuta cada operación del escenario
+ *
+ * Guarda el token vigente y las reservas creadas por BOOK, que después
+ * consumen UPDATE (las devuelve al terminar) y CANCEL (las retira).
+ * Cada operación devuelve el código HTTP; -1 significa que no se pudo armar.
+ */
+final class AirlineClient {
+
+    static final int SKIPPED = -1;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final String SEAT_LETTERS = "ABCDEF";
+
+    private record Response(int status, JsonNode body) { }
+
+    private final WebClient webClient;
+    private final long userId;
+    private final List<Long> flightIds;
+    private final String searchDate;
+    private final AtomicReference<String> token = new AtomicReference<>("");
+    private final ConcurrentLinkedDeque<Long> reservations = new ConcurrentLinkedDeque<>();
+
+    AirlineClient(String baseUrl, int maxConnections, Duration timeout, long userId,
+                  List<Long> flightIds, LocalDate searchDate) {
+        ConnectionProvider connections = ConnectionProvider.builder("loadtest")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient httpClient = HttpClient.create(connections).responseTimeout(timeout);
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.userId = userId;
+        this.flightIds = flightIds;
+        this.searchDate = searchDate.atStartOfDay().format(DATE_TIME);
+    }
+
+    Mono<Integer> execute(Step step) {
+        return switch (step.operation()) {
+            case LOGIN -> login(step.text("username", "admin"), step.text("password", "password"));
+            case SEARCH -> search(step);
+            case SEAT_MAP -> get("/airline/flights/" + randomFlight() + "/seats");
+            case RESERVATIONS -> get("/airline/reservations/user/" + userId + "?limit=20");
+            case BOOK -> book(step);
+            case UPDATE -> update();
+            case CANCEL -> cancel();
+        };
+    }
+
+    /**
+     * Inicia sesión y guarda el token para las operaciones protegidas
+     */
+    Mono<Integer> login(String username, String password) {
+        return send(webClient.post().uri("/airline/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("username", username, "password", password)))
+                .doOnNext(response -> {
+                    String newToken = response.body().path("data").path("token").asText("");
+                    if (!newToken.isEmpty()) {
+                        token.set(newToken);
+                    }
+                })
+                .map(Response::status);
+    }
+
+    private Mono<Integer> search(Step step) {
+        Map<String, Object> body = Map.of(
+                "origin", step.text("origin", "BOG"),
+                "destination", step.text("destination", "MDE"),
+                "departureDate", searchDate,
+                "passengers", step.number("passengers", 1));
+        return send(webClient.post().uri("/airline/flights/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body))
+                .map(Response::status);
+    }
+
+    private Mono<Integer> book(Step step) {
+        Map<String, Object> body = Map.of(
+                "userId", userId,
+                "flightId", randomFlight(),
+                "passengerName", "Pasajero Carga",
+                "seatNumber", randomSeat(),
+                "ticketClass", step.text("ticketClass", "ECONOMY"));
+        return send(webClient.post().uri("/airline/reservations").headers(this::bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body))
+                .doOnNext(response -> {
+                    JsonNode reservationId = response.body().path("data").path("reservationId");
+                    if (response.status() < 300 && reservationId.canConvertToLong()) {
+                        reservations.addLast(reservationId.asLong());
+                    }
+                })
+                .map(Response::status);
+    }
+
+    private Mono<Integer> update() {
+        Long reservationId = reservations.pollFirst();
+        if (reservationId == null) {
+            return Mono.just(SKIPPED);
+        }
+        Map<String, Object> body = Map.of("reservationId", reservationId, "seatNumber", randomSeat());
+        return send(webClient.put().uri("/airline/reservations").headers(this::bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body))
+                .map(Response::status)
+                .doFinally(signal -> reservations.addLast(reservationId));
+    }
+
+    private Mono<Integer> cancel() {
+        Long reservationId = reservations.pollLast();
+        if (reservationId == null) {
+            return Mono.just(SKIPPED);
+        }
+        return send(webClient.delete().uri("/airline/reservations/{id}?reason=Carga", reservationId).headers(this::bearer))
+                .map(Response::status);
+    }
+
+    private Mono<Integer> get(String uri) {
+        return send(webClient.get().uri(uri).headers(this::bearer)).map(Response::status);
+    }
+
+    private void bearer(HttpHeaders headers) {
+        headers.setBearerAuth(token.get());
+    }
+
+    private Mono<Response> send(WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.bodyToMono(JsonNode.class)
+                .defaultIfEmpty(MissingNode.getInstance())
+                .onErrorReturn(MissingNode.getInstance())
+                .map(body -> new Response(response.statusCode().value(), body)));
+    }
+
+    private long randomFlight() {
+        return flightIds.get(ThreadLocalRandom.current().nextInt(flightIds.size()));
+    }
+
+    private static String randomSeat() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = 1 + random.nextInt(FlightSeeder.SEATS_PER_FLIGHT / SEAT_LETTERS.length());
+        return row + String.valueOf(SEAT_LETTERS.charAt(random.nextInt(SEAT_LETTERS.length())));
+    }
+}
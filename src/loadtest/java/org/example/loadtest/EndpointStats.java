@@ -0,0 +1,135 @@
+package org.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y resultados de una operación del escenario
+ *
+ * Las latencias se guardan en microsegundos en un Recorder de HdrHistogram,
+ * que admite escrituras concurrentes sin bloqueo. Se miden desde la hora de
+ * llegada planificada, no desde el envío real, para que la espera causada por
+ * un servidor lento cuente en la latencia (omisión coordinada).
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long intendedStartNanos, int status) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        recorder.recordValue(Math.min(Math.max(latencyMicros, 1), MAX_LATENCY_MICROS));
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long intendedStartNanos) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        recorder.recordValue(Math.min(Math.max(latencyMicros, 1), MAX_LATENCY_MICROS));
+        failures.increment();
+    }
+
+    /**
+     * La operación no se pudo armar (p. ej. no hay reservas para cancelar)
+     */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    /**
+     * Acumula lo registrado desde la llamada anterior y devuelve el total
+     */
+    synchronized Histogram snapshot() {
+        total.add(recorder.getIntervalHistogram());
+        return total;
+    }
+
+    long requests() {
+        return success.sum() + clientErrors.sum() + serverErrors.sum() + failures.sum();
+    }
+
+    void printRow(PrintStream out) {
+        Histogram histogram = snapshot();
+        out.printf("%-14s %8d %7d %7d %7d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                requests(),
+                success.sum(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                failures.sum(),
+                skipped.sum(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-14s %8s %7s %7s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "2xx/3xx", "4xx", "5xx", "failed", "skipped",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    void writeSummary(StringBuilder json) {
+        Histogram histogram = snapshot();
+        json.append("    \"").append(name).append("\": {")
+                .append("\"requests\": ").append(requests())
+                .append(", \"success\": ").append(success.sum())
+                .append(", \"clientErrors\": ").append(clientErrors.sum())
+                .append(", \"serverErrors\": ").append(serverErrors.sum())
+                .append(", \"failures\": ").append(failures.sum())
+                .append(", \"skipped\": ").append(skipped.sum())
+                .append(", \"p50Ms\": ").append(millis(histogram.getValueAtPercentile(50)))
+                .append(", \"p90Ms\": ").append(millis(histogram.getValueAtPercentile(90)))
+                .append(", \"p99Ms\": ").append(millis(histogram.getValueAtPercentile(99)))
+                .append(", \"p999Ms\": ").append(millis(histogram.getValueAtPercentile(99.9)))
+                .append(", \"maxMs\": ").append(millis(histogram.getMaxValue()))
+                .append('}');
+    }
+
+    /**
+     * Distribución completa en formato .hgrm, con valores en milisegundos
+     */
+    void writeDistribution(Path directory) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            snapshot().outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    double p99Millis() {
+        return millis(snapshot().getValueAtPercentile(99));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
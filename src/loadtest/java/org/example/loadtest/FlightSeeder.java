@@ -0,0 +1,101 @@
+package org.example.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserta vuelos futuros para la prueba de carga por JDBC
+ *
+ * La aplicación recrea el esquema y los datos de data.sql al arrancar, y esos
+ * vuelos pueden haber salido ya; por eso la prueba siembra sus propios vuelos
+ * (prefijo LT) después de que la aplicación arranca y antes de enviar carga.
+ */
+final class FlightSeeder {
+
+    static final String FLIGHT_PREFIX = "LT";
+    static final int SEATS_PER_FLIGHT = 180;
+
+    private static final String[][] ROUTES = {
+            {"BOG", "MDE"}, {"BOG", "CTG"}, {"MDE", "BOG"}, {"CTG", "BOG"}, {"BOG", "CLO"}, {"CLO", "BOG"}
+    };
+
+    // data.sql inserta vuelos con flight_id explícito sin mover la secuencia
+    private static final String SYNC_SEQUENCE_SQL = """
+            SELECT setval(pg_get_serial_sequence('flights', 'flight_id'),
+                          GREATEST((SELECT MAX(flight_id) FROM flights), 1))
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO flights (flight_number, origin, destination, departure_time, arrival_time,
+                                 available_seats, total_seats, price, airline, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'LoadTest', 'ACTIVE')
+            ON CONFLICT (flight_number) DO NOTHING
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT flight_id FROM flights
+            WHERE flight_number LIKE ? AND departure_time > NOW()
+            ORDER BY flight_id
+            """;
+
+    private final String jdbcUrl;
+    private final String user;
+    private final String password;
+
+    FlightSeeder(String jdbcUrl, String user, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * Siembra count vuelos repartidos en las rutas, uno por hora desde mañana
+     *
+     * @return identificadores de los vuelos de carga disponibles
+     */
+    List<Long> seed(int count) throws SQLException {
+        LocalDateTime firstDeparture = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            try (Statement sync = connection.createStatement()) {
+                sync.execute(SYNC_SEQUENCE_SQL);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < count; i++) {
+                    String[] route = ROUTES[i % ROUTES.length];
+                    LocalDateTime departure = firstDeparture.plusHours(i / ROUTES.length);
+                    insert.setString(1, FLIGHT_PREFIX + (1000 + i));
+                    insert.setString(2, route[0]);
+                    insert.setString(3, route[1]);
+                    insert.setTimestamp(4, Timestamp.valueOf(departure));
+                    insert.setTimestamp(5, Timestamp.valueOf(departure.plusMinutes(75)));
+                    insert.setInt(6, SEATS_PER_FLIGHT);
+                    insert.setInt(7, SEATS_PER_FLIGHT);
+                    insert.setBigDecimal(8, BigDecimal.valueOf(250_000L + 10_000L * (i % 7)));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            List<Long> flightIds = new ArrayList<>();
+            try (PreparedStatement select = connection.prepareStatement(SELECT_SQL)) {
+                select.setString(1, FLIGHT_PREFIX + "%");
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        flightIds.add(rows.getLong(1));
+                    }
+                }
+            }
+            return flightIds;
+        }
+    }
+}
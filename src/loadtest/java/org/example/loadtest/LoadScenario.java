@@ -0,0 +1,110 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mezcla de operaciones leída de un archivo JSONL, una operación por línea
+ *
+ * Cada línea lleva name, operation, weight y los parámetros propios de la
+ * operación (origin, destination, passengers, ticketClass, username...).
+ * Las líneas vacías y las que empiezan por # se ignoran.
+ */
+final class LoadScenario {
+
+    enum Operation { LOGIN, SEARCH, SEAT_MAP, RESERVATIONS, BOOK, UPDATE, CANCEL }
+
+    record Step(String name, Operation operation, int weight, JsonNode params) {
+
+        String text(String field, String defaultValue) {
+            JsonNode value = params.get(field);
+            return value == null || value.isNull() ? defaultValue : value.asText();
+        }
+
+        int number(String field, int defaultValue) {
+            JsonNode value = params.get(field);
+            return value == null || value.isNull() ? defaultValue : value.asInt();
+        }
+    }
+
+    private final List<Step> steps;
+    private final int[] cumulativeWeights;
+
+    private LoadScenario(List<Step> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("El escenario no tiene operaciones");
+        }
+        this.steps = List.copyOf(steps);
+        this.cumulativeWeights = new int[steps.size()];
+        int total = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            total += steps.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    static LoadScenario load(String location, ObjectMapper objectMapper) throws IOException {
+        Path path = Path.of(location);
+        if (Files.exists(path)) {
+            try (InputStream input = Files.newInputStream(path)) {
+                return parse(input, objectMapper);
+            }
+        }
+        try (InputStream input = LoadScenario.class.getClassLoader().getResourceAsStream(location)) {
+            if (input == null) {
+                throw new IOException("No se encontró el escenario: " + location);
+            }
+            return parse(input, objectMapper);
+        }
+    }
+
+    private static LoadScenario parse(InputStream input, ObjectMapper objectMapper) throws IOException {
+        List<Step> steps = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(line);
+                Operation operation = Operation.valueOf(node.path("operation").asText().toUpperCase(Locale.ROOT));
+                String name = node.path("name").asText(operation.name().toLowerCase(Locale.ROOT));
+                int weight = node.path("weight").asInt(1);
+                if (weight <= 0) {
+                    throw new IllegalArgumentException("El peso de " + name + " debe ser positivo");
+                }
+                steps.add(new Step(name, operation, weight, node));
+            }
+        }
+        return new LoadScenario(steps);
+    }
+
+    List<Step> steps() {
+        return steps;
+    }
+
+    /**
+     * Operación elegida según los pesos para un valor uniforme en [0, 1)
+     */
+    Step pick(double uniform) {
+        int target = (int) (uniform * cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (target < cumulativeWeights[i]) {
+                return steps.get(i);
+            }
+        }
+        return steps.get(steps.size() - 1);
+    }
+}
@@ -0,0 +1,292 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.Main;
+import org.example.loadtest.LoadScenario.Step;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de modelo abierto contra la API
+ *
+ * Las llegadas siguen un ritmo fijo (constant) o un proceso de Poisson
+ * (poisson) y se disparan a su hora planificada sin esperar a que terminen
+ * las anteriores, como llegan los clientes reales. Si el servidor se atrasa
+ * las peticiones se acumulan y la latencia, medida desde la hora planificada,
+ * lo refleja.
+ *
+ * Opciones (--clave=valor):
+ * base-url, scenario, rate (peticiones/s), duration y warmup (ISO-8601 o
+ * segundos), arrival, max-in-flight, user-id, start-app, seed-flights,
+ * jdbc-url, db-user, db-password, output y max-p99 (p. ej. book=250,search=100,
+ * en milisegundos; si se supera el proceso termina con código 1).
+ */
+public final class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Map<String, String> options;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadTestRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new LoadTestRunner(parseOptions(args)).run());
+    }
+
+    private int run() throws Exception {
+        ConfigurableApplicationContext application = null;
+        if (Boolean.parseBoolean(option("start-app", "false"))) {
+            application = SpringApplication.run(Main.class);
+        }
+        try {
+            return runLoad();
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private int runLoad() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LoadScenario scenario = LoadScenario.load(option("scenario", "loadtest/scenario.jsonl"), objectMapper);
+        scenario.steps().forEach(step -> stats.putIfAbsent(step.name(), new EndpointStats(step.name())));
+
+        double rate = Double.parseDouble(option("rate", "50"));
+        Duration duration = duration(option("duration", "PT60S"));
+        Duration warmup = duration(option("warmup", "PT10S"));
+        boolean poisson = "poisson".equalsIgnoreCase(option("arrival", "poisson"));
+        int maxInFlight = Integer.parseInt(option("max-in-flight", "512"));
+        if (rate <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate y max-in-flight deben ser positivos");
+        }
+
+        List<Long> flightIds = seedFlights(Integer.parseInt(option("seed-flights", "60")));
+        if (flightIds.isEmpty()) {
+            throw new IllegalStateException("No hay vuelos de carga; use --seed-flights con un valor positivo");
+        }
+
+        AirlineClient client = new AirlineClient(
+                option("base-url", "http://localhost:8085"),
+                maxInFlight,
+                REQUEST_TIMEOUT,
+                Long.parseLong(option("user-id", "1")),
+                flightIds,
+                LocalDate.now().plusDays(1));
+        Integer loginStatus = client.login(option("username", "admin"), option("password", "password"))
+                .block(REQUEST_TIMEOUT);
+        if (loginStatus == null || loginStatus != 200) {
+            throw new IllegalStateException("No se pudo iniciar sesión, estado HTTP " + loginStatus);
+        }
+
+        System.out.printf(Locale.ROOT, "Carga %s a %.1f peticiones/s durante %s (calentamiento %s), %d vuelos%n",
+                poisson ? "poisson" : "constante", rate, duration, warmup, flightIds.size());
+
+        long sent = generate(scenario, client, rate, poisson, warmup, duration, maxInFlight);
+        drain();
+
+        System.out.println();
+        EndpointStats.printHeader(System.out);
+        stats.values().forEach(endpoint -> endpoint.printRow(System.out));
+
+        Path output = Path.of(option("output", "target/loadtest"));
+        writeResults(output, rate, poisson, duration, sent);
+        System.out.println("Resultados en " + output.toAbsolutePath());
+
+        return checkThresholds(option("max-p99", ""));
+    }
+
+    /**
+     * Dispara las llegadas a su hora planificada hasta completar la duración
+     *
+     * @return peticiones enviadas después del calentamiento
+     */
+    private long generate(LoadScenario scenario, AirlineClient client, double rate, boolean poisson,
+                          Duration warmup, Duration duration, int maxInFlight) {
+        SplittableRandom random = new SplittableRandom();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+        long sent = 0;
+
+        double intended = start;
+        while (intended < end) {
+            long intendedNanos = (long) intended;
+            parkUntil(intendedNanos);
+
+            boolean measured = intendedNanos >= measureFrom;
+            Step step = scenario.pick(random.nextDouble());
+            EndpointStats endpoint = measured ? stats.get(step.name()) : null;
+            if (inFlight.get() >= maxInFlight) {
+                // El cliente está saturado: la llegada se pierde y cuenta como fallo
+                if (endpoint != null) {
+                    endpoint.recordFailure(intendedNanos);
+                }
+            } else {
+                fire(client, step, endpoint, intendedNanos);
+            }
+            if (measured) {
+                sent++;
+            }
+
+            long now = System.nanoTime();
+            if (now >= nextProgress) {
+                System.out.printf(Locale.ROOT, "  %4ds  enviadas=%d  en curso=%d  atraso=%.1f ms%n",
+                        TimeUnit.NANOSECONDS.toSeconds(now - start), sent, inFlight.get(),
+                        (now - intendedNanos) / 1_000_000.0);
+                nextProgress += PROGRESS_INTERVAL_NANOS;
+            }
+
+            double gap = poisson ? -Math.log(1.0 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+            intended += gap;
+        }
+        return sent;
+    }
+
+    /**
+     * Envía la petición sin esperarla; endpoint es null durante el calentamiento
+     */
+    private void fire(AirlineClient client, Step step, EndpointStats endpoint, long intendedNanos) {
+        inFlight.incrementAndGet();
+        client.execute(step)
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe(status -> {
+                    if (endpoint == null) {
+                        return;
+                    }
+                    if (status == AirlineClient.SKIPPED) {
+                        endpoint.recordSkipped();
+                    } else {
+                        endpoint.record(intendedNanos, status);
+                    }
+                }, error -> {
+                    if (endpoint != null) {
+                        endpoint.recordFailure(intendedNanos);
+                    }
+                });
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            System.out.println("Quedaron " + inFlight.get() + " peticiones sin respuesta");
+        }
+    }
+
+    private List<Long> seedFlights(int count) throws Exception {
+        if (count <= 0) {
+            return List.of();
+        }
+        String jdbcUrl = option("jdbc-url", String.format("jdbc:postgresql://%s:%s/%s",
+                env("DB_HOST", "localhost"), env("DB_PORT", "5432"), env("DB_NAME", "airline_db")));
+        FlightSeeder seeder = new FlightSeeder(
+                jdbcUrl,
+                option("db-user", env("DB_USER", "postgres")),
+                option("db-password", env("DB_PASSWORD", "admin")));
+        return seeder.seed(count);
+    }
+
+    private void writeResults(Path output, double rate, boolean poisson, Duration duration, long sent)
+            throws Exception {
+        Files.createDirectories(output);
+        StringBuilder json = new StringBuilder();
+        json.append("{\n")
+                .append("  \"rate\": ").append(rate).append(",\n")
+                .append("  \"arrival\": \"").append(poisson ? "poisson" : "constant").append("\",\n")
+                .append("  \"durationSeconds\": ").append(duration.toSeconds()).append(",\n")
+                .append("  \"sent\": ").append(sent).append(",\n")
+                .append("  \"operations\": {\n");
+        int index = 0;
+        for (EndpointStats endpoint : stats.values()) {
+            endpoint.writeSummary(json);
+            json.append(++index < stats.size() ? ",\n" : "\n");
+            endpoint.writeDistribution(output);
+        }
+        json.append("  }\n}\n");
+        Files.writeString(output.resolve("summary.json"), json);
+    }
+
+    /**
+     * Compara el p99 de cada operación con su límite; devuelve el código de salida
+     */
+    private int checkThresholds(String thresholds) {
+        int exitCode = 0;
+        for (String threshold : thresholds.split(",")) {
+            if (threshold.isBlank()) {
+                continue;
+            }
+            String[] parts = threshold.split("=", 2);
+            EndpointStats endpoint = stats.get(parts[0].strip());
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Operación desconocida en max-p99: " + parts[0]);
+            }
+            double limit = Double.parseDouble(parts[1].strip());
+            double p99 = endpoint.p99Millis();
+            if (p99 > limit) {
+                System.out.printf(Locale.ROOT, "REGRESIÓN: p99 de %s es %.2f ms, límite %.2f ms%n",
+                        endpoint.name(), p99, limit);
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static Duration duration(String value) {
+        return value.startsWith("P") || value.startsWith("p")
+                ? Duration.parse(value)
+                : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Opción inválida: " + arg);
+            }
+            String[] parts = arg.substring(2).split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+}
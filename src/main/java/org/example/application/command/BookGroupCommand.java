@@ -0,0 +1,47 @@
+package org.example.application.command;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public record BookGroupCommand(
+    Long userId,
+    Long flightId,
+    String ticketClass,
+    List<Passenger> passengers
+) {
+    public static final int MAX_PASSENGERS = 9;
+
+    public record Passenger(String passengerName, String seatNumber) {
+        public Passenger {
+            if (passengerName == null || passengerName.isBlank()) {
+                throw new IllegalArgumentException("Passenger name cannot be empty");
+            }
+            if (seatNumber == null || seatNumber.isBlank()) {
+                throw new IllegalArgumentException("Seat number cannot be empty");
+            }
+        }
+    }
+
+    public BookGroupCommand {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("User ID must be positive");
+        }
+        if (flightId == null || flightId <= 0) {
+            throw new IllegalArgumentException("Flight ID must be positive");
+        }
+        if (ticketClass == null || ticketClass.isBlank()) {
+            throw new IllegalArgumentException("Ticket class cannot be empty");
+        }
+        if (passengers == null || passengers.isEmpty() || passengers.size() > MAX_PASSENGERS) {
+            throw new IllegalArgumentException("A group must have between 1 and " + MAX_PASSENGERS + " passengers");
+        }
+        Set<String> seats = new HashSet<>();
+        for (Passenger passenger : passengers) {
+            if (!seats.add(passenger.seatNumber())) {
+                throw new IllegalArgumentException("Seat " + passenger.seatNumber() + " is repeated in the group");
+            }
+        }
+        passengers = List.copyOf(passengers);
+    }
+}
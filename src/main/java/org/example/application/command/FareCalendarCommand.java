@@ -0,0 +1,38 @@
+package org.example.application.command;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Consulta del calendario de tarifas de una ruta entre dos fechas (ambas incluidas)
+ */
+public record FareCalendarCommand(
+    String origin,
+    String destination,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer passengers
+) {
+    public static final int MAX_DAYS = 90;
+
+    public FareCalendarCommand {
+        if (origin == null || origin.isBlank()) {
+            throw new IllegalArgumentException("Origin cannot be empty");
+        }
+        if (destination == null || destination.isBlank()) {
+            throw new IllegalArgumentException("Destination cannot be empty");
+        }
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_DAYS + " days");
+        }
+        if (passengers != null && passengers < 1) {
+            throw new IllegalArgumentException("Passengers must be at least 1");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.application.command;
 
+import org.example.domain.model.enums.FlightSortOrder;
+
 import java.time.LocalDateTime;
 
 
@@ -7,7 +9,9 @@ public record SearchFlightsCommand(
     String origin,
     String destination,
     LocalDateTime departureDate,
-    Integer passengers
+    Integer passengers,
+    FlightSortOrder sortOrder,
+    Integer limit
 ) {
     public SearchFlightsCommand {
         if (origin == null || origin.isBlank()) {
@@ -17,5 +21,9 @@ public record SearchFlightsCommand(
             throw new IllegalArgumentException("Destination cannot be empty");
         }
     }
+
+    public SearchFlightsCommand(String origin, String destination, LocalDateTime departureDate, Integer passengers) {
+        this(origin, destination, departureDate, passengers, FlightSortOrder.DEPARTURE_TIME, null);
+    }
 }
 
@@ -0,0 +1,11 @@
+package org.example.application.port.in;
+
+import org.example.domain.model.Airport;
+import reactor.core.publisher.Flux;
+
+/**
+ * Puerto de entrada para sugerir aeropuertos a partir de un prefijo
+ */
+public interface AutocompleteAirportsUseCase {
+    Flux<Airport> execute(String prefix, int limit);
+}
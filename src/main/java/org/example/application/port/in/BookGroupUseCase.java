@@ -0,0 +1,14 @@
+package org.example.application.port.in;
+
+import org.example.application.command.BookGroupCommand;
+import org.example.domain.model.Reservation;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para reservar varios pasajeros del mismo vuelo en una sola operación
+ */
+public interface BookGroupUseCase {
+    Mono<List<Reservation>> execute(BookGroupCommand command);
+}
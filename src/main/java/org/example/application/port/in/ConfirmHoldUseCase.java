@@ -0,0 +1,12 @@
+package org.example.application.port.in;
+
+import org.example.domain.model.Reservation;
+import org.example.domain.valueobject.ReservationId;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de entrada para confirmar una retención de asiento vigente
+ */
+public interface ConfirmHoldUseCase {
+    Mono<Reservation> execute(ReservationId reservationId);
+}
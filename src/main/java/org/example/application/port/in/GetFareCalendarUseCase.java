@@ -0,0 +1,12 @@
+package org.example.application.port.in;
+
+import org.example.application.command.FareCalendarCommand;
+import org.example.domain.model.FareCalendarDay;
+import reactor.core.publisher.Flux;
+
+/**
+ * Puerto de entrada para consultar el precio más bajo por día de una ruta
+ */
+public interface GetFareCalendarUseCase {
+    Flux<FareCalendarDay> execute(FareCalendarCommand command);
+}
@@ -0,0 +1,12 @@
+package org.example.application.port.in;
+
+import org.example.domain.model.SeatMap;
+import org.example.domain.valueobject.FlightId;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de entrada para consultar el mapa de asientos de un vuelo
+ */
+public interface GetSeatMapUseCase {
+    Mono<SeatMap> execute(FlightId flightId);
+}
@@ -9,5 +9,10 @@ import reactor.core.publisher.Flux;
  */
 public interface GetUserReservationsUseCase {
     Flux<Reservation> execute(UserId userId);
+
+    /**
+     * Página de reservaciones posteriores al cursor (ID de la última reservación vista)
+     */
+    Flux<Reservation> execute(UserId userId, Long cursor, int limit);
 }
 
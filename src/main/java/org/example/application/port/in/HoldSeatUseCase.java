@@ -0,0 +1,13 @@
+package org.example.application.port.in;
+
+import org.example.application.command.BookTicketCommand;
+import org.example.domain.model.Reservation;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de entrada para retener un asiento durante el pago; la reservación
+ * queda PENDING y se libera sola si no se confirma a tiempo
+ */
+public interface HoldSeatUseCase {
+    Mono<Reservation> execute(BookTicketCommand command);
+}
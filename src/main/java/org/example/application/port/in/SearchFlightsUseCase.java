@@ -2,6 +2,7 @@ package org.example.application.port.in;
 
 import org.example.application.command.SearchFlightsCommand;
 import org.example.domain.model.Flight;
+import org.example.domain.model.Itinerary;
 import reactor.core.publisher.Flux;
 
 /**
@@ -9,5 +10,10 @@ import reactor.core.publisher.Flux;
  */
 public interface SearchFlightsUseCase {
     Flux<Flight> execute(SearchFlightsCommand command);
+
+    /**
+     * Itinerarios directos y con hasta maxStops escalas para la misma ruta y fecha
+     */
+    Flux<Itinerary> searchConnections(SearchFlightsCommand command, int maxStops);
 }
 
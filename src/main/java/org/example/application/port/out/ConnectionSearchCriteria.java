@@ -0,0 +1,38 @@
+package org.example.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de búsqueda de itinerarios con escalas
+ *
+ * @param departureFrom inicio de la ventana de salida del primer tramo (incluido)
+ * @param departureTo   fin de la ventana de salida del primer tramo (excluido)
+ * @param passengers    asientos disponibles mínimos en cada tramo
+ * @param maxStops      escalas permitidas
+ */
+public record ConnectionSearchCriteria(
+    String origin,
+    String destination,
+    LocalDateTime departureFrom,
+    LocalDateTime departureTo,
+    int passengers,
+    int maxStops
+) {
+    public ConnectionSearchCriteria {
+        if (origin == null || origin.isBlank()) {
+            throw new IllegalArgumentException("Origin cannot be empty");
+        }
+        if (destination == null || destination.isBlank()) {
+            throw new IllegalArgumentException("Destination cannot be empty");
+        }
+        if (departureFrom == null || departureTo == null || !departureFrom.isBefore(departureTo)) {
+            throw new IllegalArgumentException("Departure window is not valid");
+        }
+        if (passengers < 1) {
+            throw new IllegalArgumentException("Passengers must be at least 1");
+        }
+        if (maxStops < 0) {
+            throw new IllegalArgumentException("Stops cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.application.port.out;
+
+import org.example.domain.valueobject.Price;
+
+import java.time.LocalDate;
+
+/**
+ * Precio base más bajo de un día con vuelos en la ruta consultada
+ *
+ * @param flights vuelos de ese día que cumplen los criterios
+ */
+public record DailyLowestFare(LocalDate date, Price lowestPrice, int flights) {
+}
@@ -0,0 +1,38 @@
+package org.example.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios del calendario de tarifas que se agregan en la base de datos
+ *
+ * @param departureFrom  inicio del rango de salida (incluido)
+ * @param departureTo    fin del rango de salida (excluido)
+ * @param passengers     asientos disponibles mínimos
+ * @param departureAfter solo vuelos que salen después de este instante
+ */
+public record FareCalendarCriteria(
+    String origin,
+    String destination,
+    LocalDateTime departureFrom,
+    LocalDateTime departureTo,
+    int passengers,
+    LocalDateTime departureAfter
+) {
+    public FareCalendarCriteria {
+        if (origin == null || origin.isBlank()) {
+            throw new IllegalArgumentException("Origin cannot be empty");
+        }
+        if (destination == null || destination.isBlank()) {
+            throw new IllegalArgumentException("Destination cannot be empty");
+        }
+        if (departureFrom == null || departureTo == null || !departureFrom.isBefore(departureTo)) {
+            throw new IllegalArgumentException("Departure range is not valid");
+        }
+        if (passengers < 1) {
+            throw new IllegalArgumentException("Passengers must be at least 1");
+        }
+        if (departureAfter == null) {
+            throw new IllegalArgumentException("Departure cutoff cannot be null");
+        }
+    }
+}
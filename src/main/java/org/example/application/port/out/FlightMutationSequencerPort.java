@@ -0,0 +1,19 @@
+package org.example.application.port.out;
+
+import org.example.domain.valueobject.FlightId;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida para ejecutar de a una las mutaciones de un mismo vuelo
+ * (reservar, cancelar, cambiar de asiento, vencer retenciones); vuelos distintos
+ * avanzan en paralelo
+ */
+public interface FlightMutationSequencerPort {
+
+    /**
+     * Suscribe mutation cuando termine la mutación anterior del vuelo y
+     * retorna su resultado. Una vez iniciada, la mutación termina aunque
+     * quien la pidió cancele; si cancela antes de que empiece, no se ejecuta.
+     */
+    <T> Mono<T> serialize(FlightId flightId, Mono<T> mutation);
+}
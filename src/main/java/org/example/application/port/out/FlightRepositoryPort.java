@@ -6,16 +6,46 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Puerto de salida para operaciones de persistencia de Flight
  */
 public interface FlightRepositoryPort {
     Mono<Flight> findById(FlightId flightId);
+    Flux<Flight> findAllById(Collection<FlightId> flightIds);
     Mono<Flight> save(Flight flight);
     Mono<Flight> update(Flight flight);
     Mono<Void> deleteById(FlightId flightId);
     Flux<Flight> findAll();
-    Flux<Flight> searchFlights(String origin, String destination, LocalDateTime departureDate);
+
+    /**
+     * Vuelos activos que salen después de departureAfter, filtrados en la base de datos
+     */
+    Flux<Flight> findActiveDepartingAfter(LocalDateTime departureAfter);
+
+    /**
+     * Busca vuelos reservables de la ruta aplicando en la base de datos
+     * los asientos mínimos, el corte de salida, el orden y el límite
+     */
+    Flux<Flight> searchFlights(FlightSearchCriteria criteria);
+
+    /**
+     * Precio base más bajo por día de la ruta en una sola consulta agregada;
+     * los días sin vuelos no aparecen
+     */
+    Flux<DailyLowestFare> findLowestFaresByDay(FareCalendarCriteria criteria);
+
+    /**
+     * Descuenta asientos en una sola sentencia condicional.
+     * Retorna vacío si el vuelo no tiene suficientes asientos disponibles.
+     */
+    Mono<Flight> reserveSeats(FlightId flightId, int quantity);
+
+    /**
+     * Devuelve asientos en una sola sentencia condicional.
+     * Retorna vacío si se superaría la capacidad total del vuelo.
+     */
+    Mono<Flight> releaseSeats(FlightId flightId, int quantity);
 }
 
@@ -0,0 +1,44 @@
+package org.example.application.port.out;
+
+import org.example.domain.model.enums.FlightSortOrder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de búsqueda de vuelos que se resuelven en la base de datos
+ *
+ * @param departureDate  día de salida; null busca en cualquier fecha
+ * @param passengers     asientos disponibles mínimos
+ * @param departureAfter solo vuelos que salen después de este instante
+ * @param limit          máximo de resultados; null sin límite
+ */
+public record FlightSearchCriteria(
+    String origin,
+    String destination,
+    LocalDateTime departureDate,
+    int passengers,
+    LocalDateTime departureAfter,
+    FlightSortOrder sortOrder,
+    Integer limit
+) {
+    public FlightSearchCriteria {
+        if (origin == null || origin.isBlank()) {
+            throw new IllegalArgumentException("Origin cannot be empty");
+        }
+        if (destination == null || destination.isBlank()) {
+            throw new IllegalArgumentException("Destination cannot be empty");
+        }
+        if (passengers < 1) {
+            throw new IllegalArgumentException("Passengers must be at least 1");
+        }
+        if (departureAfter == null) {
+            throw new IllegalArgumentException("Departure cutoff cannot be null");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (sortOrder == null) {
+            sortOrder = FlightSortOrder.DEPARTURE_TIME;
+        }
+    }
+}
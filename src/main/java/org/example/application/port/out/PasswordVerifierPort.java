@@ -0,0 +1,15 @@
+package org.example.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida para comparar contraseñas con su hash
+ */
+public interface PasswordVerifierPort {
+
+    /**
+     * true si la contraseña corresponde al hash; falla con
+     * TooManyRequestsException si no hay capacidad para verificarla ahora
+     */
+    Mono<Boolean> matches(String rawPassword, String passwordHash);
+}
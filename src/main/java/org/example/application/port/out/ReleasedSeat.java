@@ -0,0 +1,10 @@
+package org.example.application.port.out;
+
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.SeatNumber;
+
+/**
+ * Asiento devuelto al vuelo al vencer una retención
+ */
+public record ReleasedSeat(FlightId flightId, SeatNumber seatNumber) {
+}
@@ -1,11 +1,15 @@
 package org.example.application.port.out;
 
 import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
 import org.example.domain.valueobject.ReservationId;
 import org.example.domain.valueobject.UserId;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Puerto de salida para operaciones de persistencia de Reservation
  */
@@ -15,6 +19,48 @@ public interface ReservationRepositoryPort {
     Mono<Reservation> update(Reservation reservation);
     Mono<Void> deleteById(ReservationId reservationId);
     Flux<Reservation> findByUserId(UserId userId);
+
+    /**
+     * Página de reservaciones del usuario ordenada por ID (keyset):
+     * retorna hasta limit filas con ID mayor a afterReservationId
+     */
+    Flux<Reservation> findByUserIdAfter(UserId userId, long afterReservationId, int limit);
     Flux<Reservation> findAll();
-}
 
+    /**
+     * Persiste una reserva completa en un único viaje a la base de datos:
+     * descuenta el asiento del vuelo, inserta el ticket e inserta la reservación.
+     * El ticketId de la reservación se toma del ticket insertado.
+     * Retorna vacío si el vuelo no tiene asientos disponibles.
+     */
+    Mono<Reservation> saveBooking(Ticket ticket, Reservation reservation);
+
+    /**
+     * Persiste la reserva de un grupo en un único viaje a la base de datos:
+     * descuenta todos los asientos, inserta un ticket por pasajero y una
+     * reservación por ticket, copiando estado y fechas de reservation.
+     * Retorna las reservaciones en el orden de los tickets, o vacío si el
+     * vuelo no tiene asientos para todo el grupo.
+     */
+    Flux<Reservation> saveGroupBooking(List<Ticket> tickets, Reservation reservation);
+
+    /**
+     * Confirma una retención que no ha vencido en now: pasa a CONFIRMED y
+     * deja de tener vencimiento. Retorna vacío si no existe, ya no está
+     * pendiente o ya venció.
+     */
+    Mono<Reservation> confirmHold(ReservationId reservationId, LocalDateTime now);
+
+    /**
+     * Vence en una sola sentencia las retenciones indicadas que sigan
+     * pendientes y cuyo plazo se cumplió en now: la reservación pasa a EXPIRED,
+     * su ticket a CANCELLED y cada vuelo recupera sus asientos.
+     * Retorna los asientos liberados; omite las ya confirmadas o canceladas.
+     */
+    Flux<ReleasedSeat> releaseExpiredHolds(List<ReservationId> reservationIds, LocalDateTime now);
+
+    /**
+     * Retenciones pendientes, para reprogramar su vencimiento al arrancar
+     */
+    Flux<Reservation> findPendingHolds();
+}
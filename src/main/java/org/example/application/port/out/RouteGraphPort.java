@@ -0,0 +1,15 @@
+package org.example.application.port.out;
+
+import org.example.domain.model.Itinerary;
+import reactor.core.publisher.Flux;
+
+/**
+ * Puerto de salida para buscar itinerarios sobre el grafo de rutas
+ */
+public interface RouteGraphPort {
+
+    /**
+     * Itinerarios no dominados ordenados por hora de salida
+     */
+    Flux<Itinerary> findItineraries(ConnectionSearchCriteria criteria);
+}
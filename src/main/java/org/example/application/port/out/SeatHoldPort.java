@@ -0,0 +1,31 @@
+package org.example.application.port.out;
+
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.ReservationId;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de salida para el vencimiento de las retenciones de asiento
+ * (reservaciones PENDING que se liberan si no se confirman a tiempo)
+ */
+public interface SeatHoldPort {
+
+    /**
+     * Tiempo que dura una retención desde que se crea
+     */
+    Duration holdDuration();
+
+    /**
+     * Programa la liberación de la retención cuando llegue expiresAt; la
+     * liberación corre en el turno del vuelo, como las demás mutaciones
+     */
+    Mono<Void> schedule(ReservationId reservationId, FlightId flightId, LocalDateTime expiresAt);
+
+    /**
+     * Anula la liberación programada (la retención se confirmó)
+     */
+    Mono<Void> cancel(ReservationId reservationId);
+}
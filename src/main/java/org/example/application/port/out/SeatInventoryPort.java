@@ -0,0 +1,25 @@
+package org.example.application.port.out;
+
+import org.example.domain.model.SeatMap;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.SeatNumber;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para la ocupación de asientos por vuelo
+ * (consultas sin ir a la base de datos una vez cargado el vuelo)
+ */
+public interface SeatInventoryPort {
+    Mono<Boolean> isSeatTaken(FlightId flightId, SeatNumber seatNumber);
+    Mono<List<SeatNumber>> findFreeSeats(FlightId flightId, int quantity);
+    Mono<Void> occupy(FlightId flightId, SeatNumber seatNumber);
+    Mono<Void> release(FlightId flightId, SeatNumber seatNumber);
+    Mono<Void> move(FlightId flightId, SeatNumber from, SeatNumber to);
+
+    /**
+     * Mapa de ocupación del vuelo; vacío si el vuelo no existe
+     */
+    Mono<SeatMap> getSeatMap(FlightId flightId);
+}
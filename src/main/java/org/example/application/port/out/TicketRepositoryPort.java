@@ -8,13 +8,21 @@ import org.example.domain.valueobject.UserId;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Puerto de salida para operaciones de persistencia de Ticket
  */
 public interface TicketRepositoryPort {
     Mono<Ticket> findById(TicketId ticketId);
+    Flux<Ticket> findAllById(Collection<TicketId> ticketIds);
     Mono<Ticket> save(Ticket ticket);
     Mono<Ticket> update(Ticket ticket);
+
+    /**
+     * Cancela el ticket solo si sigue activo; vacío si ya estaba cancelado
+     */
+    Mono<Ticket> cancel(TicketId ticketId);
     Mono<Void> deleteById(TicketId ticketId);
     Flux<Ticket> findByUserId(UserId userId);
     Flux<Ticket> findByFlightId(FlightId flightId);
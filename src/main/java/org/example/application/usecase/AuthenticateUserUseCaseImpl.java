@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.command.AuthenticateUserCommand;
 import org.example.application.port.in.AuthenticateUserUseCase;
+import org.example.application.port.out.PasswordVerifierPort;
 import org.example.application.port.out.UserRepositoryPort;
 import org.example.domain.exception.AuthenticationException;
-import org.example.domain.model.User;
 import org.example.domain.valueobject.Username;
 import org.example.infrastructure.config.JwtService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -23,7 +22,7 @@ public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
 
     private final UserRepositoryPort userRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifierPort passwordVerifier;
 
     @Override
     public Mono<AuthenticationResult> execute(AuthenticateUserCommand command) {
@@ -33,7 +32,7 @@ public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
                 .switchIfEmpty(Mono.error(
                     new AuthenticationException("Credenciales inválidas")
                 ))
-                .filter(user -> validatePassword(user, command.password()))
+                .filterWhen(user -> passwordVerifier.matches(command.password(), user.getPasswordHash()))
                 .switchIfEmpty(Mono.error(
                     new AuthenticationException("Credenciales inválidas")
                 ))
@@ -47,9 +46,5 @@ public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
                     );
                 });
     }
-
-    private boolean validatePassword(User user, String rawPassword) {
-        return passwordEncoder.matches(rawPassword, user.getPasswordHash());
-    }
 }
 
@@ -0,0 +1,56 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.in.AutocompleteAirportsUseCase;
+import org.example.domain.model.Airport;
+import org.example.domain.valueobject.Location;
+import org.example.shared.util.AirportCatalog;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Implementación del caso de uso de autocompletado de aeropuertos
+ *
+ * El recorrido del trie no crea objetos; solo se crean los aeropuertos sugeridos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteAirportsUseCaseImpl implements AutocompleteAirportsUseCase {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final AirportCatalog airportCatalog;
+
+    @Override
+    public Flux<Airport> execute(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            return Flux.error(new IllegalArgumentException(
+                    "Limit must be between 1 and " + MAX_SUGGESTIONS));
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return Flux.empty();
+        }
+
+        return Flux.defer(() -> {
+            int[] matches = new int[limit];
+            int count = airportCatalog.autocomplete(prefix, matches);
+            log.debug("Autocompletado de aeropuertos para '{}': {} sugerencia(s)", prefix, count);
+
+            Airport[] airports = new Airport[count];
+            for (int i = 0; i < count; i++) {
+                airports[i] = toAirport(matches[i]);
+            }
+            return Flux.fromArray(airports);
+        });
+    }
+
+    private Airport toAirport(int airport) {
+        return Airport.builder()
+                .code(new Location(airportCatalog.getCode(airport)))
+                .city(airportCatalog.getCity(airport))
+                .country(airportCatalog.getCountry(airport))
+                .build();
+    }
+}
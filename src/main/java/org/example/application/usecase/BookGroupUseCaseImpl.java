@@ -0,0 +1,133 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.command.BookGroupCommand;
+import org.example.application.port.in.BookGroupUseCase;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.exception.NoSeatsAvailableException;
+import org.example.domain.exception.SeatAlreadyTakenException;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.service.ReservationDomainService;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.Price;
+import org.example.domain.valueobject.SeatNumber;
+import org.example.domain.valueobject.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso para reservar un grupo de pasajeros
+ *
+ * Todo el grupo se reserva o ninguno: los asientos se descuentan y los
+ * tickets y reservaciones se insertan en una sola sentencia dentro de una
+ * transacción.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookGroupUseCaseImpl implements BookGroupUseCase {
+
+    private final FlightRepositoryPort flightRepository;
+    private final ReservationRepositoryPort reservationRepository;
+    private final ReservationDomainService reservationDomainService;
+    private final PriceCalculationService priceCalculationService;
+    private final TransactionalOperator transactionalOperator;
+    private final SeatInventoryPort seatInventory;
+    private final TicketRepositoryPort ticketRepository;
+    private final FlightMutationSequencerPort flightSequencer;
+
+    @Override
+    public Mono<List<Reservation>> execute(BookGroupCommand command) {
+        int groupSize = command.passengers().size();
+        log.info("Procesando reserva de grupo de {} pasajeros para vuelo ID: {} y usuario ID: {}",
+                groupSize, command.flightId(), command.userId());
+
+        FlightId flightId = new FlightId(command.flightId());
+        UserId userId = new UserId(command.userId());
+        List<SeatNumber> seatNumbers = command.passengers().stream()
+                .map(passenger -> new SeatNumber(passenger.seatNumber()))
+                .toList();
+
+        return flightSequencer.serialize(flightId, flightRepository.findById(flightId)
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(command.flightId())))
+                .flatMap(flight -> validateSeatsAvailability(flightId, seatNumbers)
+                        .then(Mono.just(flight)))
+                .flatMap(flight -> {
+                    reservationDomainService.validateReservation(flight, groupSize);
+
+                    // El descuento de grupo es porcentual: aplicarlo al precio unitario
+                    // equivale a aplicarlo al total
+                    TicketClass ticketClass = TicketClass.valueOf(command.ticketClass());
+                    Price unitPrice = priceCalculationService.applyGroupDiscount(
+                            priceCalculationService.calculatePrice(flight.getPrice(), ticketClass), groupSize);
+
+                    List<Ticket> tickets = command.passengers().stream()
+                            .map(passenger -> Ticket.create(
+                                    userId,
+                                    flightId,
+                                    passenger.passengerName(),
+                                    new SeatNumber(passenger.seatNumber()),
+                                    unitPrice,
+                                    ticketClass))
+                            .toList();
+
+                    return reservationRepository.saveGroupBooking(tickets, Reservation.create(userId, flightId, null))
+                            .collectList()
+                            .as(transactionalOperator::transactional)
+                            .filter(reservations -> !reservations.isEmpty())
+                            .switchIfEmpty(Mono.error(new NoSeatsAvailableException(
+                                    "No hay suficientes asientos disponibles en el vuelo " +
+                                    flight.getFlightNumber().value()
+                            )))
+                            .flatMap(reservations -> Flux.fromIterable(seatNumbers)
+                                    .concatMap(seatNumber -> seatInventory.occupy(flightId, seatNumber))
+                                    .then(Mono.just(reservations)))
+                            // Si la base de datos rechazó un asiento, el inventario estaba desactualizado
+                            .onErrorResume(SeatAlreadyTakenException.class, error ->
+                                    resyncTakenSeats(flightId, seatNumbers).then(Mono.error(error)));
+                }))
+                .doOnSuccess(reservations ->
+                        log.info("Reserva de grupo creada con {} reservaciones", reservations.size())
+                )
+                .doOnError(error ->
+                        log.error("Error al crear reserva de grupo: {}", error.getMessage())
+                );
+    }
+
+    /**
+     * No se sabe cuál asiento chocó con el índice único: se consulta cada uno
+     * en la base de datos y se marcan en el inventario los que estén ocupados
+     */
+    private Mono<Void> resyncTakenSeats(FlightId flightId, List<SeatNumber> seatNumbers) {
+        return Flux.fromIterable(seatNumbers)
+                .concatMap(seatNumber -> ticketRepository.isSeatTaken(flightId, seatNumber)
+                        .filter(Boolean::booleanValue)
+                        .flatMap(isTaken -> seatInventory.occupy(flightId, seatNumber)))
+                .then();
+    }
+
+    /**
+     * Falla con el primer asiento del grupo que ya esté ocupado
+     */
+    private Mono<Void> validateSeatsAvailability(FlightId flightId, List<SeatNumber> seatNumbers) {
+        return Flux.fromIterable(seatNumbers)
+                .concatMap(seatNumber -> seatInventory.isSeatTaken(flightId, seatNumber)
+                        .filter(Boolean::booleanValue)
+                        .map(isTaken -> seatNumber))
+                .next()
+                .flatMap(seatNumber -> Mono.error(new SeatAlreadyTakenException(seatNumber.value())));
+    }
+}
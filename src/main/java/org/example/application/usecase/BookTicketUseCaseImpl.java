@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.command.BookTicketCommand;
 import org.example.application.port.in.BookTicketUseCase;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.FlightRepositoryPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
 import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.exception.NoSeatsAvailableException;
 import org.example.domain.exception.SeatAlreadyTakenException;
 import org.example.domain.model.Flight;
 import org.example.domain.model.Reservation;
@@ -20,6 +23,7 @@ import org.example.domain.valueobject.Price;
 import org.example.domain.valueobject.SeatNumber;
 import org.example.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 /**
@@ -35,6 +39,9 @@ public class BookTicketUseCaseImpl implements BookTicketUseCase {
     private final ReservationRepositoryPort reservationRepository;
     private final ReservationDomainService reservationDomainService;
     private final PriceCalculationService priceCalculationService;
+    private final TransactionalOperator transactionalOperator;
+    private final SeatInventoryPort seatInventory;
+    private final FlightMutationSequencerPort flightSequencer;
 
     @Override
     public Mono<Reservation> execute(BookTicketCommand command) {
@@ -44,6 +51,18 @@ public class BookTicketUseCaseImpl implements BookTicketUseCase {
         FlightId flightId = new FlightId(command.flightId());
         SeatNumber seatNumber = new SeatNumber(command.seatNumber());
 
+        // Validación y escritura van en el turno del vuelo: otra mutación del
+        // mismo vuelo no puede colarse entre la consulta del asiento y la reserva
+        return flightSequencer.serialize(flightId, book(command, flightId, seatNumber))
+                .doOnSuccess(reservation ->
+                    log.info("Reserva creada exitosamente con ID: {}", reservation.getId().value())
+                )
+                .doOnError(error ->
+                    log.error("Error al crear reserva: {}", error.getMessage())
+                );
+    }
+
+    private Mono<Reservation> book(BookTicketCommand command, FlightId flightId, SeatNumber seatNumber) {
         return flightRepository.findById(flightId)
                 .switchIfEmpty(Mono.error(new FlightNotFoundException(command.flightId())))
                 .flatMap(flight -> validateSeatAvailability(flight, flightId, seatNumber)
@@ -52,9 +71,6 @@ public class BookTicketUseCaseImpl implements BookTicketUseCase {
                     // Validar con el servicio de dominio
                     reservationDomainService.validateReservation(flight, 1);
 
-                    // Reservar asiento
-                    flight.reserveSeats(1);
-
                     // Calcular precio según clase
                     TicketClass ticketClass = TicketClass.valueOf(command.ticketClass());
                     Price finalPrice = priceCalculationService.calculatePrice(flight.getPrice(), ticketClass);
@@ -69,32 +85,31 @@ public class BookTicketUseCaseImpl implements BookTicketUseCase {
                         ticketClass
                     );
 
-                    return ticketRepository.save(ticket)
-                        .flatMap(savedTicket -> {
-                            // Crear reservación
-                            Reservation reservation = Reservation.create(
-                                new UserId(command.userId()),
-                                flightId,
-                                savedTicket.getId()
-                            );
+                    // Crear reservación (el ticketId lo asigna la inserción del ticket)
+                    Reservation reservation = Reservation.create(
+                        new UserId(command.userId()),
+                        flightId,
+                        null
+                    );
 
-                            return reservationRepository.save(reservation)
-                                .flatMap(savedReservation ->
-                                    flightRepository.update(flight)
-                                        .thenReturn(savedReservation)
-                                );
-                        });
-                })
-                .doOnSuccess(reservation ->
-                    log.info("Reserva creada exitosamente con ID: {}", reservation.getId().value())
-                )
-                .doOnError(error ->
-                    log.error("Error al crear reserva: {}", error.getMessage())
-                );
+                    // Descontar asiento, insertar ticket e insertar reservación
+                    // en una sola sentencia y dentro de una transacción
+                    return reservationRepository.saveBooking(ticket, reservation)
+                        .as(transactionalOperator::transactional)
+                        .switchIfEmpty(Mono.error(new NoSeatsAvailableException(
+                            "No hay suficientes asientos disponibles en el vuelo " +
+                            flight.getFlightNumber().value()
+                        )))
+                        .flatMap(savedReservation -> seatInventory.occupy(flightId, seatNumber)
+                            .thenReturn(savedReservation))
+                        // Si la base de datos rechazó el asiento, el inventario estaba desactualizado
+                        .onErrorResume(SeatAlreadyTakenException.class, error ->
+                            seatInventory.occupy(flightId, seatNumber).then(Mono.error(error)));
+                });
     }
 
     private Mono<Void> validateSeatAvailability(Flight flight, FlightId flightId, SeatNumber seatNumber) {
-        return ticketRepository.isSeatTaken(flightId, seatNumber)
+        return seatInventory.isSeatTaken(flightId, seatNumber)
                 .flatMap(isTaken -> {
                     if (isTaken) {
                         return Mono.error(new SeatAlreadyTakenException(seatNumber.value()));
@@ -4,13 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.command.CancelReservationCommand;
 import org.example.application.port.in.CancelReservationUseCase;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.FlightRepositoryPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.HoldExpiredException;
+import org.example.domain.exception.InvalidBookingException;
 import org.example.domain.exception.ReservationNotFoundException;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
 import org.example.domain.service.ReservationDomainService;
 import org.example.domain.valueobject.ReservationId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 /**
@@ -25,6 +32,9 @@ public class CancelReservationUseCaseImpl implements CancelReservationUseCase {
     private final TicketRepositoryPort ticketRepository;
     private final FlightRepositoryPort flightRepository;
     private final ReservationDomainService reservationDomainService;
+    private final SeatInventoryPort seatInventory;
+    private final FlightMutationSequencerPort flightSequencer;
+    private final TransactionalOperator transactionalOperator;
 
     @Override
     public Mono<Void> execute(CancelReservationCommand command) {
@@ -32,31 +42,17 @@ public class CancelReservationUseCaseImpl implements CancelReservationUseCase {
 
         ReservationId reservationId = new ReservationId(command.reservationId());
 
-        return reservationRepository.findById(reservationId)
+        // defer: cada suscripción es una lectura nueva del repositorio
+        Mono<Reservation> current = Mono.defer(() -> reservationRepository.findById(reservationId))
                 .switchIfEmpty(Mono.error(
                     new ReservationNotFoundException(command.reservationId())
-                ))
-                .flatMap(reservation -> {
-                    // Validar con servicio de dominio
-                    reservationDomainService.validateCancellation(reservation);
+                ));
 
-                    // Cancelar reservación
-                    reservation.cancel(command.reason());
-
-                    // Cancelar ticket y liberar asiento
-                    return ticketRepository.findById(reservation.getTicketId())
-                        .flatMap(ticket -> {
-                            ticket.cancel();
-                            return ticketRepository.update(ticket)
-                                .then(flightRepository.findById(reservation.getFlightId()))
-                                .flatMap(flight -> {
-                                    flight.releaseSeats(1);
-                                    return flightRepository.update(flight);
-                                })
-                                .then(reservationRepository.update(reservation));
-                        })
-                        .then();
-                })
+        // La primera lectura solo ubica el vuelo; dentro de su turno se relee la
+        // reservación para que dos cancelaciones no liberen el asiento dos veces
+        return current
+                .flatMap(found -> flightSequencer.serialize(found.getFlightId(),
+                        current.flatMap(reservation -> cancel(reservation, command))))
                 .doOnSuccess(v ->
                     log.info("Reservación cancelada exitosamente: {}", command.reservationId())
                 )
@@ -64,5 +60,35 @@ public class CancelReservationUseCaseImpl implements CancelReservationUseCase {
                     log.error("Error al cancelar reservación: {}", error.getMessage())
                 );
     }
-}
 
+    private Mono<Void> cancel(Reservation reservation, CancelReservationCommand command) {
+        // Validar con servicio de dominio
+        reservationDomainService.validateCancellation(reservation);
+
+        // Cancelar reservación
+        reservation.cancel(command.reason());
+
+        // Cancelar ticket, devolver el asiento al vuelo y actualizar la reservación
+        // en una transacción: si algo falla no queda un ticket cancelado con la
+        // reservación confirmada. La cancelación del ticket es condicional, así
+        // que el asiento se devuelve una sola vez
+        return ticketRepository.cancel(reservation.getTicketId())
+            .flatMap(ticket -> flightRepository.releaseSeats(reservation.getFlightId(), 1)
+                .then(reservationRepository.update(reservation))
+                .thenReturn(ticket))
+            .as(transactionalOperator::transactional)
+            .switchIfEmpty(Mono.defer(() -> alreadyReleased(reservation)))
+            // El inventario en memoria solo cambia después del commit
+            .flatMap(ticket -> seatInventory.release(ticket.getFlightId(), ticket.getSeatNumber()))
+            .then();
+    }
+
+    private Mono<Ticket> alreadyReleased(Reservation reservation) {
+        // El ticket ya no estaba activo: solo es una retención vencida si la
+        // reservación releída lo dice; en otro caso ya se había cancelado
+        return reservationRepository.findById(reservation.getId())
+            .filter(Reservation::isExpired)
+            .flatMap(expired -> Mono.<Ticket>error(new HoldExpiredException(expired.getId().value())))
+            .switchIfEmpty(Mono.error(() -> new InvalidBookingException("La reservación ya está cancelada")));
+    }
+}
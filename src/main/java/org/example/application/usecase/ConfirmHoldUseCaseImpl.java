@@ -0,0 +1,48 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.in.ConfirmHoldUseCase;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.domain.exception.HoldExpiredException;
+import org.example.domain.exception.ReservationNotFoundException;
+import org.example.domain.model.Reservation;
+import org.example.domain.valueobject.ReservationId;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementación del caso de uso para confirmar una retención de asiento
+ *
+ * La confirmación es un UPDATE condicional que también pasa el ticket HELD a
+ * CONFIRMED: si la retención ya venció (aunque la rueda todavía no la haya
+ * liberado) no se confirma ninguno de los dos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfirmHoldUseCaseImpl implements ConfirmHoldUseCase {
+
+    private final ReservationRepositoryPort reservationRepository;
+    private final SeatHoldPort seatHold;
+
+    @Override
+    public Mono<Reservation> execute(ReservationId reservationId) {
+        log.info("Confirmando retención de la reservación ID: {}", reservationId.value());
+
+        return reservationRepository.confirmHold(reservationId, LocalDateTime.now())
+                .flatMap(reservation -> seatHold.cancel(reservationId).thenReturn(reservation))
+                .switchIfEmpty(Mono.defer(() -> reservationRepository.findById(reservationId)
+                        .switchIfEmpty(Mono.error(new ReservationNotFoundException(reservationId.value())))
+                        .flatMap(reservation -> Mono.error(new HoldExpiredException(reservationId.value())))))
+                .doOnSuccess(reservation ->
+                        log.info("Retención confirmada: {}", reservationId.value())
+                )
+                .doOnError(error ->
+                        log.error("Error al confirmar retención: {}", error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.command.FareCalendarCommand;
+import org.example.application.port.in.GetFareCalendarUseCase;
+import org.example.application.port.out.DailyLowestFare;
+import org.example.application.port.out.FareCalendarCriteria;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.domain.model.FareCalendarDay;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.valueobject.Price;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Implementación del caso de uso del calendario de tarifas
+ *
+ * La base de datos devuelve el precio base mínimo por día en una sola consulta
+ * agregada. Cada clase multiplica el precio base por un factor fijo, así que el
+ * mínimo de cada clase es el precio de esa clase sobre el mínimo base.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GetFareCalendarUseCaseImpl implements GetFareCalendarUseCase {
+
+    private final FlightRepositoryPort flightRepository;
+    private final PriceCalculationService priceCalculationService;
+
+    @Override
+    public Flux<FareCalendarDay> execute(FareCalendarCommand command) {
+        log.info("Consultando calendario de tarifas de {} a {} entre {} y {}",
+                command.origin(), command.destination(), command.startDate(), command.endDate());
+
+        FareCalendarCriteria criteria = new FareCalendarCriteria(
+                command.origin(),
+                command.destination(),
+                command.startDate().atStartOfDay(),
+                command.endDate().plusDays(1).atStartOfDay(),
+                command.passengers() != null ? command.passengers() : 1,
+                LocalDateTime.now()
+        );
+
+        return flightRepository.findLowestFaresByDay(criteria)
+                .map(this::toCalendarDay)
+                .doOnError(error -> log.error("Error al consultar calendario de tarifas: {}", error.getMessage()));
+    }
+
+    private FareCalendarDay toCalendarDay(DailyLowestFare fare) {
+        Map<TicketClass, Price> prices = new EnumMap<>(TicketClass.class);
+        for (TicketClass ticketClass : TicketClass.values()) {
+            prices.put(ticketClass, priceCalculationService.calculatePrice(fare.lowestPrice(), ticketClass));
+        }
+        return new FareCalendarDay(fare.date(), fare.flights(), prices);
+    }
+}
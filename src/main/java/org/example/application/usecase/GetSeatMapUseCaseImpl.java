@@ -0,0 +1,30 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.in.GetSeatMapUseCase;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.model.SeatMap;
+import org.example.domain.valueobject.FlightId;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación del caso de uso para consultar el mapa de asientos de un vuelo
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GetSeatMapUseCaseImpl implements GetSeatMapUseCase {
+
+    private final SeatInventoryPort seatInventory;
+
+    @Override
+    public Mono<SeatMap> execute(FlightId flightId) {
+        log.debug("Consultando mapa de asientos del vuelo ID: {}", flightId.value());
+
+        return seatInventory.getSeatMap(flightId)
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(flightId.value())));
+    }
+}
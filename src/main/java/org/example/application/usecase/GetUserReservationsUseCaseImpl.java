@@ -30,5 +30,17 @@ public class GetUserReservationsUseCaseImpl implements GetUserReservationsUseCas
                     log.error("Error al obtener reservaciones: {}", error.getMessage())
                 );
     }
+
+    @Override
+    public Flux<Reservation> execute(UserId userId, Long cursor, int limit) {
+        long afterReservationId = cursor == null ? 0L : cursor;
+        log.info("Obteniendo hasta {} reservaciones del usuario ID: {} después de {}",
+                limit, userId.value(), afterReservationId);
+
+        return reservationRepository.findByUserIdAfter(userId, afterReservationId, limit)
+                .doOnError(error ->
+                    log.error("Error al obtener reservaciones: {}", error.getMessage())
+                );
+    }
 }
 
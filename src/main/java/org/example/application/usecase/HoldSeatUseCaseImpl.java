@@ -0,0 +1,99 @@
+package org.example.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.command.BookTicketCommand;
+import org.example.application.port.in.HoldSeatUseCase;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.exception.NoSeatsAvailableException;
+import org.example.domain.exception.SeatAlreadyTakenException;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.service.ReservationDomainService;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.Price;
+import org.example.domain.valueobject.SeatNumber;
+import org.example.domain.valueobject.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementación del caso de uso para retener un asiento
+ *
+ * Ocupa el asiento igual que una reserva (descuenta el vuelo e inserta ticket
+ * y reservación en una sentencia), pero el ticket queda HELD y la reservación
+ * PENDING con hold_expires_at; SeatHoldPort la libera si no se confirma antes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldSeatUseCaseImpl implements HoldSeatUseCase {
+
+    private final FlightRepositoryPort flightRepository;
+    private final ReservationRepositoryPort reservationRepository;
+    private final ReservationDomainService reservationDomainService;
+    private final PriceCalculationService priceCalculationService;
+    private final TransactionalOperator transactionalOperator;
+    private final SeatInventoryPort seatInventory;
+    private final SeatHoldPort seatHold;
+    private final FlightMutationSequencerPort flightSequencer;
+
+    @Override
+    public Mono<Reservation> execute(BookTicketCommand command) {
+        log.info("Procesando retención de asiento {} para vuelo ID: {} y usuario ID: {}",
+                command.seatNumber(), command.flightId(), command.userId());
+
+        FlightId flightId = new FlightId(command.flightId());
+        SeatNumber seatNumber = new SeatNumber(command.seatNumber());
+        UserId userId = new UserId(command.userId());
+
+        return flightSequencer.serialize(flightId, flightRepository.findById(flightId)
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(command.flightId())))
+                .flatMap(flight -> seatInventory.isSeatTaken(flightId, seatNumber)
+                        .flatMap(isTaken -> isTaken
+                                ? Mono.<Void>error(new SeatAlreadyTakenException(seatNumber.value()))
+                                : Mono.<Void>empty())
+                        .then(Mono.just(flight)))
+                .flatMap(flight -> {
+                    reservationDomainService.validateReservation(flight, 1);
+
+                    TicketClass ticketClass = TicketClass.valueOf(command.ticketClass());
+                    Price finalPrice = priceCalculationService.calculatePrice(flight.getPrice(), ticketClass);
+
+                    Ticket ticket = Ticket.hold(userId, flightId, command.passengerName(),
+                            seatNumber, finalPrice, ticketClass);
+                    Reservation hold = Reservation.hold(userId, flightId,
+                            LocalDateTime.now().plus(seatHold.holdDuration()));
+
+                    return reservationRepository.saveBooking(ticket, hold)
+                            .as(transactionalOperator::transactional)
+                            .switchIfEmpty(Mono.error(new NoSeatsAvailableException(
+                                    "No hay suficientes asientos disponibles en el vuelo " +
+                                    flight.getFlightNumber().value()
+                            )))
+                            .flatMap(savedHold -> seatInventory.occupy(flightId, seatNumber)
+                                    .then(seatHold.schedule(savedHold.getId(), flightId, savedHold.getHoldExpiresAt()))
+                                    .thenReturn(savedHold))
+                            // Si la base de datos rechazó el asiento, el inventario estaba desactualizado
+                            .onErrorResume(SeatAlreadyTakenException.class, error ->
+                                    seatInventory.occupy(flightId, seatNumber).then(Mono.error(error)));
+                }))
+                .doOnSuccess(reservation ->
+                        log.info("Retención creada con ID: {}, vence {}",
+                                reservation.getId().value(), reservation.getHoldExpiresAt())
+                )
+                .doOnError(error ->
+                        log.error("Error al retener asiento: {}", error.getMessage())
+                );
+    }
+}
@@ -4,11 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.command.SearchFlightsCommand;
 import org.example.application.port.in.SearchFlightsUseCase;
+import org.example.application.port.out.ConnectionSearchCriteria;
 import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.application.port.out.RouteGraphPort;
 import org.example.domain.model.Flight;
+import org.example.domain.model.Itinerary;
+import org.example.domain.model.RouteGraph;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Implementación del caso de uso para buscar vuelos
  */
@@ -18,26 +26,70 @@ import reactor.core.publisher.Flux;
 public class SearchFlightsUseCaseImpl implements SearchFlightsUseCase {
 
     private final FlightRepositoryPort flightRepository;
+    private final RouteGraphPort routeGraph;
 
     @Override
     public Flux<Flight> execute(SearchFlightsCommand command) {
         log.info("Buscando vuelos de {} a {} para fecha: {}",
                 command.origin(), command.destination(), command.departureDate());
 
-        return flightRepository.searchFlights(
+        int passengers = command.passengers() != null ? command.passengers() : 1;
+        FlightSearchCriteria criteria = new FlightSearchCriteria(
                 command.origin(),
                 command.destination(),
-                command.departureDate()
-        )
+                command.departureDate(),
+                passengers,
+                LocalDateTime.now(),
+                command.sortOrder(),
+                command.limit()
+        );
+
+        // La base de datos ya filtra; se conserva la validación de dominio como respaldo
+        return flightRepository.searchFlights(criteria)
         .filter(Flight::isBookable)
-        .filter(flight -> {
-            if (command.passengers() != null) {
-                return flight.hasAvailableSeats(command.passengers());
-            }
-            return true;
-        })
+        .filter(flight -> flight.hasAvailableSeats(passengers))
         .doOnComplete(() -> log.info("Búsqueda de vuelos completada"))
         .doOnError(error -> log.error("Error al buscar vuelos: {}", error.getMessage()));
     }
-}
 
+    @Override
+    public Flux<Itinerary> searchConnections(SearchFlightsCommand command, int maxStops) {
+        log.info("Buscando itinerarios de {} a {} con hasta {} escala(s) para fecha: {}",
+                command.origin(), command.destination(), maxStops, command.departureDate());
+
+        if (maxStops < 0 || maxStops > RouteGraph.MAX_STOPS) {
+            return Flux.error(new IllegalArgumentException(
+                    "Stops must be between 0 and " + RouteGraph.MAX_STOPS));
+        }
+
+        // Sin fecha se buscan salidas en las próximas 24 horas
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now;
+        LocalDateTime to = now.plusDays(1);
+        if (command.departureDate() != null) {
+            LocalDateTime day = command.departureDate().truncatedTo(ChronoUnit.DAYS);
+            from = day.isAfter(now) ? day : now;
+            to = day.plusDays(1);
+            if (!from.isBefore(to)) {
+                return Flux.empty();
+            }
+        }
+
+        ConnectionSearchCriteria criteria = new ConnectionSearchCriteria(
+                command.origin(),
+                command.destination(),
+                from,
+                to,
+                command.passengers() != null ? command.passengers() : 1,
+                maxStops
+        );
+
+        Flux<Itinerary> itineraries = routeGraph.findItineraries(criteria);
+        if (command.limit() != null) {
+            itineraries = itineraries.take(command.limit());
+        }
+        return itineraries
+                .doOnComplete(() -> log.info("Búsqueda de itinerarios completada"))
+                .doOnError(error -> log.error("Error al buscar itinerarios: {}", error.getMessage()));
+    }
+}
@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.command.UpdateReservationCommand;
 import org.example.application.port.in.UpdateReservationUseCase;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
 import org.example.domain.exception.ReservationNotFoundException;
 import org.example.domain.exception.SeatAlreadyTakenException;
@@ -27,6 +29,8 @@ public class UpdateReservationUseCaseImpl implements UpdateReservationUseCase {
     private final ReservationRepositoryPort reservationRepository;
     private final TicketRepositoryPort ticketRepository;
     private final ReservationDomainService reservationDomainService;
+    private final SeatInventoryPort seatInventory;
+    private final FlightMutationSequencerPort flightSequencer;
 
     @Override
     public Mono<Reservation> execute(UpdateReservationCommand command) {
@@ -34,22 +38,16 @@ public class UpdateReservationUseCaseImpl implements UpdateReservationUseCase {
 
         ReservationId reservationId = new ReservationId(command.reservationId());
 
-        return reservationRepository.findById(reservationId)
+        Mono<Reservation> current = reservationRepository.findById(reservationId)
                 .switchIfEmpty(Mono.error(
                     new ReservationNotFoundException(command.reservationId())
-                ))
-                .flatMap(reservation -> {
-                    // Validar con servicio de dominio
-                    reservationDomainService.validateUpdate(reservation);
+                ));
 
-                    // Si se proporciona un nuevo número de asiento, actualizarlo
-                    if (command.seatNumber() != null && !command.seatNumber().isBlank()) {
-                        return updateTicketSeat(reservation, command.seatNumber())
-                                .flatMap(ticket -> updateReservationData(reservation, command));
-                    } else {
-                        return updateReservationData(reservation, command);
-                    }
-                })
+        // La primera lectura solo ubica el vuelo; el cambio se valida y escribe
+        // dentro de su turno, sobre la reservación releída
+        return current
+                .flatMap(found -> flightSequencer.serialize(found.getFlightId(),
+                        current.flatMap(reservation -> update(reservation, command))))
                 .doOnSuccess(r ->
                     log.info("Reservación actualizada exitosamente: {}", r.getId().value())
                 )
@@ -58,6 +56,19 @@ public class UpdateReservationUseCaseImpl implements UpdateReservationUseCase {
                 );
     }
 
+    private Mono<Reservation> update(Reservation reservation, UpdateReservationCommand command) {
+        // Validar con servicio de dominio
+        reservationDomainService.validateUpdate(reservation);
+
+        // Si se proporciona un nuevo número de asiento, actualizarlo
+        if (command.seatNumber() != null && !command.seatNumber().isBlank()) {
+            return updateTicketSeat(reservation, command.seatNumber())
+                    .flatMap(ticket -> updateReservationData(reservation, command));
+        } else {
+            return updateReservationData(reservation, command);
+        }
+    }
+
     private Mono<Ticket> updateTicketSeat(Reservation reservation, String newSeatNumber) {
         SeatNumber seatNumber = new SeatNumber(newSeatNumber);
 
@@ -65,15 +76,23 @@ public class UpdateReservationUseCaseImpl implements UpdateReservationUseCase {
                 .flatMap(ticket -> {
                     // Verificar si el asiento ya está ocupado (solo si es diferente al actual)
                     if (!ticket.getSeatNumber().equals(seatNumber)) {
-                        return ticketRepository.isSeatTaken(ticket.getFlightId(), seatNumber)
+                        SeatNumber previousSeat = ticket.getSeatNumber();
+                        return seatInventory.isSeatTaken(ticket.getFlightId(), seatNumber)
                                 .flatMap(isTaken -> {
                                     if (Boolean.TRUE.equals(isTaken)) {
                                         return Mono.error(new SeatAlreadyTakenException(newSeatNumber));
                                     }
                                     // Actualizar el asiento
                                     ticket.updateSeatNumber(seatNumber);
-                                    return ticketRepository.update(ticket);
-                                });
+                                    return ticketRepository.update(ticket)
+                                            // Si la base de datos rechazó el asiento, el inventario estaba desactualizado
+                                            .onErrorResume(SeatAlreadyTakenException.class, error ->
+                                                    seatInventory.occupy(ticket.getFlightId(), seatNumber)
+                                                            .then(Mono.error(error)));
+                                })
+                                .flatMap(updatedTicket -> seatInventory
+                                        .move(ticket.getFlightId(), previousSeat, seatNumber)
+                                        .thenReturn(updatedTicket));
                     }
                     return Mono.just(ticket);
                 });
@@ -0,0 +1,10 @@
+package org.example.domain.exception;
+
+/**
+ * Excepción cuando se intenta confirmar una retención de asiento que ya no está vigente
+ */
+public class HoldExpiredException extends DomainException {
+    public HoldExpiredException(Long reservationId) {
+        super("Seat hold for reservation " + reservationId + " is no longer active");
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.domain.exception;
+
+/**
+ * Excepción cuando una clave de idempotencia se repite con una solicitud distinta
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.domain.exception;
+
+/**
+ * Excepción cuando una operación se rechaza por falta de capacidad momentánea
+ */
+public class TooManyRequestsException extends DomainException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
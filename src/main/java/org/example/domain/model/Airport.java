@@ -0,0 +1,16 @@
+package org.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.domain.valueobject.Location;
+
+/**
+ * Modelo de dominio puro de Airport (sin dependencias de frameworks)
+ */
+@Getter
+@Builder
+public class Airport {
+    private Location code;
+    private String city;
+    private String country;
+}
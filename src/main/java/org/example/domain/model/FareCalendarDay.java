@@ -0,0 +1,50 @@
+package org.example.domain.model;
+
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.valueobject.Price;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Día del calendario de tarifas con el precio más bajo por clase (sin dependencias de frameworks)
+ */
+public class FareCalendarDay {
+
+    private final LocalDate date;
+    private final int flights;
+    private final Map<TicketClass, Price> lowestPrices;
+
+    public FareCalendarDay(LocalDate date, int flights, Map<TicketClass, Price> lowestPrices) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (lowestPrices == null || lowestPrices.isEmpty()) {
+            throw new IllegalArgumentException("Lowest prices cannot be empty");
+        }
+        this.date = date;
+        this.flights = flights;
+        this.lowestPrices = Collections.unmodifiableMap(new EnumMap<>(lowestPrices));
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getFlights() {
+        return flights;
+    }
+
+    /**
+     * Precios ordenados según la declaración de TicketClass
+     */
+    public Map<TicketClass, Price> getLowestPrices() {
+        return lowestPrices;
+    }
+
+    public Price getLowestPrice(TicketClass ticketClass) {
+        return lowestPrices.get(ticketClass);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.domain.model;
+
+import org.example.domain.valueobject.Location;
+import org.example.domain.valueobject.Price;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Itinerario de uno o más vuelos encadenados (sin dependencias de frameworks)
+ *
+ * Cada tramo sale del aeropuerto donde llega el anterior y después de su llegada.
+ */
+public class Itinerary {
+
+    private final List<Flight> legs;
+
+    public Itinerary(List<Flight> legs) {
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("Itinerary must have at least one leg");
+        }
+        for (int i = 1; i < legs.size(); i++) {
+            Flight previous = legs.get(i - 1);
+            Flight next = legs.get(i);
+            if (!previous.getDestination().equals(next.getOrigin())) {
+                throw new IllegalArgumentException("Itinerary legs must be connected");
+            }
+            if (next.getDepartureTime().isBefore(previous.getArrivalTime())) {
+                throw new IllegalArgumentException("Itinerary leg departs before the previous one arrives");
+            }
+        }
+        this.legs = List.copyOf(legs);
+    }
+
+    public List<Flight> getLegs() {
+        return legs;
+    }
+
+    public Location getOrigin() {
+        return legs.get(0).getOrigin();
+    }
+
+    public Location getDestination() {
+        return legs.get(legs.size() - 1).getDestination();
+    }
+
+    public LocalDateTime getDepartureTime() {
+        return legs.get(0).getDepartureTime();
+    }
+
+    public LocalDateTime getArrivalTime() {
+        return legs.get(legs.size() - 1).getArrivalTime();
+    }
+
+    /**
+     * Número de escalas (0 para un vuelo directo)
+     */
+    public int getStops() {
+        return legs.size() - 1;
+    }
+
+    /**
+     * Tiempo total desde la salida del primer tramo hasta la llegada del último
+     */
+    public Duration getTotalDuration() {
+        return Duration.between(getDepartureTime(), getArrivalTime());
+    }
+
+    /**
+     * Suma del precio por pasajero de todos los tramos
+     */
+    public Price getTotalPrice() {
+        Price total = legs.get(0).getPrice();
+        for (int i = 1; i < legs.size(); i++) {
+            total = total.add(legs.get(i).getPrice());
+        }
+        return total;
+    }
+
+    /**
+     * Asientos disponibles en el tramo más lleno
+     */
+    public int getAvailableSeats() {
+        int seats = Integer.MAX_VALUE;
+        for (Flight leg : legs) {
+            seats = Math.min(seats, leg.getAvailableSeats() != null ? leg.getAvailableSeats() : 0);
+        }
+        return seats;
+    }
+}
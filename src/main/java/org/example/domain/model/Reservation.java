@@ -24,6 +24,7 @@ public class Reservation {
     private ReservationStatus status;
     private String observations;
     private LocalDateTime reservationDate;
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -45,6 +46,28 @@ public class Reservation {
                 .build();
     }
 
+    /**
+     * Factory method para retener un asiento mientras se completa el pago:
+     * la reservación queda pendiente hasta confirmarse o vencer en expiresAt
+     */
+    public static Reservation hold(
+            UserId userId,
+            FlightId flightId,
+            LocalDateTime expiresAt
+    ) {
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Hold expiration cannot be null");
+        }
+        return Reservation.builder()
+                .userId(userId)
+                .flightId(flightId)
+                .status(ReservationStatus.PENDING)
+                .holdExpiresAt(expiresAt)
+                .reservationDate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * Confirma la reservación
      */
@@ -52,10 +75,21 @@ public class Reservation {
         if (status == ReservationStatus.CANCELLED) {
             throw new IllegalStateException("Cannot confirm a cancelled reservation");
         }
+        if (status == ReservationStatus.EXPIRED) {
+            throw new IllegalStateException("Cannot confirm an expired reservation");
+        }
         this.status = ReservationStatus.CONFIRMED;
+        this.holdExpiresAt = null;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Verifica si la retención venció en el instante indicado
+     */
+    public boolean isHoldExpired(LocalDateTime now) {
+        return isPending() && holdExpiresAt != null && !holdExpiresAt.isAfter(now);
+    }
+
     /**
      * Cancela la reservación
      */
@@ -90,6 +124,13 @@ public class Reservation {
         return status == ReservationStatus.CANCELLED;
     }
 
+    /**
+     * Verifica si la retención de la reservación ya venció
+     */
+    public boolean isExpired() {
+        return status == ReservationStatus.EXPIRED;
+    }
+
     /**
      * Verifica si la reservación está pendiente
      */
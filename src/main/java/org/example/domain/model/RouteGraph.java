@@ -0,0 +1,333 @@
+package org.example.domain.model;
+
+import org.example.domain.valueobject.FlightId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grafo de rutas dependiente del tiempo (sin dependencias de frameworks)
+ *
+ * Cada aeropuerto guarda sus salidas ordenadas por hora en un arreglo que se
+ * reemplaza completo al cambiar: las búsquedas leen sin bloqueo y las
+ * escrituras se serializan.
+ *
+ * Para cada primer tramo posible se busca la llegada más temprana al destino
+ * (Dijkstra sobre horas de llegada, con estado aeropuerto + tramos usados) y
+ * luego se descartan los itinerarios dominados: otro sale igual o más tarde y
+ * llega igual o más temprano.
+ */
+public class RouteGraph {
+
+    public static final int MAX_STOPS = 2;
+
+    private static final Flight[] NO_FLIGHTS = new Flight[0];
+    private static final Comparator<Flight> DEPARTURE_ORDER = Comparator
+            .comparing(Flight::getDepartureTime)
+            .thenComparing(flight -> flight.getId().value());
+
+    private final Duration minConnectionTime;
+    private final Duration maxLayover;
+    private final Map<String, Flight[]> departures = new ConcurrentHashMap<>();
+    private final Map<Long, Flight> flightsById = new HashMap<>();
+
+    /**
+     * @param minConnectionTime tiempo mínimo entre la llegada de un tramo y la salida del siguiente
+     * @param maxLayover        espera máxima en un aeropuerto de conexión
+     */
+    public RouteGraph(Duration minConnectionTime, Duration maxLayover) {
+        if (minConnectionTime == null || minConnectionTime.isNegative()) {
+            throw new IllegalArgumentException("Minimum connection time cannot be negative");
+        }
+        if (maxLayover == null || maxLayover.compareTo(minConnectionTime) < 0) {
+            throw new IllegalArgumentException("Maximum layover must not be shorter than the minimum connection time");
+        }
+        this.minConnectionTime = minConnectionTime;
+        this.maxLayover = maxLayover;
+    }
+
+    /**
+     * Reemplaza todo el grafo; solo se indexan los vuelos activos
+     */
+    public synchronized void replaceAll(Collection<Flight> flights) {
+        Map<String, List<Flight>> byOrigin = new HashMap<>();
+        flightsById.clear();
+        for (Flight flight : flights) {
+            if (flight.isActive()) {
+                Flight copy = flight.toBuilder().build();
+                flightsById.put(copy.getId().value(), copy);
+                byOrigin.computeIfAbsent(copy.getOrigin().value(), airport -> new ArrayList<>()).add(copy);
+            }
+        }
+        departures.clear();
+        byOrigin.forEach((airport, list) -> {
+            Flight[] sorted = list.toArray(NO_FLIGHTS);
+            Arrays.sort(sorted, DEPARTURE_ORDER);
+            departures.put(airport, sorted);
+        });
+    }
+
+    /**
+     * Inserta o reemplaza un vuelo; si ya no está activo se retira del grafo
+     */
+    public synchronized void upsert(Flight flight) {
+        remove(flight.getId());
+        if (!flight.isActive()) {
+            return;
+        }
+
+        Flight copy = flight.toBuilder().build();
+        flightsById.put(copy.getId().value(), copy);
+
+        String airport = copy.getOrigin().value();
+        Flight[] current = departures.getOrDefault(airport, NO_FLIGHTS);
+        int position = -Arrays.binarySearch(current, copy, DEPARTURE_ORDER) - 1;
+        Flight[] updated = new Flight[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        updated[position] = copy;
+        System.arraycopy(current, position, updated, position + 1, current.length - position);
+        departures.put(airport, updated);
+    }
+
+    /**
+     * Retira un vuelo del grafo
+     */
+    public synchronized void remove(FlightId flightId) {
+        Flight previous = flightsById.remove(flightId.value());
+        if (previous == null) {
+            return;
+        }
+
+        String airport = previous.getOrigin().value();
+        Flight[] current = departures.get(airport);
+        int position = Arrays.binarySearch(current, previous, DEPARTURE_ORDER);
+        if (current.length == 1) {
+            departures.remove(airport);
+            return;
+        }
+        Flight[] updated = new Flight[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+        departures.put(airport, updated);
+    }
+
+    /**
+     * Suma delta a los asientos disponibles del vuelo sin salir de [0, totalSeats]
+     * @return false si el vuelo no está en el grafo
+     */
+    public synchronized boolean adjustSeats(FlightId flightId, int delta) {
+        Flight previous = flightsById.get(flightId.value());
+        if (previous == null) {
+            return false;
+        }
+
+        int availableSeats = Math.max(0, Math.min(previous.getTotalSeats(), previous.getAvailableSeats() + delta));
+        Flight updated = previous.toBuilder().availableSeats(availableSeats).build();
+        flightsById.put(updated.getId().value(), updated);
+
+        // La hora de salida no cambia: el vuelo conserva su posición
+        String airport = previous.getOrigin().value();
+        Flight[] current = departures.get(airport).clone();
+        current[Arrays.binarySearch(current, previous, DEPARTURE_ORDER)] = updated;
+        departures.put(airport, current);
+        return true;
+    }
+
+    /**
+     * Retira los vuelos que salen en now o antes
+     * @return cantidad de vuelos retirados
+     */
+    public synchronized int removeDepartedBy(LocalDateTime now) {
+        int removed = 0;
+        for (Map.Entry<String, Flight[]> entry : departures.entrySet()) {
+            Flight[] current = entry.getValue();
+            int departed = 0;
+            while (departed < current.length && !current[departed].getDepartureTime().isAfter(now)) {
+                flightsById.remove(current[departed].getId().value());
+                departed++;
+            }
+            if (departed == current.length) {
+                departures.remove(entry.getKey());
+            } else if (departed > 0) {
+                entry.setValue(Arrays.copyOfRange(current, departed, current.length));
+            }
+            removed += departed;
+        }
+        return removed;
+    }
+
+    /**
+     * Cantidad de vuelos indexados
+     */
+    public synchronized int size() {
+        return flightsById.size();
+    }
+
+    /**
+     * Itinerarios no dominados cuyo primer tramo sale en [departureFrom, departureTo)
+     *
+     * @param maxStops escalas permitidas, entre 0 y MAX_STOPS
+     * @return itinerarios ordenados por hora de salida
+     */
+    public List<Itinerary> findItineraries(String origin, String destination,
+                                           LocalDateTime departureFrom, LocalDateTime departureTo,
+                                           int passengers, int maxStops) {
+        if (maxStops < 0 || maxStops > MAX_STOPS) {
+            throw new IllegalArgumentException("Stops must be between 0 and " + MAX_STOPS);
+        }
+        if (origin.equals(destination)) {
+            return List.of();
+        }
+
+        Flight[] firstLegs = departures.getOrDefault(origin, NO_FLIGHTS);
+        List<Itinerary> candidates = new ArrayList<>();
+        for (int i = firstDepartureFrom(firstLegs, departureFrom); i < firstLegs.length; i++) {
+            Flight first = firstLegs[i];
+            if (!first.getDepartureTime().isBefore(departureTo)) {
+                break;
+            }
+            if (first.hasAvailableSeats(passengers)) {
+                Itinerary itinerary = earliestArrival(first, destination, passengers, maxStops + 1);
+                if (itinerary != null) {
+                    candidates.add(itinerary);
+                }
+            }
+        }
+        return nonDominated(candidates);
+    }
+
+    /**
+     * Llegada más temprana al destino empezando por el tramo indicado
+     */
+    private Itinerary earliestArrival(Flight first, String destination, int passengers, int maxLegs) {
+        PriorityQueue<Label> queue = new PriorityQueue<>(Comparator
+                .comparing((Label label) -> label.flight().getArrivalTime())
+                .thenComparingInt(Label::legs));
+        Map<String, LocalDateTime[]> bestArrivals = new HashMap<>();
+        queue.add(new Label(first, 1, null));
+
+        while (!queue.isEmpty()) {
+            Label label = queue.poll();
+            if (label.flight().getDestination().value().equals(destination)) {
+                return label.toItinerary();
+            }
+            if (label.legs() == maxLegs) {
+                continue;
+            }
+
+            int legs = label.legs() + 1;
+            LocalDateTime arrival = label.flight().getArrivalTime();
+            LocalDateTime latestDeparture = arrival.plus(maxLayover);
+            Flight[] next = departures.getOrDefault(label.flight().getDestination().value(), NO_FLIGHTS);
+
+            for (int i = firstDepartureFrom(next, arrival.plus(minConnectionTime)); i < next.length; i++) {
+                Flight flight = next[i];
+                if (flight.getDepartureTime().isAfter(latestDeparture)) {
+                    break;
+                }
+                String airport = flight.getDestination().value();
+                boolean reachesDestination = airport.equals(destination);
+                if (!flight.hasAvailableSeats(passengers)
+                        || (legs == maxLegs && !reachesDestination)
+                        || label.visits(airport)
+                        || isDominated(bestArrivals, airport, flight.getArrivalTime(), legs)) {
+                    continue;
+                }
+                bestArrivals.computeIfAbsent(airport, key -> new LocalDateTime[maxLegs + 1])[legs] =
+                        flight.getArrivalTime();
+                queue.add(new Label(flight, legs, label));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ya se llegó a ese aeropuerto igual o más temprano con igual o menos tramos
+     */
+    private static boolean isDominated(Map<String, LocalDateTime[]> bestArrivals, String airport,
+                                       LocalDateTime arrival, int legs) {
+        LocalDateTime[] best = bestArrivals.get(airport);
+        if (best == null) {
+            return false;
+        }
+        for (int used = 1; used <= legs; used++) {
+            if (best[used] != null && !best[used].isAfter(arrival)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recorre de la salida más tardía a la más temprana conservando solo los que llegan antes
+     */
+    private static List<Itinerary> nonDominated(List<Itinerary> candidates) {
+        candidates.sort(Comparator.comparing(Itinerary::getDepartureTime).reversed()
+                .thenComparing(Itinerary::getArrivalTime)
+                .thenComparingInt(Itinerary::getStops));
+
+        List<Itinerary> result = new ArrayList<>();
+        LocalDateTime bestArrival = null;
+        int bestStops = Integer.MAX_VALUE;
+        for (Itinerary itinerary : candidates) {
+            LocalDateTime arrival = itinerary.getArrivalTime();
+            if (bestArrival == null || arrival.isBefore(bestArrival)
+                    || (arrival.isEqual(bestArrival) && itinerary.getStops() < bestStops)) {
+                result.add(itinerary);
+                bestArrival = arrival;
+                bestStops = itinerary.getStops();
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Primera posición cuya salida no es anterior a la hora indicada
+     */
+    private static int firstDepartureFrom(Flight[] flights, LocalDateTime time) {
+        int low = 0;
+        int high = flights.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (flights[middle].getDepartureTime().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private record Label(Flight flight, int legs, Label previous) {
+
+        boolean visits(String airport) {
+            for (Label label = this; label != null; label = label.previous()) {
+                if (label.flight().getOrigin().value().equals(airport)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Itinerary toItinerary() {
+            Flight[] path = new Flight[legs];
+            Label label = this;
+            for (int i = legs - 1; i >= 0; i--) {
+                path[i] = label.flight();
+                label = label.previous();
+            }
+            return new Itinerary(List.of(path));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.domain.model;
+
+import org.example.domain.valueobject.SeatNumber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapa de ocupación de asientos de un vuelo (sin dependencias de frameworks)
+ *
+ * SeatNumber solo admite filas 0-99 y columnas A-F, es decir 600 posiciones,
+ * por lo que la ocupación completa cabe en un bitset de 10 palabras de 64 bits.
+ * La distribución del vuelo empieza en la fila 1 y ocupa tantas posiciones
+ * como asientos totales tenga el vuelo.
+ */
+public class SeatMap {
+
+    public static final String COLUMNS = "ABCDEF";
+    public static final int SEATS_PER_ROW = COLUMNS.length();
+    public static final int MAX_ROWS = 100;
+    public static final int CAPACITY = MAX_ROWS * SEATS_PER_ROW;
+
+    private static final int FIRST_ROW = 1;
+    private static final int MAX_LAYOUT_SEATS = CAPACITY - FIRST_ROW * SEATS_PER_ROW;
+
+    private final long[] words = new long[(CAPACITY + Long.SIZE - 1) / Long.SIZE];
+    private final int totalSeats;
+
+    /**
+     * @param totalSeats asientos del vuelo; se limita a los que SeatNumber puede representar
+     */
+    public SeatMap(int totalSeats) {
+        if (totalSeats < 0) {
+            throw new IllegalArgumentException("Total seats cannot be negative");
+        }
+        this.totalSeats = Math.min(totalSeats, MAX_LAYOUT_SEATS);
+    }
+
+    /**
+     * Posición del asiento dentro del bitset (fila * 6 + columna)
+     */
+    public static int indexOf(SeatNumber seatNumber) {
+        String value = seatNumber.value();
+        int last = value.length() - 1;
+        int row = 0;
+        for (int i = 0; i < last; i++) {
+            row = row * 10 + (value.charAt(i) - '0');
+        }
+        return row * SEATS_PER_ROW + (value.charAt(last) - COLUMNS.charAt(0));
+    }
+
+    /**
+     * Asiento correspondiente a una posición del bitset
+     */
+    public static SeatNumber seatAt(int index) {
+        return new SeatNumber((index / SEATS_PER_ROW) + String.valueOf(COLUMNS.charAt(index % SEATS_PER_ROW)));
+    }
+
+    /**
+     * Verifica si el asiento está ocupado
+     */
+    public synchronized boolean isTaken(SeatNumber seatNumber) {
+        int index = indexOf(seatNumber);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marca el asiento como ocupado
+     * @return true si el asiento estaba libre
+     */
+    public synchronized boolean occupy(SeatNumber seatNumber) {
+        int index = indexOf(seatNumber);
+        long mask = 1L << index;
+        boolean wasFree = (words[index >>> 6] & mask) == 0;
+        words[index >>> 6] |= mask;
+        return wasFree;
+    }
+
+    /**
+     * Marca el asiento como libre
+     * @return true si el asiento estaba ocupado
+     */
+    public synchronized boolean release(SeatNumber seatNumber) {
+        int index = indexOf(seatNumber);
+        long mask = 1L << index;
+        boolean wasTaken = (words[index >>> 6] & mask) != 0;
+        words[index >>> 6] &= ~mask;
+        return wasTaken;
+    }
+
+    /**
+     * Mueve la ocupación de un asiento a otro
+     */
+    public synchronized void move(SeatNumber from, SeatNumber to) {
+        release(from);
+        occupy(to);
+    }
+
+    /**
+     * Busca los primeros asientos libres dentro de la distribución del vuelo
+     */
+    public synchronized List<SeatNumber> findFreeSeats(int quantity) {
+        List<SeatNumber> freeSeats = new ArrayList<>(Math.max(quantity, 0));
+        int first = FIRST_ROW * SEATS_PER_ROW;
+        int end = first + totalSeats;
+        for (int index = first; index < end && freeSeats.size() < quantity; index++) {
+            if ((words[index >>> 6] & (1L << index)) == 0) {
+                freeSeats.add(seatAt(index));
+            }
+        }
+        return freeSeats;
+    }
+
+    /**
+     * Cantidad de asientos ocupados dentro de la distribución del vuelo
+     */
+    public synchronized int getOccupiedSeats() {
+        return countOccupied(words);
+    }
+
+    /**
+     * Cantidad de asientos ocupados de una copia del bitset dentro de la distribución del vuelo
+     */
+    public int countOccupied(long[] snapshot) {
+        int first = FIRST_ROW * SEATS_PER_ROW;
+        int end = first + totalSeats;
+        int occupied = 0;
+        for (int index = first; index < end; index++) {
+            if ((snapshot[index >>> 6] & (1L << index)) != 0) {
+                occupied++;
+            }
+        }
+        return occupied;
+    }
+
+    /**
+     * Copia del bitset de ocupación
+     */
+    public synchronized long[] snapshot() {
+        return words.clone();
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    /**
+     * Número de filas de la distribución del vuelo
+     */
+    public int getRows() {
+        return (totalSeats + SEATS_PER_ROW - 1) / SEATS_PER_ROW;
+    }
+
+    public int getFirstRow() {
+        return FIRST_ROW;
+    }
+}
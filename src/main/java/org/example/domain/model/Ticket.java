@@ -48,6 +48,30 @@ public class Ticket {
                 .build();
     }
 
+    /**
+     * Factory method para el ticket de una retención: ocupa el asiento,
+     * pero no queda CONFIRMED hasta que se confirme la reservación
+     */
+    public static Ticket hold(
+            UserId userId,
+            FlightId flightId,
+            String passengerName,
+            SeatNumber seatNumber,
+            Price price,
+            TicketClass ticketClass
+    ) {
+        return Ticket.builder()
+                .userId(userId)
+                .flightId(flightId)
+                .passengerName(passengerName)
+                .seatNumber(seatNumber)
+                .price(price)
+                .ticketClass(ticketClass)
+                .status(TicketStatus.HELD)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * Cancela el ticket
      */
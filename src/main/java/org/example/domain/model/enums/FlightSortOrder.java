@@ -0,0 +1,24 @@
+package org.example.domain.model.enums;
+
+/**
+ * Orden de los resultados de búsqueda de vuelos
+ */
+public enum FlightSortOrder {
+    DEPARTURE_TIME,
+    PRICE;
+
+    /**
+     * Convierte el valor recibido; sin valor se ordena por hora de salida
+     */
+    public static FlightSortOrder fromCode(String code) {
+        if (code == null || code.isBlank()) {
+            return DEPARTURE_TIME;
+        }
+        for (FlightSortOrder sortOrder : values()) {
+            if (sortOrder.name().equalsIgnoreCase(code.trim())) {
+                return sortOrder;
+            }
+        }
+        throw new IllegalArgumentException("Invalid sort order: " + code);
+    }
+}
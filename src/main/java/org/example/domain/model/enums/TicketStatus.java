@@ -5,6 +5,7 @@ package org.example.domain.model.enums;
  * Ubicado en la capa de dominio porque representa reglas de negocio core.
  */
 public enum TicketStatus {
+    HELD("HELD", "Ticket retenido pendiente de confirmación"),
     CONFIRMED("CONFIRMED", "Ticket confirmado"),
     CANCELLED("CANCELLED", "Ticket cancelado"),
     USED("USED", "Ticket usado"),
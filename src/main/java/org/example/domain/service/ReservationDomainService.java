@@ -1,5 +1,6 @@
 package org.example.domain.service;
 
+import org.example.domain.exception.HoldExpiredException;
 import org.example.domain.exception.InvalidBookingException;
 import org.example.domain.exception.NoSeatsAvailableException;
 import org.example.domain.model.Flight;
@@ -37,6 +38,10 @@ public class ReservationDomainService {
                 "La reservación ya está cancelada"
             );
         }
+        if (reservation.isExpired()) {
+            // La retención venció y su asiento ya se devolvió al vuelo
+            throw new HoldExpiredException(reservation.getId().value());
+        }
     }
 
     /**
@@ -48,6 +53,9 @@ public class ReservationDomainService {
                 "No se puede actualizar una reservación cancelada"
             );
         }
+        if (reservation.isExpired()) {
+            throw new HoldExpiredException(reservation.getId().value());
+        }
     }
 }
 
@@ -5,6 +5,7 @@ import java.util.regex.Pattern;
 /**
  * Value Object que representa un número de asiento
  * Formato: 1-2 dígitos seguidos de una letra (ej: 12A, 5B)
+ * La fila se guarda sin ceros a la izquierda: 05A y 5A son el mismo asiento
  */
 public record SeatNumber(String value) {
     private static final Pattern SEAT_PATTERN = Pattern.compile("^\\d{1,2}[A-F]$");
@@ -18,6 +19,9 @@ public record SeatNumber(String value) {
                 "Invalid seat number format. Expected format: 12A (1-2 digits + letter A-F)"
             );
         }
+        if (value.length() == 3 && value.charAt(0) == '0') {
+            value = value.substring(1);
+        }
     }
 }
 
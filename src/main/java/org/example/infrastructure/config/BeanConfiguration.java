@@ -4,15 +4,21 @@ import org.example.domain.service.FlightAvailabilityService;
 import org.example.domain.service.PriceCalculationService;
 import org.example.domain.service.ReservationDomainService;
 import org.example.application.port.in.*;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.PasswordVerifierPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.RouteGraphPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
 import org.example.application.port.out.UserRepositoryPort;
 import org.example.application.usecase.*;
+import org.example.shared.util.AirportCatalog;
 import org.example.infrastructure.config.JwtService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 /**
  * Configuración de beans para inyección de dependencias
@@ -38,15 +44,20 @@ public class BeanConfiguration {
         return new PriceCalculationService();
     }
 
+    @Bean
+    public AirportCatalog airportCatalog() {
+        return AirportCatalog.getDefault();
+    }
+
     // ============ Use Cases ============
 
     @Bean
     public AuthenticateUserUseCase authenticateUserUseCase(
             UserRepositoryPort userRepository,
             JwtService jwtService,
-            PasswordEncoder passwordEncoder
+            PasswordVerifierPort passwordVerifier
     ) {
-        return new AuthenticateUserUseCaseImpl(userRepository, jwtService, passwordEncoder);
+        return new AuthenticateUserUseCaseImpl(userRepository, jwtService, passwordVerifier);
     }
 
     @Bean
@@ -55,31 +66,100 @@ public class BeanConfiguration {
             TicketRepositoryPort ticketRepository,
             ReservationRepositoryPort reservationRepository,
             ReservationDomainService reservationDomainService,
-            PriceCalculationService priceCalculationService
+            PriceCalculationService priceCalculationService,
+            TransactionalOperator transactionalOperator,
+            SeatInventoryPort seatInventory,
+            FlightMutationSequencerPort flightSequencer
     ) {
         return new BookTicketUseCaseImpl(
                 flightRepository,
                 ticketRepository,
                 reservationRepository,
                 reservationDomainService,
-                priceCalculationService
+                priceCalculationService,
+                transactionalOperator,
+                seatInventory,
+                flightSequencer
+        );
+    }
+
+    @Bean
+    public BookGroupUseCase bookGroupUseCase(
+            FlightRepositoryPort flightRepository,
+            ReservationRepositoryPort reservationRepository,
+            ReservationDomainService reservationDomainService,
+            PriceCalculationService priceCalculationService,
+            TransactionalOperator transactionalOperator,
+            SeatInventoryPort seatInventory,
+            TicketRepositoryPort ticketRepository,
+            FlightMutationSequencerPort flightSequencer
+    ) {
+        return new BookGroupUseCaseImpl(
+                flightRepository,
+                reservationRepository,
+                reservationDomainService,
+                priceCalculationService,
+                transactionalOperator,
+                seatInventory,
+                ticketRepository,
+                flightSequencer
+        );
+    }
+
+    @Bean
+    public HoldSeatUseCase holdSeatUseCase(
+            FlightRepositoryPort flightRepository,
+            ReservationRepositoryPort reservationRepository,
+            ReservationDomainService reservationDomainService,
+            PriceCalculationService priceCalculationService,
+            TransactionalOperator transactionalOperator,
+            SeatInventoryPort seatInventory,
+            SeatHoldPort seatHold,
+            FlightMutationSequencerPort flightSequencer
+    ) {
+        return new HoldSeatUseCaseImpl(
+                flightRepository,
+                reservationRepository,
+                reservationDomainService,
+                priceCalculationService,
+                transactionalOperator,
+                seatInventory,
+                seatHold,
+                flightSequencer
         );
     }
 
+    @Bean
+    public ConfirmHoldUseCase confirmHoldUseCase(
+            ReservationRepositoryPort reservationRepository,
+            SeatHoldPort seatHold
+    ) {
+        return new ConfirmHoldUseCaseImpl(reservationRepository, seatHold);
+    }
+
     @Bean
     public SearchFlightsUseCase searchFlightsUseCase(
-            FlightRepositoryPort flightRepository
+            FlightRepositoryPort flightRepository,
+            RouteGraphPort routeGraph
     ) {
-        return new SearchFlightsUseCaseImpl(flightRepository);
+        return new SearchFlightsUseCaseImpl(flightRepository, routeGraph);
     }
 
     @Bean
     public UpdateReservationUseCase updateReservationUseCase(
             ReservationRepositoryPort reservationRepository,
             TicketRepositoryPort ticketRepository,
-            ReservationDomainService reservationDomainService
+            ReservationDomainService reservationDomainService,
+            SeatInventoryPort seatInventory,
+            FlightMutationSequencerPort flightSequencer
     ) {
-        return new UpdateReservationUseCaseImpl(reservationRepository, ticketRepository, reservationDomainService);
+        return new UpdateReservationUseCaseImpl(
+                reservationRepository,
+                ticketRepository,
+                reservationDomainService,
+                seatInventory,
+                flightSequencer
+        );
     }
 
     @Bean
@@ -87,21 +167,48 @@ public class BeanConfiguration {
             ReservationRepositoryPort reservationRepository,
             TicketRepositoryPort ticketRepository,
             FlightRepositoryPort flightRepository,
-            ReservationDomainService reservationDomainService
+            ReservationDomainService reservationDomainService,
+            SeatInventoryPort seatInventory,
+            FlightMutationSequencerPort flightSequencer,
+            TransactionalOperator transactionalOperator
     ) {
         return new CancelReservationUseCaseImpl(
                 reservationRepository,
                 ticketRepository,
                 flightRepository,
-                reservationDomainService
+                reservationDomainService,
+                seatInventory,
+                flightSequencer,
+                transactionalOperator
         );
     }
 
+    @Bean
+    public GetFareCalendarUseCase getFareCalendarUseCase(
+            FlightRepositoryPort flightRepository,
+            PriceCalculationService priceCalculationService
+    ) {
+        return new GetFareCalendarUseCaseImpl(flightRepository, priceCalculationService);
+    }
+
+    @Bean
+    public GetSeatMapUseCase getSeatMapUseCase(
+            SeatInventoryPort seatInventory
+    ) {
+        return new GetSeatMapUseCaseImpl(seatInventory);
+    }
+
     @Bean
     public GetUserReservationsUseCase getUserReservationsUseCase(
             ReservationRepositoryPort reservationRepository
     ) {
         return new GetUserReservationsUseCaseImpl(reservationRepository);
     }
-}
 
+    @Bean
+    public AutocompleteAirportsUseCase autocompleteAirportsUseCase(
+            AirportCatalog airportCatalog
+    ) {
+        return new AutocompleteAirportsUseCaseImpl(airportCatalog);
+    }
+}
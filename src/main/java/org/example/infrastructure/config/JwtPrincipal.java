@@ -0,0 +1,13 @@
+package org.example.infrastructure.config;
+
+import java.time.Instant;
+
+/**
+ * Usuario autenticado por un token JWT ya verificado, válido hasta expiresAt
+ */
+public record JwtPrincipal(String username, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,32 +1,78 @@
 package org.example.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Emisión y verificación de tokens JWT
+ *
+ * Cada token se verifica con una sola lectura (firma y expiración) usando un
+ * parser construido una vez. El resultado se guarda en una caché acotada por
+ * el hash SHA-256 del token, nunca por el token en claro, y cada entrada vence
+ * en el exp del propio token; con maximum-size 0 la caché queda desactivada.
+ */
 @Slf4j
 @Service
 public class JwtService {
 
+    private static final long DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    });
+
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final JwtParser parser;
+    private final Cache<TokenDigest, JwtPrincipal> principals;
 
+    public JwtService(String secret, long expiration) {
+        this(secret, expiration, DEFAULT_CACHE_SIZE);
+    }
+
+    @Autowired
     public JwtService(
             @Value("${spring.security.jwt.secret}") String secret,
-            @Value("${spring.security.jwt.expiration}") long expiration) {
+            @Value("${spring.security.jwt.expiration}") long expiration,
+            @Value("${app.cache.jwt.maximum-size:10000}") long cacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = expiration;
-        log.info("JwtService initialized with expiration: {} ms", expiration);
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.principals = cacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
+        log.info("JwtService initialized with expiration: {} ms, principal cache size: {}", expiration, cacheSize);
     }
 
     public String generateToken(String username) {
@@ -47,27 +93,73 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Verifica firma y expiración del token y devuelve su usuario
+     *
+     * @throws JwtException si el token es inválido, está expirado o no tiene usuario
+     */
+    public JwtPrincipal authenticate(String token) {
+        if (principals == null) {
+            return parse(token);
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        JwtPrincipal cached = principals.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        JwtPrincipal principal = parse(token);
+        principals.put(digest, principal);
+        return principal;
+    }
 
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return authenticate(token).username();
     }
 
+    public boolean validateToken(String token, String username) {
+        return authenticate(token).username().equals(username);
+    }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private JwtPrincipal parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token sin usuario o sin expiración");
+        }
+        return new JwtPrincipal(claims.getSubject(), claims.getExpiration().toInstant());
     }
 
-    public boolean validateToken(String token, String username) {
-        final String tokenUsername = extractUsername(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
+    /**
+     * Hash SHA-256 del token, usado como clave para no retener tokens en memoria
+     */
+    private record TokenDigest(long first, long second, long third, long fourth) {
+
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+    /**
+     * Cada entrada vence cuando vence el token que la originó
+     */
+    private static final class UntilTokenExpires implements Expiry<TokenDigest, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
-
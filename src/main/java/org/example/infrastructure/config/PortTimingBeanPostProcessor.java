@@ -0,0 +1,177 @@
+package org.example.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la latencia de cada método de los puertos de la aplicación
+ *
+ * Envuelve con un proxy de clase los beans que implementan una interfaz de
+ * application.port.in (casos de uso) o application.port.out (adaptadores).
+ * Para Mono y Flux el tiempo corre desde la suscripción hasta la señal final,
+ * no desde que el método arma el flujo. Cada timer lleva el puerto, la clase,
+ * la operación y el resultado: success, cancelled o el nombre simple de la
+ * excepción, p. ej. SeatAlreadyTakenException.
+ */
+@Slf4j
+@Component
+public class PortTimingBeanPostProcessor implements BeanPostProcessor {
+
+    public static final String USE_CASE_TIMER = "usecase.duration";
+    public static final String ADAPTER_TIMER = "adapter.duration";
+
+    private static final String INBOUND_PORTS = "org.example.application.port.in";
+    private static final String OUTBOUND_PORTS = "org.example.application.port.out";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public PortTimingBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        List<Class<?>> ports = ClassUtils.getAllInterfacesForClassAsSet(bean.getClass()).stream()
+                .filter(PortTimingBeanPostProcessor::isPort)
+                .toList();
+        if (ports.isEmpty()) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TimingInterceptor(ports, ClassUtils.getUserClass(bean).getSimpleName()));
+        log.debug("Midiendo latencia de {} ({})", beanName, ports);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static boolean isPort(Class<?> type) {
+        String packageName = type.getPackageName();
+        return packageName.equals(INBOUND_PORTS) || packageName.equals(OUTBOUND_PORTS);
+    }
+
+    private final class TimingInterceptor implements MethodInterceptor {
+
+        private final List<Class<?>> ports;
+        private final String adapter;
+        private final Map<Method, Optional<MethodTimers>> timers = new ConcurrentHashMap<>();
+
+        TimingInterceptor(List<Class<?>> ports, String adapter) {
+            this.ports = ports;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Optional<MethodTimers> methodTimers = timers.computeIfAbsent(invocation.getMethod(), this::timersFor);
+            if (methodTimers.isEmpty()) {
+                return invocation.proceed();
+            }
+            MethodTimers meters = methodTimers.get();
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable error) {
+                meters.record(error, start);
+                throw error;
+            }
+
+            if (result instanceof Mono<?> mono) {
+                return Mono.defer(() -> {
+                    long subscribed = System.nanoTime();
+                    return mono
+                            .doOnSuccess(value -> meters.record(MethodTimers.SUCCESS, subscribed))
+                            .doOnError(error -> meters.record(error, subscribed))
+                            .doOnCancel(() -> meters.record(MethodTimers.CANCELLED, subscribed));
+                });
+            }
+            if (result instanceof Flux<?> flux) {
+                return Flux.defer(() -> {
+                    long subscribed = System.nanoTime();
+                    return flux
+                            .doOnComplete(() -> meters.record(MethodTimers.SUCCESS, subscribed))
+                            .doOnError(error -> meters.record(error, subscribed))
+                            .doOnCancel(() -> meters.record(MethodTimers.CANCELLED, subscribed));
+                });
+            }
+            meters.record(MethodTimers.SUCCESS, start);
+            return result;
+        }
+
+        private Optional<MethodTimers> timersFor(Method method) {
+            return ports.stream()
+                    .filter(port -> ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes()))
+                    .findFirst()
+                    .map(port -> new MethodTimers(
+                            port.getPackageName().equals(INBOUND_PORTS) ? USE_CASE_TIMER : ADAPTER_TIMER,
+                            port.getSimpleName(),
+                            adapter,
+                            method.getName()));
+        }
+    }
+
+    /**
+     * Timers de un método, uno por resultado, creados la primera vez que aparecen
+     */
+    private final class MethodTimers {
+
+        static final String SUCCESS = "success";
+        static final String CANCELLED = "cancelled";
+
+        private final String name;
+        private final String port;
+        private final String adapter;
+        private final String operation;
+        private final Map<String, Timer> byOutcome = new ConcurrentHashMap<>();
+
+        MethodTimers(String name, String port, String adapter, String operation) {
+            this.name = name;
+            this.port = port;
+            this.adapter = adapter;
+            this.operation = operation;
+        }
+
+        void record(Throwable error, long start) {
+            record(error.getClass().getSimpleName(), start);
+        }
+
+        void record(String outcome, long start) {
+            long elapsed = System.nanoTime() - start;
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            byOutcome.computeIfAbsent(outcome, key -> Timer.builder(name)
+                            .description("Latencia de los métodos de los puertos")
+                            .tag("port", port)
+                            .tag("class", adapter)
+                            .tag("operation", operation)
+                            .tag("outcome", key)
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(Duration.ofMillis(1))
+                            .maximumExpectedValue(Duration.ofSeconds(10))
+                            .register(registry))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+}
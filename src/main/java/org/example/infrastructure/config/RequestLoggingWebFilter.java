@@ -1,25 +1,46 @@
 package org.example.infrastructure.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.time.Instant;
+import java.net.InetSocketAddress;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Filtro Web para loguear todas las peticiones HTTP
- * Registra método, URI, headers, tiempo de respuesta y status code
+ *
+ * En modo VERBOSE registra una línea de entrada y otra de salida (y los
+ * headers en DEBUG). En modo ACCESS escribe un único registro clave=valor por
+ * petición en el logger org.example.access, que logback-spring.xml envía a un
+ * AsyncAppender que descarta en lugar de bloquear si su cola se llena. Las
+ * peticiones exitosas se muestrean con sample-rate; los errores y respuestas
+ * 5xx se registran siempre.
  */
 @Slf4j
 @Component
 @Order(1) // Ejecutar primero en la cadena de filtros
 public class RequestLoggingWebFilter implements WebFilter {
 
+    public static final String ACCESS_LOGGER = "org.example.access";
+
+    public enum Mode { VERBOSE, ACCESS }
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(ACCESS_LOGGER);
+
     // Paths que no se deben loguear para evitar ruido en logs
     private static final Set<String> EXCLUDED_PATHS = Set.of(
             "/actuator/health",
@@ -27,6 +48,24 @@ public class RequestLoggingWebFilter implements WebFilter {
             "/favicon.ico"
     );
 
+    private final Mode mode;
+    private final double sampleRate;
+
+    public RequestLoggingWebFilter() {
+        this(Mode.VERBOSE, 1.0);
+    }
+
+    @Autowired
+    public RequestLoggingWebFilter(
+            @Value("${app.access-log.mode:verbose}") Mode mode,
+            @Value("${app.access-log.sample-rate:1.0}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("app.access-log.sample-rate debe estar entre 0 y 1");
+        }
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String path = exchange.getRequest().getURI().getPath();
@@ -36,7 +75,36 @@ public class RequestLoggingWebFilter implements WebFilter {
             return chain.filter(exchange);
         }
 
-        long startTime = System.currentTimeMillis();
+        return mode == Mode.ACCESS
+                ? filterWithAccessLog(exchange, chain, path)
+                : filterVerbose(exchange, chain, path);
+    }
+
+    private Mono<Void> filterWithAccessLog(ServerWebExchange exchange, WebFilterChain chain, String path) {
+        long startNanos = System.nanoTime();
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean failed = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                    if ((sampled || failed) && ACCESS_LOG.isInfoEnabled()) {
+                        ServerHttpRequest request = exchange.getRequest();
+                        String query = request.getURI().getRawQuery();
+                        ACCESS_LOG.info("method={} path={} query={} status={} durationMicros={} ip={} outcome={}",
+                                request.getMethod().name(),
+                                path,
+                                query != null ? query : "-",
+                                status != null ? status.value() : "-",
+                                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos),
+                                getClientIp(exchange),
+                                outcome(signal));
+                    }
+                });
+    }
+
+    private Mono<Void> filterVerbose(ServerWebExchange exchange, WebFilterChain chain, String path) {
+        long startNanos = System.nanoTime();
         String method = exchange.getRequest().getMethod().name();
         String queryParams = exchange.getRequest().getURI().getQuery();
         String clientIp = getClientIp(exchange);
@@ -58,7 +126,7 @@ public class RequestLoggingWebFilter implements WebFilter {
         // Continuar con la cadena de filtros y loguear la respuesta
         return chain.filter(exchange)
                 .doOnSuccess(aVoid -> {
-                    long duration = System.currentTimeMillis() - startTime;
+                    long duration = elapsedMillis(startNanos);
                     Integer statusCode = exchange.getResponse().getStatusCode() != null
                             ? exchange.getResponse().getStatusCode().value()
                             : null;
@@ -70,7 +138,7 @@ public class RequestLoggingWebFilter implements WebFilter {
                             duration);
                 })
                 .doOnError(error -> {
-                    long duration = System.currentTimeMillis() - startTime;
+                    long duration = elapsedMillis(startNanos);
                     log.error("<== [ERROR] {} {} | Duration: {}ms | Error: {}",
                             method,
                             path,
@@ -80,6 +148,18 @@ public class RequestLoggingWebFilter implements WebFilter {
                 });
     }
 
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "completed";
+        };
+    }
+
     /**
      * Determina si un path debe omitirse del logging
      */
@@ -91,10 +171,11 @@ public class RequestLoggingWebFilter implements WebFilter {
      * Obtiene la IP real del cliente considerando proxies y load balancers
      */
     private String getClientIp(ServerWebExchange exchange) {
-        // Intentar obtener IP desde headers de proxy
+        // Intentar obtener IP desde headers de proxy; solo interesa el primer salto
         String xForwardedFor = exchange.getRequest().getHeaders().getFirst("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            int comma = xForwardedFor.indexOf(',');
+            return (comma < 0 ? xForwardedFor : xForwardedFor.substring(0, comma)).trim();
         }
 
         String xRealIp = exchange.getRequest().getHeaders().getFirst("X-Real-IP");
@@ -103,12 +184,11 @@ public class RequestLoggingWebFilter implements WebFilter {
         }
 
         // Fallback a la dirección remota directa
-        if (exchange.getRequest().getRemoteAddress() != null &&
-            exchange.getRequest().getRemoteAddress().getAddress() != null) {
-            return exchange.getRequest().getRemoteAddress().getAddress().getHostAddress();
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            return remoteAddress.getAddress().getHostAddress();
         }
 
         return "unknown";
     }
 }
-
@@ -0,0 +1,74 @@
+package org.example.infrastructure.config;
+
+import org.example.shared.constants.SecurityConstants;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Clasifica cada petición como pública o protegida una sola vez
+ *
+ * Los patrones de SecurityConstants.PUBLIC_PATHS se compilan al arrancar y
+ * se comparan contra la ruta ya descompuesta de la petición. El resultado
+ * queda en un atributo del exchange, así el filtro JWT y las reglas de
+ * autorización de SecurityConfig usan la misma decisión sin recalcularla.
+ */
+@Component
+public class RouteClassifier {
+
+    public static final String ROUTE_ACCESS_ATTRIBUTE = RouteClassifier.class.getName() + ".ROUTE_ACCESS";
+
+    public enum RouteAccess { PUBLIC, PROTECTED }
+
+    private final PathPattern[] publicPatterns;
+
+    public RouteClassifier() {
+        this(SecurityConstants.PUBLIC_PATHS);
+    }
+
+    RouteClassifier(List<String> publicPaths) {
+        this.publicPatterns = publicPaths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toArray(PathPattern[]::new);
+    }
+
+    /**
+     * Decisión de la petición, calculada en la primera consulta
+     */
+    public RouteAccess classify(ServerWebExchange exchange) {
+        RouteAccess access = exchange.getAttribute(ROUTE_ACCESS_ATTRIBUTE);
+        if (access == null) {
+            access = classify(exchange.getRequest().getPath().pathWithinApplication());
+            exchange.getAttributes().put(ROUTE_ACCESS_ATTRIBUTE, access);
+        }
+        return access;
+    }
+
+    public boolean isPublic(ServerWebExchange exchange) {
+        return classify(exchange) == RouteAccess.PUBLIC;
+    }
+
+    /**
+     * Matcher para authorizeExchange que reutiliza la decisión del exchange
+     */
+    public ServerWebExchangeMatcher publicRoutes() {
+        return exchange -> isPublic(exchange)
+                ? ServerWebExchangeMatcher.MatchResult.match()
+                : ServerWebExchangeMatcher.MatchResult.notMatch();
+    }
+
+    private RouteAccess classify(PathContainer path) {
+        for (PathPattern pattern : publicPatterns) {
+            if (pattern.matches(path)) {
+                return RouteAccess.PUBLIC;
+            }
+        }
+        return RouteAccess.PROTECTED;
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.infrastructure.config;
 
 import lombok.RequiredArgsConstructor;
-import org.example.shared.constants.SecurityConstants;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
@@ -18,6 +17,7 @@ import org.springframework.security.web.server.context.NoOpServerSecurityContext
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RouteClassifier routeClassifier;
 
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
@@ -27,15 +27,11 @@ public class SecurityConfig {
                 .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
                 .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
                 .authorizeExchange(exchanges -> exchanges
-                        // Rutas públicas - no requieren token
-                        .pathMatchers(SecurityConstants.AUTH_PATH).permitAll()
-                        .pathMatchers(SecurityConstants.FLIGHTS_PATH).permitAll()
-                        .pathMatchers(SecurityConstants.ACTUATOR_PATH).permitAll()
+                        // Rutas públicas (SecurityConstants.PUBLIC_PATHS) - no requieren token;
+                        // la decisión la calcula RouteClassifier una vez por petición
+                        .matchers(routeClassifier.publicRoutes()).permitAll()
 
-                        // Rutas protegidas - requieren token JWT
-                        .pathMatchers(SecurityConstants.RESERVATIONS_PATH).authenticated()
-
-                        // Cualquier otra ruta requiere autenticación
+                        // Cualquier otra ruta, incluidas las reservas, requiere autenticación
                         .anyExchange().authenticated()
                 )
                 // Agregar el filtro JWT ANTES de la autenticación
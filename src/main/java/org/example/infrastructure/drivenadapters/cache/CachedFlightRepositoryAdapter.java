@@ -0,0 +1,177 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.DailyLowestFare;
+import org.example.application.port.out.FareCalendarCriteria;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.Flight;
+import org.example.domain.valueobject.FlightId;
+import org.example.infrastructure.drivenadapters.memory.FlightChange;
+import org.example.infrastructure.drivenadapters.memory.FlightChangeNotifier;
+import org.example.infrastructure.drivenadapters.r2dbc.adapter.FlightRepositoryAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Decorador de FlightRepositoryPort con caché de lectura para findById
+ *
+ * Guarda en memoria los datos estáticos del vuelo (número, ruta, horarios,
+ * aerolínea, precio). Los asientos disponibles cambian con cada reserva, por
+ * lo que siempre se leen de la base de datos con una consulta de una columna.
+ *
+ * Las búsquedas pasan por FlightSearchCache. Las escrituras de vuelos
+ * invalidan aquí la ruta afectada y se publican en FlightChangeNotifier para
+ * el grafo de rutas; los cambios de ocupación del inventario de asientos
+ * llegan como avisos con la ruta incluida y solo se atienden esos.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachedFlightRepositoryAdapter implements FlightRepositoryPort {
+
+    static final String CACHE_NAME = "flights";
+
+    private final FlightRepositoryAdapter delegate;
+    private final FlightSearchCache searchCache;
+    private final FlightChangeNotifier flightChangeNotifier;
+    private final Cache<Long, Flight> flights;
+
+    public CachedFlightRepositoryAdapter(
+            FlightRepositoryAdapter delegate,
+            FlightSearchCache searchCache,
+            FlightChangeNotifier flightChangeNotifier,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.flights.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.flights.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.searchCache = searchCache;
+        this.flightChangeNotifier = flightChangeNotifier;
+        this.flights = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, flights, CACHE_NAME);
+        log.info("Caché de vuelos inicializada: máximo {} entradas, TTL {}", maximumSize, ttl);
+
+        flightChangeNotifier.changes()
+                .filter(change -> change.kind() == FlightChange.Kind.OCCUPANCY)
+                .subscribe(change -> searchCache.invalidate(change.flight()));
+    }
+
+    @Override
+    public Mono<Flight> findById(FlightId flightId) {
+        Flight cached = flights.getIfPresent(flightId.value());
+        if (cached == null) {
+            return delegate.findById(flightId)
+                    .doOnNext(this::cache);
+        }
+
+        return delegate.findAvailableSeats(flightId)
+                .map(availableSeats -> cached.toBuilder().availableSeats(availableSeats).build())
+                .switchIfEmpty(Mono.fromRunnable(() -> flights.invalidate(flightId.value())));
+    }
+
+    @Override
+    public Flux<Flight> findAllById(Collection<FlightId> flightIds) {
+        return delegate.findAllById(flightIds)
+                .doOnNext(this::cache);
+    }
+
+    @Override
+    public Mono<Flight> save(Flight flight) {
+        return delegate.save(flight)
+                .doOnNext(this::refresh);
+    }
+
+    @Override
+    public Mono<Flight> update(Flight flight) {
+        return delegate.update(flight)
+                .doOnNext(this::refresh);
+    }
+
+    @Override
+    public Mono<Void> deleteById(FlightId flightId) {
+        return delegate.deleteById(flightId)
+                .doFinally(signal -> {
+                    flightChangeNotifier.publish(FlightChange.deleted(flightId));
+                    Flight previous = flights.asMap().remove(flightId.value());
+                    if (previous != null) {
+                        searchCache.invalidate(previous);
+                    }
+                });
+    }
+
+    @Override
+    public Flux<Flight> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Flight> findActiveDepartingAfter(LocalDateTime departureAfter) {
+        return delegate.findActiveDepartingAfter(departureAfter);
+    }
+
+    @Override
+    public Flux<Flight> searchFlights(FlightSearchCriteria criteria) {
+        return searchCache.search(criteria, delegate::searchFlights);
+    }
+
+    @Override
+    public Flux<DailyLowestFare> findLowestFaresByDay(FareCalendarCriteria criteria) {
+        return delegate.findLowestFaresByDay(criteria);
+    }
+
+    // Los cambios de asientos no se avisan aquí: el inventario de asientos avisa
+    // la misma reserva o cancelación con su delta y el grafo la contaría dos veces
+    @Override
+    public Mono<Flight> reserveSeats(FlightId flightId, int quantity) {
+        return delegate.reserveSeats(flightId, quantity)
+                .doOnNext(this::recache);
+    }
+
+    @Override
+    public Mono<Flight> releaseSeats(FlightId flightId, int quantity) {
+        return delegate.releaseSeats(flightId, quantity)
+                .doOnNext(this::recache);
+    }
+
+    /**
+     * Actualiza la entrada y avisa del cambio a los demás índices en memoria
+     */
+    private void refresh(Flight flight) {
+        recache(flight);
+        flightChangeNotifier.publish(FlightChange.updated(flight));
+    }
+
+    /**
+     * Actualiza la entrada e invalida las búsquedas de la ruta anterior y la actual
+     */
+    private void recache(Flight flight) {
+        Flight previous = flights.getIfPresent(flight.getId().value());
+        cache(flight);
+        if (previous != null) {
+            searchCache.invalidate(previous);
+        }
+        searchCache.invalidate(flight);
+    }
+
+    /**
+     * Guarda una copia para que las mutaciones del llamador no alteren la caché
+     */
+    private void cache(Flight flight) {
+        flights.put(flight.getId().value(), flight.toBuilder().build());
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.Flight;
+import org.example.domain.model.enums.FlightSortOrder;
+import org.example.shared.util.CityCodeNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché de resultados de búsqueda por ruta, fecha y pasajeros
+ *
+ * Guarda instantáneas de corta duración. En un fallo de caché las filas se
+ * entregan a medida que llegan de la base de datos mientras se guardan, así
+ * que NDJSON y SSE conservan su primer resultado temprano. Las búsquedas
+ * idénticas que llegan mientras otra está consultando reciben esas mismas
+ * filas en lugar de lanzar su propia consulta. El corte de salida no forma
+ * parte de la clave: los vuelos que partan durante el TTL los descarta el
+ * caso de uso.
+ *
+ * Cada entrada recuerda la generación en que empezó su consulta y cada
+ * invalidación registra la suya por ruta y día: una consulta que empezó antes
+ * de una invalidación que la cubre ya no se sirve, aunque termine después.
+ */
+@Slf4j
+@Component
+public class FlightSearchCache {
+
+    private static final String REQUESTS_METRIC = "flight.search.cache.requests";
+
+    private final Cache<SearchKey, Entry> results;
+    private final Cache<InvalidationKey, Long> invalidatedAt;
+    private final AtomicLong generations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter invalidations;
+
+    public FlightSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.flight-search.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.flight-search.ttl:30s}") Duration ttl) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        // Una invalidación solo importa mientras viva alguna entrada anterior a ella
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        this.invalidations = Counter.builder("flight.search.cache.invalidations")
+                .description("Entradas de búsqueda invalidadas por cambios de asientos")
+                .register(meterRegistry);
+        Gauge.builder("flight.search.cache.hit.ratio", this, FlightSearchCache::hitRatio)
+                .description("Fracción de búsquedas resueltas sin consultar la base de datos")
+                .register(meterRegistry);
+        Gauge.builder("flight.search.cache.size", results, Cache::estimatedSize)
+                .register(meterRegistry);
+
+        log.info("Caché de búsquedas inicializada: máximo {} entradas, TTL {}", maximumSize, ttl);
+    }
+
+    /**
+     * Resultados de la búsqueda, consultando con loader solo si no hay
+     * una instantánea vigente ni una consulta idéntica en curso
+     */
+    public Flux<Flight> search(FlightSearchCriteria criteria, Function<FlightSearchCriteria, Flux<Flight>> loader) {
+        SearchKey key = SearchKey.of(criteria);
+        return Flux.defer(() -> {
+            AtomicBoolean loaded = new AtomicBoolean();
+            Entry entry = results.asMap().compute(key, (k, current) -> {
+                if (current != null && !isStale(k, current)) {
+                    return current;
+                }
+                loaded.set(true);
+                return load(k, criteria, loader);
+            });
+
+            if (loaded.get()) {
+                misses.increment();
+            } else if (entry.isComplete()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+
+            return entry.flights()
+                    .map(flight -> flight.toBuilder().build());
+        });
+    }
+
+    /**
+     * Elimina las búsquedas de la ruta para ese día y las que no filtran por fecha
+     */
+    public void invalidate(String origin, String destination, LocalDate departureDay) {
+        // Primero la generación: una consulta en curso que se escape del barrido queda obsoleta igual
+        long generation = generations.incrementAndGet();
+        invalidatedAt.put(new InvalidationKey(origin, destination, departureDay), generation);
+        invalidatedAt.put(new InvalidationKey(origin, destination, null), generation);
+
+        int removed = 0;
+        Iterator<SearchKey> keys = results.asMap().keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().covers(origin, destination, departureDay)) {
+                keys.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            invalidations.increment(removed);
+            log.debug("Invalidadas {} búsquedas de {} a {} para {}", removed, origin, destination, departureDay);
+        }
+    }
+
+    public void invalidate(Flight flight) {
+        invalidate(flight.getOrigin().value(), flight.getDestination().value(),
+                flight.getDepartureTime().toLocalDate());
+    }
+
+    /**
+     * Consulta compartida: las filas se reenvían mientras llegan y quedan
+     * guardadas para las siguientes búsquedas. cache() no cancela la consulta
+     * si el cliente que la inició se desconecta.
+     */
+    private Entry load(SearchKey key, FlightSearchCriteria criteria,
+                       Function<FlightSearchCriteria, Flux<Flight>> loader) {
+        Entry entry = new Entry(generations.incrementAndGet());
+        entry.flights = loader.apply(criteria)
+                // Los errores no se guardan: se retira antes de avisar al suscriptor
+                .doOnError(error -> results.asMap().remove(key, entry))
+                .doOnComplete(() -> entry.complete = true)
+                .cache();
+        return entry;
+    }
+
+    /**
+     * La consulta empezó antes de la última invalidación que cubre su ruta y día
+     */
+    private boolean isStale(SearchKey key, Entry entry) {
+        Long invalidated = invalidatedAt.getIfPresent(new InvalidationKey(key.origin(), key.destination(), key.day()));
+        return invalidated != null && invalidated > entry.generation();
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + coalesced.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUESTS_METRIC)
+                .description("Búsquedas de vuelos atendidas por la caché de rutas")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Búsqueda guardada: generación en que empezó y filas repetibles
+     */
+    private static final class Entry {
+
+        private final long generation;
+        private Flux<Flight> flights;
+        private volatile boolean complete;
+
+        Entry(long generation) {
+            this.generation = generation;
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        Flux<Flight> flights() {
+            return flights;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+    }
+
+    /**
+     * Ruta y día invalidados; day null representa las búsquedas sin fecha
+     */
+    private record InvalidationKey(String origin, String destination, LocalDate day) {
+    }
+
+    /**
+     * Clave normalizada de una búsqueda
+     */
+    record SearchKey(String origin, String destination, LocalDate day, int passengers,
+                     FlightSortOrder sortOrder, Integer limit) {
+
+        static SearchKey of(FlightSearchCriteria criteria) {
+            return new SearchKey(
+                    CityCodeNormalizer.normalize(criteria.origin()),
+                    CityCodeNormalizer.normalize(criteria.destination()),
+                    criteria.departureDate() != null ? criteria.departureDate().toLocalDate() : null,
+                    criteria.passengers(),
+                    criteria.sortOrder(),
+                    criteria.limit());
+        }
+
+        boolean covers(String origin, String destination, LocalDate departureDay) {
+            return this.origin.equals(origin)
+                    && this.destination.equals(destination)
+                    && (day == null || day.equals(departureDay));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.exception.IdempotencyKeyReusedException;
+import org.example.shared.constants.MessageConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resultados de operaciones no idempotentes indexados por usuario y la clave que envía el cliente
+ *
+ * La primera solicitud con una clave ejecuta la operación; las repeticiones
+ * reciben el mismo resultado sin volver a ejecutarla, y las que llegan
+ * mientras la primera sigue en curso esperan ese mismo resultado. Los errores
+ * no se guardan: un reintento después de un fallo vuelve a ejecutar. Cada
+ * entrada recuerda la solicitud original para rechazar la clave si se reutiliza
+ * con otro contenido. Las claves de un usuario no chocan con las de otro, y
+ * nadie recibe el resultado guardado de otro usuario.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final String REQUESTS_METRIC = "idempotency.requests";
+
+    private final Cache<StoreKey, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public IdempotencyStore(
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${app.idempotency.ttl:24h}") Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        this.rejected = requests(meterRegistry, "rejected");
+        Gauge.builder("idempotency.store.size", entries, Cache::estimatedSize)
+                .register(meterRegistry);
+
+        log.info("Almacén de idempotencia inicializado: máximo {} claves, TTL {}", maximumSize, ttl);
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave y devuelve su resultado a todas las repeticiones
+     *
+     * @param owner       usuario autenticado que envía la solicitud
+     * @param key         clave enviada por el cliente
+     * @param fingerprint solicitud original; debe implementar equals
+     * @param operation   operación a ejecutar si la clave es nueva
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String owner, String key, Object fingerprint, Mono<T> operation) {
+        return Mono.defer(() -> {
+            validate(key);
+            if (owner == null) {
+                throw new IllegalArgumentException("Idempotency key owner is required");
+            }
+
+            StoreKey storeKey = new StoreKey(owner, key);
+            Entry candidate = new Entry(fingerprint, new CompletableFuture<>());
+            Entry entry = entries.asMap().putIfAbsent(storeKey, candidate);
+
+            if (entry == null) {
+                misses.increment();
+                run(storeKey, candidate, operation);
+                entry = candidate;
+            } else if (!entry.fingerprint().equals(fingerprint)) {
+                rejected.increment();
+                return Mono.error(new IdempotencyKeyReusedException(MessageConstants.IDEMPOTENCY_KEY_REUSED));
+            } else if (entry.result().isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+
+            // suppressCancel: un cliente que se desconecta no cancela el resultado compartido
+            return Mono.fromFuture(entry.result(), true).map(value -> (T) value);
+        });
+    }
+
+    /**
+     * La operación corre desacoplada de quien la pidió, así termina aunque ese cliente se desconecte
+     */
+    private void run(StoreKey key, Entry entry, Mono<?> operation) {
+        operation.toFuture().whenComplete((value, error) -> {
+            if (error != null) {
+                // Se retira antes de avisar, para que el reintento encuentre la clave libre
+                entries.asMap().remove(key, entry);
+                entry.result().completeExceptionally(error);
+            } else {
+                entry.result().complete(value);
+            }
+        });
+    }
+
+    private static void validate(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format(MessageConstants.IDEMPOTENCY_KEY_INVALID, MAX_KEY_LENGTH));
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUESTS_METRIC)
+                .description("Solicitudes con clave de idempotencia según cómo se resolvieron")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record StoreKey(String owner, String key) { }
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> result) { }
+}
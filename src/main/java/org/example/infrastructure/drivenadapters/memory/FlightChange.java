@@ -0,0 +1,34 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import org.example.domain.model.Flight;
+import org.example.domain.valueobject.FlightId;
+
+/**
+ * Aviso de cambio de un vuelo publicado en FlightChangeNotifier
+ *
+ * UPDATED trae el vuelo tal como quedó en la tabla flights y DELETED solo su
+ * ID. OCCUPANCY trae el vuelo con el que se cargó el mapa de asientos (sirve
+ * para la ruta y el día, no para los asientos disponibles) y en seatDelta los
+ * asientos devueltos (positivo) o tomados (negativo) por la reserva o
+ * cancelación.
+ */
+public record FlightChange(Kind kind, FlightId flightId, Flight flight, int seatDelta) {
+
+    public enum Kind {
+        UPDATED,
+        DELETED,
+        OCCUPANCY
+    }
+
+    public static FlightChange updated(Flight flight) {
+        return new FlightChange(Kind.UPDATED, flight.getId(), flight, 0);
+    }
+
+    public static FlightChange deleted(FlightId flightId) {
+        return new FlightChange(Kind.DELETED, flightId, null, 0);
+    }
+
+    public static FlightChange occupancy(Flight flight, int seatDelta) {
+        return new FlightChange(Kind.OCCUPANCY, flight.getId(), flight, seatDelta);
+    }
+}
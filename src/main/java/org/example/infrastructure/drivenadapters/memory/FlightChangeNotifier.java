@@ -0,0 +1,39 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Difunde los vuelos que cambiaron: ocupación (reserva o cancelación) o datos del vuelo
+ *
+ * Se publica desde hilos de Netty y R2DBC justo después de escribir, así que
+ * publicar nunca espera: los avisos entran en una cola MPSC que admite varios
+ * productores a la vez y los suscriptores los reciben en orden. Los
+ * suscriptores solo actualizan estructuras en memoria.
+ */
+@Slf4j
+@Component
+public class FlightChangeNotifier {
+
+    // Sin la serialización de Sinks.many(): la cola MPSC admite varios productores
+    private final Sinks.Many<FlightChange> changes = Sinks.unsafe().many().unicast()
+            .onBackpressureBuffer(Queues.<FlightChange>unboundedMultiproducer().get());
+    private final Flux<FlightChange> subscribers = changes.asFlux()
+            .publish()
+            .autoConnect(0);
+
+    public void publish(FlightChange change) {
+        Sinks.EmitResult result = changes.tryEmitNext(change);
+        if (result.isFailure()) {
+            // Con cola sin límite solo falla si el flujo terminó
+            log.warn("Aviso de cambio descartado para el vuelo ID: {}: {}", change.flightId().value(), result);
+        }
+    }
+
+    public Flux<FlightChange> changes() {
+        return subscribers;
+    }
+}
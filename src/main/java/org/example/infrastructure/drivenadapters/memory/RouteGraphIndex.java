@@ -0,0 +1,174 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.ConnectionSearchCriteria;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.RouteGraphPort;
+import org.example.domain.model.Itinerary;
+import org.example.domain.model.RouteGraph;
+import org.example.domain.valueobject.FlightId;
+import org.example.shared.util.CityCodeNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Grafo de rutas en memoria alimentado desde la tabla flights
+ *
+ * Se carga la primera vez que se consulta, leyendo solo los vuelos activos que
+ * aún no han salido, y después se actualiza con los avisos de
+ * FlightChangeNotifier sin volver a la base de datos: los vuelos escritos se
+ * reemplazan con los datos del aviso y las reservas o cancelaciones aplican
+ * su delta de asientos. Los avisos que llegan antes de la carga se ignoran
+ * (la carga ya los verá); los que llegan durante la carga solo marcan el
+ * vuelo, que se relee al terminar. Cada sweep-interval se retiran los vuelos
+ * que ya salieron.
+ */
+@Slf4j
+@Component
+public class RouteGraphIndex implements RouteGraphPort {
+
+    private final FlightRepositoryPort flightRepository;
+    private final RouteGraph routeGraph;
+    private final Mono<RouteGraph> loadedGraph;
+    private final Duration sweepInterval;
+    private final AtomicReference<Set<FlightId>> changedWhileLoading = new AtomicReference<>();
+    private volatile boolean loaded;
+    private Disposable sweeper;
+
+    public RouteGraphIndex(
+            FlightRepositoryPort flightRepository,
+            FlightChangeNotifier flightChangeNotifier,
+            MeterRegistry meterRegistry,
+            @Value("${app.route-graph.min-connection-time:45m}") Duration minConnectionTime,
+            @Value("${app.route-graph.max-layover:12h}") Duration maxLayover,
+            @Value("${app.route-graph.sweep-interval:5m}") Duration sweepInterval) {
+        this.flightRepository = flightRepository;
+        this.routeGraph = new RouteGraph(minConnectionTime, maxLayover);
+        this.sweepInterval = sweepInterval;
+
+        // Un error de carga no queda en caché: la siguiente búsqueda reintenta
+        this.loadedGraph = Mono.defer(this::load)
+                .cache(graph -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+
+        Gauge.builder("flight.route.graph.size", routeGraph, RouteGraph::size)
+                .description("Vuelos indexados en el grafo de rutas")
+                .register(meterRegistry);
+        log.info("Grafo de rutas configurado: conexión mínima {}, espera máxima {}, limpieza cada {}",
+                minConnectionTime, maxLayover, sweepInterval);
+
+        flightChangeNotifier.changes().subscribe(this::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sweeper = Flux.interval(sweepInterval, sweepInterval)
+                .subscribe(tick -> removeDeparted());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    @Override
+    public Flux<Itinerary> findItineraries(ConnectionSearchCriteria criteria) {
+        String origin = CityCodeNormalizer.normalize(criteria.origin());
+        String destination = CityCodeNormalizer.normalize(criteria.destination());
+
+        return loadedGraph.flatMapIterable(graph -> graph.findItineraries(
+                origin,
+                destination,
+                criteria.departureFrom(),
+                criteria.departureTo(),
+                criteria.passengers(),
+                criteria.maxStops()));
+    }
+
+    private Mono<RouteGraph> load() {
+        changedWhileLoading.set(ConcurrentHashMap.newKeySet());
+        return flightRepository.findActiveDepartingAfter(LocalDateTime.now())
+                .collectList()
+                .flatMap(flights -> {
+                    routeGraph.replaceAll(flights);
+                    loaded = true;
+                    log.info("Grafo de rutas cargado con {} vuelos", routeGraph.size());
+                    return reloadChangedWhileLoading();
+                })
+                .doOnError(error -> changedWhileLoading.set(null))
+                .thenReturn(routeGraph);
+    }
+
+    /**
+     * La carga pudo leer un vuelo antes o después de su cambio: se relee
+     */
+    private Mono<Void> reloadChangedWhileLoading() {
+        Set<FlightId> changed = changedWhileLoading.getAndSet(null);
+        if (changed == null || changed.isEmpty()) {
+            return Mono.empty();
+        }
+        changed.forEach(routeGraph::remove);
+        LocalDateTime now = LocalDateTime.now();
+        return flightRepository.findAllById(changed)
+                .filter(flight -> flight.getDepartureTime().isAfter(now))
+                .doOnNext(routeGraph::upsert)
+                .then();
+    }
+
+    /**
+     * Aplica el aviso al grafo ya cargado, sin consultar la base de datos
+     */
+    private void apply(FlightChange change) {
+        Set<FlightId> pending = changedWhileLoading.get();
+        if (pending != null) {
+            pending.add(change.flightId());
+            return;
+        }
+        if (!loaded) {
+            return;
+        }
+
+        try {
+            switch (change.kind()) {
+                case UPDATED -> {
+                    if (change.flight().getDepartureTime().isAfter(LocalDateTime.now())) {
+                        routeGraph.upsert(change.flight());
+                    } else {
+                        routeGraph.remove(change.flightId());
+                    }
+                }
+                case DELETED -> routeGraph.remove(change.flightId());
+                case OCCUPANCY -> routeGraph.adjustSeats(change.flightId(), change.seatDelta());
+            }
+        } catch (RuntimeException error) {
+            // Un aviso que falla no debe cortar la suscripción
+            log.warn("No se pudo actualizar el grafo de rutas para el vuelo ID: {}: {}",
+                    change.flightId().value(), error.getMessage());
+        }
+    }
+
+    /**
+     * Retira los vuelos que ya salieron
+     */
+    void removeDeparted() {
+        int removed = routeGraph.removeDepartedBy(LocalDateTime.now());
+        if (removed > 0) {
+            log.debug("Retirados {} vuelos ya despegados del grafo de rutas", removed);
+        }
+    }
+}
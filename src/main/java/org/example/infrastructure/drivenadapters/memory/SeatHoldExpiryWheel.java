@@ -0,0 +1,197 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.ReservationId;
+import org.example.shared.util.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Vencimiento de retenciones de asiento con una rueda de temporización en memoria
+ *
+ * Cada retención ocupa una entrada en la rueda (sin hilos ni tareas por
+ * retención) y un solo hilo la avanza cada tick. Las retenciones vencidas en
+ * un tick se agrupan por vuelo y se liberan por lotes de batch-size con una
+ * sentencia por lote. Cada lote corre en el turno de su vuelo en el
+ * secuenciador, así que no se intercala con una cancelación o un cambio de
+ * asiento del mismo vuelo. La base de datos vuelve a comprobar estado y
+ * plazo, así que una retención confirmada a último momento no se libera. Si
+ * un lote falla se reprograma para el siguiente tick. Al arrancar se
+ * reprograman las retenciones que quedaron pendientes en la base de datos.
+ */
+@Slf4j
+@Component
+public class SeatHoldExpiryWheel implements SeatHoldPort {
+
+    private static final String THREAD_NAME = "seat-hold-wheel";
+
+    private final ReservationRepositoryPort reservationRepository;
+    private final SeatInventoryPort seatInventory;
+    private final FlightMutationSequencerPort flightSequencer;
+    private final Duration holdDuration;
+    private final Duration tickDuration;
+    private final int batchSize;
+    private final HashedTimingWheel<Hold> wheel;
+    private final Map<ReservationId, HashedTimingWheel.Timeout<Hold>> scheduled = new ConcurrentHashMap<>();
+    private final Counter expiredHolds;
+
+    @Autowired
+    public SeatHoldExpiryWheel(
+            ReservationRepositoryPort reservationRepository,
+            SeatInventoryPort seatInventory,
+            FlightMutationSequencerPort flightSequencer,
+            MeterRegistry meterRegistry,
+            @Value("${app.seat-hold.ttl:10m}") Duration holdDuration,
+            @Value("${app.seat-hold.tick:1s}") Duration tickDuration,
+            @Value("${app.seat-hold.wheel-size:512}") int wheelSize,
+            @Value("${app.seat-hold.batch-size:500}") int batchSize) {
+        this(reservationRepository, seatInventory, flightSequencer, meterRegistry, holdDuration, tickDuration,
+                wheelSize, batchSize, System::nanoTime);
+    }
+
+    SeatHoldExpiryWheel(
+            ReservationRepositoryPort reservationRepository,
+            SeatInventoryPort seatInventory,
+            FlightMutationSequencerPort flightSequencer,
+            MeterRegistry meterRegistry,
+            Duration holdDuration,
+            Duration tickDuration,
+            int wheelSize,
+            int batchSize,
+            LongSupplier clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Seat hold batch size must be positive");
+        }
+        this.reservationRepository = reservationRepository;
+        this.seatInventory = seatInventory;
+        this.flightSequencer = flightSequencer;
+        this.holdDuration = holdDuration;
+        this.tickDuration = tickDuration;
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel<>(tickDuration, wheelSize, clock, this::expire);
+
+        Gauge.builder("seat.hold.pending", wheel, HashedTimingWheel::size)
+                .description("Retenciones de asiento esperando confirmación o vencimiento")
+                .register(meterRegistry);
+        this.expiredHolds = Counter.builder("seat.hold.expired")
+                .description("Retenciones vencidas cuyo asiento se liberó")
+                .register(meterRegistry);
+        log.info("Retenciones de asiento configuradas: duración {}, tick {}, lote {}",
+                holdDuration, tickDuration, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel.start(THREAD_NAME);
+        reservationRepository.findPendingHolds()
+                .flatMap(hold -> schedule(hold.getId(), hold.getFlightId(), hold.getHoldExpiresAt()))
+                .count()
+                .subscribe(
+                        count -> log.info("Retenciones pendientes reprogramadas al arrancar: {}", count),
+                        error -> log.error("No se pudieron reprogramar las retenciones: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        wheel.stop();
+    }
+
+    @Override
+    public Duration holdDuration() {
+        return holdDuration;
+    }
+
+    @Override
+    public Mono<Void> schedule(ReservationId reservationId, FlightId flightId, LocalDateTime expiresAt) {
+        return schedule(new Hold(reservationId, flightId), expiresAt);
+    }
+
+    private Mono<Void> schedule(Hold hold, LocalDateTime expiresAt) {
+        return Mono.fromRunnable(() -> {
+            HashedTimingWheel.Timeout<Hold> previous = scheduled.put(hold.reservationId(),
+                    wheel.schedule(hold, Duration.between(LocalDateTime.now(), expiresAt)));
+            if (previous != null) {
+                previous.cancel();
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> cancel(ReservationId reservationId) {
+        return Mono.fromRunnable(() -> {
+            HashedTimingWheel.Timeout<Hold> timeout = scheduled.remove(reservationId);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        });
+    }
+
+    /**
+     * Manejador de la rueda: corre en su hilo, así que solo arma los lotes
+     * y deja la escritura a los hilos de R2DBC
+     */
+    void expire(List<Hold> holds) {
+        holds.forEach(hold -> scheduled.remove(hold.reservationId()));
+        Map<FlightId, List<Hold>> byFlight = holds.stream()
+                .collect(Collectors.groupingBy(Hold::flightId, LinkedHashMap::new, Collectors.toList()));
+        // Un vuelo a la vez: el vencimiento es de fondo y no debe acaparar conexiones
+        Flux.fromIterable(byFlight.entrySet())
+                .concatMap(flight -> Flux.fromIterable(flight.getValue())
+                        .buffer(batchSize)
+                        .concatMap(batch -> flightSequencer.serialize(flight.getKey(), release(batch))
+                                // También cubre el límite de tiempo del turno
+                                .onErrorResume(error -> retry(batch, error))))
+                .subscribe();
+    }
+
+    private Mono<Void> release(List<Hold> batch) {
+        // El plazo se compara cuando llega el turno, no cuando se arma el lote
+        return Flux.defer(() -> reservationRepository.releaseExpiredHolds(
+                        batch.stream().map(Hold::reservationId).toList(), LocalDateTime.now()))
+                .concatMap(seat -> seatInventory.release(seat.flightId(), seat.seatNumber()).thenReturn(seat))
+                .count()
+                .doOnNext(released -> {
+                    // Las confirmadas o canceladas mientras tanto no liberan asiento
+                    expiredHolds.increment(released);
+                    log.info("Retenciones vencidas: {} de {} liberaron su asiento", released, batch.size());
+                })
+                .then();
+    }
+
+    private Mono<Void> retry(List<Hold> batch, Throwable error) {
+        log.error("Error al liberar {} retenciones, se reintentará: {}", batch.size(), error.getMessage());
+        LocalDateTime retryAt = LocalDateTime.now().plus(tickDuration);
+        return Flux.fromIterable(batch)
+                .concatMap(hold -> schedule(hold, retryAt))
+                .then();
+    }
+
+    /**
+     * Retención programada; el vuelo decide en qué turno se libera
+     */
+    record Hold(ReservationId reservationId, FlightId flightId) {
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.model.Flight;
+import org.example.domain.model.SeatMap;
+import org.example.domain.model.Ticket;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.SeatNumber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Inventario de asientos en memoria con un SeatMap por vuelo
+ *
+ * Cada vuelo se carga de forma perezosa desde la tabla tickets la primera vez
+ * que se consulta. Las mutaciones esperan a que termine la carga y son
+ * idempotentes, por lo que un ticket escrito durante la carga queda reflejado
+ * tanto si la lectura lo vio como si no.
+ *
+ * Los mapas viven en una caché acotada: los vuelos que nadie consulta durante
+ * expire-after-access (por ejemplo, los que ya salieron) se descartan y, si
+ * vuelven a pedirse, se recargan desde tickets.
+ */
+@Slf4j
+@Component
+public class SeatInventory implements SeatInventoryPort {
+
+    static final String CACHE_NAME = "seat-maps";
+
+    private final FlightRepositoryPort flightRepository;
+    private final TicketRepositoryPort ticketRepository;
+    private final FlightChangeNotifier flightChangeNotifier;
+    private final Cache<Long, Mono<FlightSeats>> seatMaps;
+
+    public SeatInventory(
+            FlightRepositoryPort flightRepository,
+            TicketRepositoryPort ticketRepository,
+            FlightChangeNotifier flightChangeNotifier,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.seat-maps.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.seat-maps.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.flightRepository = flightRepository;
+        this.ticketRepository = ticketRepository;
+        this.flightChangeNotifier = flightChangeNotifier;
+        this.seatMaps = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, seatMaps, CACHE_NAME);
+        log.info("Inventario de asientos inicializado: máximo {} vuelos, expiración por acceso {}",
+                maximumSize, expireAfterAccess);
+    }
+
+    @Override
+    public Mono<Boolean> isSeatTaken(FlightId flightId, SeatNumber seatNumber) {
+        return seatMap(flightId)
+                .map(seatMap -> seatMap.isTaken(seatNumber))
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<List<SeatNumber>> findFreeSeats(FlightId flightId, int quantity) {
+        return seatMap(flightId)
+                .map(seatMap -> seatMap.findFreeSeats(quantity))
+                .defaultIfEmpty(List.of());
+    }
+
+    @Override
+    public Mono<Void> occupy(FlightId flightId, SeatNumber seatNumber) {
+        return flightSeats(flightId)
+                .doOnNext(seats -> {
+                    if (seats.seatMap().occupy(seatNumber)) {
+                        flightChangeNotifier.publish(FlightChange.occupancy(seats.flight(), -1));
+                    }
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> release(FlightId flightId, SeatNumber seatNumber) {
+        return flightSeats(flightId)
+                .doOnNext(seats -> {
+                    if (seats.seatMap().release(seatNumber)) {
+                        flightChangeNotifier.publish(FlightChange.occupancy(seats.flight(), 1));
+                    }
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> move(FlightId flightId, SeatNumber from, SeatNumber to) {
+        return seatMap(flightId)
+                .doOnNext(seatMap -> seatMap.move(from, to))
+                .then();
+    }
+
+    @Override
+    public Mono<SeatMap> getSeatMap(FlightId flightId) {
+        return seatMap(flightId);
+    }
+
+    private Mono<SeatMap> seatMap(FlightId flightId) {
+        return flightSeats(flightId).map(FlightSeats::seatMap);
+    }
+
+    /**
+     * Mapa de asientos del vuelo, cargándolo la primera vez que se solicita
+     */
+    private Mono<FlightSeats> flightSeats(FlightId flightId) {
+        return seatMaps.get(flightId.value(), id -> hydrate(flightId).cache());
+    }
+
+    private Mono<FlightSeats> hydrate(FlightId flightId) {
+        return flightRepository.findById(flightId)
+                .flatMap(flight -> ticketRepository.findByFlightId(flightId)
+                        .filter(ticket -> !ticket.isCancelled())
+                        .map(Ticket::getSeatNumber)
+                        .collectList()
+                        .map(seats -> {
+                            SeatMap seatMap = new SeatMap(flight.getTotalSeats());
+                            seats.forEach(seatMap::occupy);
+                            log.debug("Mapa de asientos cargado para vuelo ID: {} ({} ocupados)",
+                                    flightId.value(), seats.size());
+                            return new FlightSeats(flight, seatMap);
+                        }))
+                // No dejar en caché vuelos inexistentes ni errores de carga
+                .switchIfEmpty(Mono.fromRunnable(() -> seatMaps.invalidate(flightId.value())))
+                .doOnError(error -> seatMaps.invalidate(flightId.value()));
+    }
+
+    /**
+     * Ocupación del vuelo junto con el vuelo que la originó, para avisar la ruta
+     */
+    private record FlightSeats(Flight flight, SeatMap seatMap) {
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.domain.valueobject.FlightId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serializa las mutaciones por vuelo con carriles de un solo consumidor
+ *
+ * Cada vuelo cae en uno de stripes carriles (potencia de dos) según su ID.
+ * Un carril es un Sinks.Many unicast sobre una cola MPSC consumido con
+ * concatMap: la siguiente mutación se suscribe cuando termina la anterior.
+ * Encolar nunca espera ni reintenta aunque varios hilos emitan a la vez,
+ * así que ningún hilo se bloquea esperando su turno. Las
+ * mutaciones de un vuelo nunca se solapan, así que no compiten por la misma
+ * fila de flights ni por el mismo asiento; vuelos en carriles distintos
+ * avanzan en paralelo. Dos vuelos que comparten carril se esperan entre sí,
+ * por eso el número de carriles debe ser holgado frente a la concurrencia.
+ * Una mutación que supera timeout se cancela (su transacción se revierte)
+ * para que un vuelo atascado no detenga el carril.
+ */
+@Slf4j
+@Component
+public class StripedFlightSequencer implements FlightMutationSequencerPort {
+
+    private final List<Sinks.Many<Mutation<?>>> lanes;
+    private final int mask;
+    private final Duration timeout;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public StripedFlightSequencer(
+            MeterRegistry meterRegistry,
+            @Value("${app.flight-sequencer.stripes:256}") int stripes,
+            @Value("${app.flight-sequencer.timeout:30s}") Duration timeout) {
+        if (stripes <= 0 || stripes > 1 << 16) {
+            throw new IllegalArgumentException("Flight sequencer stripes must be between 1 and 65536");
+        }
+        int laneCount = Integer.highestOneBit(stripes) < stripes ? Integer.highestOneBit(stripes) << 1 : stripes;
+
+        this.lanes = new ArrayList<>(laneCount);
+        this.mask = laneCount - 1;
+        this.timeout = timeout;
+        for (int i = 0; i < laneCount; i++) {
+            // Sin la serialización de Sinks.many(): la cola MPSC admite varios productores
+            Sinks.Many<Mutation<?>> lane = Sinks.unsafe().many().unicast()
+                    .onBackpressureBuffer(Queues.<Mutation<?>>unboundedMultiproducer().get());
+            lane.asFlux()
+                    .concatMap(this::run, 0)
+                    .subscribe();
+            lanes.add(lane);
+        }
+
+        Gauge.builder("flight.mutation.queued", queued, AtomicInteger::get)
+                .description("Mutaciones de vuelo esperando su turno en el carril")
+                .register(meterRegistry);
+        log.info("Secuenciador de mutaciones por vuelo configurado con {} carriles, límite {}", laneCount, timeout);
+    }
+
+    @Override
+    public <T> Mono<T> serialize(FlightId flightId, Mono<T> mutation) {
+        return Mono.create(sink -> {
+            Mutation<T> pending = new Mutation<>(mutation, sink);
+            sink.onCancel(pending::cancel);
+            queued.incrementAndGet();
+            Sinks.EmitResult result = lanes.get(lane(flightId)).tryEmitNext(pending);
+            if (result.isFailure()) {
+                // Con cola sin límite solo falla si el carril terminó
+                queued.decrementAndGet();
+                sink.error(new IllegalStateException("Flight mutation lane rejected the mutation: " + result));
+            }
+        });
+    }
+
+    private int lane(FlightId flightId) {
+        // Mezcla los bits para que IDs consecutivos no dependan solo de los bits bajos
+        long id = flightId.value();
+        int hash = (int) (id ^ (id >>> 32));
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9 >>> 16 & mask;
+    }
+
+    private Mono<Void> run(Mutation<?> mutation) {
+        queued.decrementAndGet();
+        return mutation.run(timeout);
+    }
+
+    /**
+     * Mutación en espera; el carril solo avanza cuando termina
+     */
+    private static final class Mutation<T> {
+
+        private final Mono<T> mutation;
+        private final MonoSink<T> sink;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Mutation(Mono<T> mutation, MonoSink<T> sink) {
+            this.mutation = mutation;
+            this.sink = sink;
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+
+        Mono<Void> run(Duration timeout) {
+            if (cancelled.get()) {
+                return Mono.empty();
+            }
+            return Mono.defer(() -> mutation)
+                    .timeout(timeout)
+                    .doOnSuccess(sink::success)
+                    .doOnError(sink::error)
+                    // Un error de la mutación no debe cerrar el carril
+                    .onErrorResume(error -> Mono.empty())
+                    .then();
+        }
+    }
+}
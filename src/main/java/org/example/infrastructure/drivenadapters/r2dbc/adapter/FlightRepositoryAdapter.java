@@ -1,17 +1,22 @@
 package org.example.infrastructure.drivenadapters.r2dbc.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.example.application.port.out.DailyLowestFare;
+import org.example.application.port.out.FareCalendarCriteria;
 import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.FlightSearchCriteria;
 import org.example.domain.model.Flight;
 import org.example.domain.valueobject.FlightId;
 import org.example.infrastructure.drivenadapters.r2dbc.mapper.FlightPersistenceMapper;
 import org.example.infrastructure.drivenadapters.r2dbc.repository.FlightR2dbcRepository;
+import org.example.infrastructure.drivenadapters.r2dbc.repository.FlightSearchRepository;
 import org.example.shared.util.CityCodeNormalizer;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Adaptador que implementa FlightRepositoryPort usando R2DBC
@@ -21,6 +26,7 @@ import java.time.LocalDateTime;
 public class FlightRepositoryAdapter implements FlightRepositoryPort {
 
     private final FlightR2dbcRepository r2dbcRepository;
+    private final FlightSearchRepository searchRepository;
     private final FlightPersistenceMapper mapper;
 
     @Override
@@ -29,6 +35,22 @@ public class FlightRepositoryAdapter implements FlightRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<Flight> findAllById(Collection<FlightId> flightIds) {
+        if (flightIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return r2dbcRepository.findAllById(flightIds.stream().map(FlightId::value).toList())
+                .map(mapper::toDomain);
+    }
+
+    /**
+     * Consulta solo los asientos disponibles (dato mutable del vuelo)
+     */
+    public Mono<Integer> findAvailableSeats(FlightId flightId) {
+        return r2dbcRepository.findAvailableSeatsById(flightId.value());
+    }
+
     @Override
     public Mono<Flight> save(Flight flight) {
         return r2dbcRepository.save(mapper.toEntity(flight))
@@ -53,18 +75,49 @@ public class FlightRepositoryAdapter implements FlightRepositoryPort {
     }
 
     @Override
-    public Flux<Flight> searchFlights(String origin, String destination, LocalDateTime departureDate) {
+    public Flux<Flight> findActiveDepartingAfter(LocalDateTime departureAfter) {
+        return r2dbcRepository.findActiveDepartingAfter(departureAfter)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Flight> searchFlights(FlightSearchCriteria criteria) {
         // Normalizar nombres de ciudades a códigos IATA
-        String normalizedOrigin = CityCodeNormalizer.normalize(origin);
-        String normalizedDestination = CityCodeNormalizer.normalize(destination);
+        FlightSearchCriteria normalized = new FlightSearchCriteria(
+                CityCodeNormalizer.normalize(criteria.origin()),
+                CityCodeNormalizer.normalize(criteria.destination()),
+                criteria.departureDate(),
+                criteria.passengers(),
+                criteria.departureAfter(),
+                criteria.sortOrder(),
+                criteria.limit()
+        );
 
-        if (departureDate != null) {
-            return r2dbcRepository.findByOriginDestinationAndDate(
-                    normalizedOrigin, normalizedDestination, departureDate)
-                    .map(mapper::toDomain);
-        }
-        return r2dbcRepository.findByOriginAndDestination(normalizedOrigin, normalizedDestination)
+        return searchRepository.search(normalized)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<DailyLowestFare> findLowestFaresByDay(FareCalendarCriteria criteria) {
+        return searchRepository.lowestFaresByDay(new FareCalendarCriteria(
+                CityCodeNormalizer.normalize(criteria.origin()),
+                CityCodeNormalizer.normalize(criteria.destination()),
+                criteria.departureFrom(),
+                criteria.departureTo(),
+                criteria.passengers(),
+                criteria.departureAfter()
+        ));
+    }
+
+    @Override
+    public Mono<Flight> reserveSeats(FlightId flightId, int quantity) {
+        return r2dbcRepository.decrementAvailableSeats(flightId.value(), quantity)
                 .map(mapper::toDomain);
     }
-}
 
+    @Override
+    public Mono<Flight> releaseSeats(FlightId flightId, int quantity) {
+        return r2dbcRepository.incrementAvailableSeats(flightId.value(), quantity)
+                .map(mapper::toDomain);
+    }
+}
@@ -1,16 +1,28 @@
 package org.example.infrastructure.drivenadapters.r2dbc.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.example.application.port.out.ReleasedSeat;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.domain.exception.SeatAlreadyTakenException;
 import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.valueobject.FlightId;
 import org.example.domain.valueobject.ReservationId;
+import org.example.domain.valueobject.SeatNumber;
 import org.example.domain.valueobject.UserId;
 import org.example.infrastructure.drivenadapters.r2dbc.mapper.ReservationPersistenceMapper;
+import org.example.infrastructure.drivenadapters.r2dbc.repository.GroupBookingRepository;
 import org.example.infrastructure.drivenadapters.r2dbc.repository.ReservationR2dbcRepository;
+import org.example.infrastructure.drivenadapters.r2dbc.repository.SeatHoldRepository;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Adaptador que implementa ReservationRepositoryPort usando R2DBC
  */
@@ -20,6 +32,8 @@ public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
 
     private final ReservationR2dbcRepository r2dbcRepository;
     private final ReservationPersistenceMapper mapper;
+    private final GroupBookingRepository groupBookingRepository;
+    private final SeatHoldRepository seatHoldRepository;
 
     @Override
     public Mono<Reservation> findById(ReservationId reservationId) {
@@ -50,10 +64,78 @@ public class ReservationRepositoryAdapter implements ReservationRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<Reservation> findByUserIdAfter(UserId userId, long afterReservationId, int limit) {
+        return r2dbcRepository.findByUserIdAfter(userId.value(), afterReservationId, limit)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Flux<Reservation> findAll() {
         return r2dbcRepository.findAll()
                 .map(mapper::toDomain);
     }
-}
 
+    @Override
+    public Mono<Reservation> saveBooking(Ticket ticket, Reservation reservation) {
+        return r2dbcRepository.bookSeat(
+                        ticket.getFlightId().value(),
+                        ticket.getUserId().value(),
+                        ticket.getPassengerName(),
+                        ticket.getSeatNumber().value(),
+                        ticket.getPrice().amount(),
+                        ticket.getTicketClass().name(),
+                        ticket.getStatus().name(),
+                        ticket.getCreatedAt(),
+                        reservation.getStatus().name(),
+                        reservation.getReservationDate(),
+                        reservation.getHoldExpiresAt(),
+                        reservation.getCreatedAt()
+                )
+                .map(mapper::toDomain)
+                // Índice único parcial sobre (flight_id, seat_number) para tickets no cancelados
+                .onErrorMap(DuplicateKeyException.class,
+                        error -> new SeatAlreadyTakenException(ticket.getSeatNumber().value()));
+    }
+
+    @Override
+    public Flux<Reservation> saveGroupBooking(List<Ticket> tickets, Reservation reservation) {
+        Ticket first = tickets.get(0);
+        return groupBookingRepository.bookSeats(
+                        first.getFlightId().value(),
+                        first.getUserId().value(),
+                        tickets.stream().map(Ticket::getPassengerName).toArray(String[]::new),
+                        tickets.stream().map(ticket -> ticket.getSeatNumber().value()).toArray(String[]::new),
+                        tickets.stream().map(ticket -> ticket.getPrice().amount()).toArray(BigDecimal[]::new),
+                        first.getTicketClass().name(),
+                        first.getStatus().name(),
+                        first.getCreatedAt(),
+                        reservation.getStatus().name(),
+                        reservation.getReservationDate(),
+                        reservation.getCreatedAt()
+                )
+                .map(mapper::toDomain)
+                // No se sabe cuál asiento chocó con el índice único; se informan los del grupo
+                .onErrorMap(DuplicateKeyException.class, error -> new SeatAlreadyTakenException(
+                        String.join(", ", tickets.stream().map(ticket -> ticket.getSeatNumber().value()).toList())));
+    }
+
+    @Override
+    public Mono<Reservation> confirmHold(ReservationId reservationId, LocalDateTime now) {
+        return r2dbcRepository.confirmHold(reservationId.value(), now)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<ReleasedSeat> releaseExpiredHolds(List<ReservationId> reservationIds, LocalDateTime now) {
+        return seatHoldRepository.releaseExpired(
+                        reservationIds.stream().map(ReservationId::value).toArray(Long[]::new), now)
+                .map(row -> new ReleasedSeat(new FlightId(row.flightId()), new SeatNumber(row.seatNumber())));
+    }
+
+    @Override
+    public Flux<Reservation> findPendingHolds() {
+        return r2dbcRepository.findPendingHolds()
+                .map(mapper::toDomain);
+    }
+}
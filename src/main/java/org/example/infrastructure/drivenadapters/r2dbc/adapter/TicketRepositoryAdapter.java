@@ -2,6 +2,7 @@ package org.example.infrastructure.drivenadapters.r2dbc.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.SeatAlreadyTakenException;
 import org.example.domain.model.Ticket;
 import org.example.domain.valueobject.FlightId;
 import org.example.domain.valueobject.SeatNumber;
@@ -9,10 +10,13 @@ import org.example.domain.valueobject.TicketId;
 import org.example.domain.valueobject.UserId;
 import org.example.infrastructure.drivenadapters.r2dbc.mapper.TicketPersistenceMapper;
 import org.example.infrastructure.drivenadapters.r2dbc.repository.TicketR2dbcRepository;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Adaptador que implementa TicketRepositoryPort usando R2DBC
  */
@@ -29,6 +33,15 @@ public class TicketRepositoryAdapter implements TicketRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<Ticket> findAllById(Collection<TicketId> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return r2dbcRepository.findAllById(ticketIds.stream().map(TicketId::value).toList())
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Ticket> save(Ticket ticket) {
         return r2dbcRepository.save(mapper.toEntity(ticket))
@@ -38,6 +51,15 @@ public class TicketRepositoryAdapter implements TicketRepositoryPort {
     @Override
     public Mono<Ticket> update(Ticket ticket) {
         return r2dbcRepository.save(mapper.toEntity(ticket))
+                .map(mapper::toDomain)
+                // Índice único parcial sobre (flight_id, seat_number) para tickets no cancelados
+                .onErrorMap(DuplicateKeyException.class,
+                        error -> new SeatAlreadyTakenException(ticket.getSeatNumber().value()));
+    }
+
+    @Override
+    public Mono<Ticket> cancel(TicketId ticketId) {
+        return r2dbcRepository.cancel(ticketId.value())
                 .map(mapper::toDomain);
     }
 
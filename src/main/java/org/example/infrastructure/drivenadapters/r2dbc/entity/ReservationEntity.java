@@ -27,6 +27,7 @@ public class ReservationEntity {
     private String status;
     private String observations;
     private LocalDateTime reservationDate;
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -28,6 +28,7 @@ public class ReservationPersistenceMapper {
                 .status(ReservationStatus.valueOf(entity.getStatus()))
                 .observations(entity.getObservations())
                 .reservationDate(entity.getReservationDate())
+                .holdExpiresAt(entity.getHoldExpiresAt())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
@@ -46,6 +47,7 @@ public class ReservationPersistenceMapper {
                 .status(domain.getStatus().name())
                 .observations(domain.getObservations())
                 .reservationDate(domain.getReservationDate())
+                .holdExpiresAt(domain.getHoldExpiresAt())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
@@ -15,20 +15,30 @@ import java.time.LocalDateTime;
 @Repository
 public interface FlightR2dbcRepository extends ReactiveCrudRepository<FlightEntity, Long> {
 
-    @Query("SELECT * FROM flights WHERE origin = :origin AND destination = :destination " +
-           "AND status = 'ACTIVE' AND available_seats > 0")
-    Flux<FlightEntity> findByOriginAndDestination(String origin, String destination);
-
-    @Query("SELECT * FROM flights WHERE origin = :origin AND destination = :destination " +
-           "AND DATE(departure_time) = DATE(:departureDate) " +
-           "AND status = 'ACTIVE' AND available_seats > 0")
-    Flux<FlightEntity> findByOriginDestinationAndDate(
-            String origin, String destination, LocalDateTime departureDate);
-
     @Query("SELECT * FROM flights WHERE status = 'ACTIVE' AND available_seats > 0")
     Flux<FlightEntity> findAvailableFlights();
 
     @Query("SELECT * FROM flights WHERE flight_id = :id AND status = 'ACTIVE'")
     Mono<FlightEntity> findActiveFlightById(Long id);
+
+    @Query("SELECT * FROM flights WHERE status = 'ACTIVE' AND departure_time > :departureAfter")
+    Flux<FlightEntity> findActiveDepartingAfter(LocalDateTime departureAfter);
+
+    @Query("SELECT available_seats FROM flights WHERE flight_id = :flightId")
+    Mono<Integer> findAvailableSeatsById(Long flightId);
+
+    /**
+     * Descuenta asientos de forma atómica; no retorna fila si no hay cupo suficiente
+     */
+    @Query("UPDATE flights SET available_seats = available_seats - :quantity, updated_at = NOW() " +
+           "WHERE flight_id = :flightId AND available_seats >= :quantity RETURNING *")
+    Mono<FlightEntity> decrementAvailableSeats(Long flightId, int quantity);
+
+    /**
+     * Devuelve asientos de forma atómica sin superar la capacidad total del vuelo
+     */
+    @Query("UPDATE flights SET available_seats = available_seats + :quantity, updated_at = NOW() " +
+           "WHERE flight_id = :flightId AND available_seats + :quantity <= total_seats RETURNING *")
+    Mono<FlightEntity> incrementAvailableSeats(Long flightId, int quantity);
 }
 
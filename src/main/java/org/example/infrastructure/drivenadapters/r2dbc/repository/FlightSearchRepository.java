@@ -0,0 +1,99 @@
+package org.example.infrastructure.drivenadapters.r2dbc.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.application.port.out.DailyLowestFare;
+import org.example.application.port.out.FareCalendarCriteria;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.enums.FlightSortOrder;
+import org.example.domain.valueobject.Price;
+import org.example.infrastructure.drivenadapters.r2dbc.entity.FlightEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Búsqueda de vuelos con filtros, orden y límite resueltos en SQL,
+ * y calendario de tarifas agregado por día
+ *
+ * El texto se arma solo con fragmentos fijos; los valores siempre van como
+ * parámetros. status = 'ACTIVE' y available_seats > 0 se escriben como
+ * literales para que PostgreSQL pueda usar idx_flights_route_departure_active
+ * también con planes genéricos.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FlightSearchRepository {
+
+    /**
+     * Un solo recorrido del rango en el índice parcial, agrupado por día de salida
+     */
+    static final String LOWEST_FARES_BY_DAY_SQL =
+            "SELECT CAST(departure_time AS DATE) AS departure_day, MIN(price) AS lowest_price, " +
+            "COUNT(*) AS flights FROM flights WHERE origin = :origin AND destination = :destination " +
+            "AND status = 'ACTIVE' AND available_seats > 0 " +
+            "AND available_seats >= :passengers AND departure_time > :departureAfter " +
+            "AND departure_time >= :departureFrom AND departure_time < :departureTo " +
+            "GROUP BY departure_day ORDER BY departure_day";
+
+    private final R2dbcEntityTemplate template;
+
+    public Flux<FlightEntity> search(FlightSearchCriteria criteria) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql(criteria))
+                .bind("origin", criteria.origin())
+                .bind("destination", criteria.destination())
+                .bind("passengers", criteria.passengers())
+                .bind("departureAfter", criteria.departureAfter());
+
+        if (criteria.departureDate() != null) {
+            var dayStart = criteria.departureDate().toLocalDate().atStartOfDay();
+            spec = spec.bind("departureFrom", dayStart)
+                    .bind("departureTo", dayStart.plusDays(1));
+        }
+        if (criteria.limit() != null) {
+            spec = spec.bind("limit", criteria.limit());
+        }
+
+        return spec.map((row, metadata) -> template.getConverter().read(FlightEntity.class, row, metadata))
+                .all();
+    }
+
+    public Flux<DailyLowestFare> lowestFaresByDay(FareCalendarCriteria criteria) {
+        return template.getDatabaseClient().sql(LOWEST_FARES_BY_DAY_SQL)
+                .bind("origin", criteria.origin())
+                .bind("destination", criteria.destination())
+                .bind("passengers", criteria.passengers())
+                .bind("departureAfter", criteria.departureAfter())
+                .bind("departureFrom", criteria.departureFrom())
+                .bind("departureTo", criteria.departureTo())
+                .map((row, metadata) -> new DailyLowestFare(
+                        row.get("departure_day", LocalDate.class),
+                        new Price(row.get("lowest_price", BigDecimal.class)),
+                        row.get("flights", Long.class).intValue()))
+                .all();
+    }
+
+    static String sql(FlightSearchCriteria criteria) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT * FROM flights WHERE origin = :origin AND destination = :destination " +
+                "AND status = 'ACTIVE' AND available_seats > 0 " +
+                "AND available_seats >= :passengers AND departure_time > :departureAfter");
+
+        // Rango semiabierto [día, día + 1) sobre la columna sin funciones
+        if (criteria.departureDate() != null) {
+            sql.append(" AND departure_time >= :departureFrom AND departure_time < :departureTo");
+        }
+
+        sql.append(criteria.sortOrder() == FlightSortOrder.PRICE
+                ? " ORDER BY price, departure_time, flight_id"
+                : " ORDER BY departure_time, flight_id");
+
+        if (criteria.limit() != null) {
+            sql.append(" LIMIT :limit");
+        }
+        return sql.toString();
+    }
+}
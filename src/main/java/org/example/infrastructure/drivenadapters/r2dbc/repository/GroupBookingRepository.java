@@ -0,0 +1,77 @@
+package org.example.infrastructure.drivenadapters.r2dbc.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.infrastructure.drivenadapters.r2dbc.entity.ReservationEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Reserva de un grupo en una sola sentencia
+ *
+ * Es la misma CTE con escritura que bookSeat, pero los datos de cada pasajero
+ * llegan como arreglos y unnest los convierte en filas: un solo UPDATE
+ * condicional descuenta todos los asientos y un INSERT de varias filas crea
+ * los tickets y otro las reservaciones. Si no hay asientos para todos no se
+ * inserta nada; si un asiento choca con el índice único falla la sentencia
+ * completa. Las reservaciones se retornan en el orden de los pasajeros.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GroupBookingRepository {
+
+    static final String BOOK_SEATS_SQL =
+            "WITH seat AS (" +
+            "    UPDATE flights SET available_seats = available_seats - :seats, updated_at = NOW() " +
+            "    WHERE flight_id = :flightId AND available_seats >= :seats " +
+            "    RETURNING flight_id" +
+            "), passenger AS (" +
+            "    SELECT * FROM unnest(CAST(:passengerNames AS VARCHAR[]), CAST(:seatNumbers AS VARCHAR[]), " +
+            "                         CAST(:prices AS NUMERIC[])) " +
+            "    WITH ORDINALITY AS p(passenger_name, seat_number, price, position)" +
+            "), ticket AS (" +
+            "    INSERT INTO tickets (flight_id, user_id, passenger_name, seat_number, price, " +
+            "                         ticket_class, status, created_at) " +
+            "    SELECT seat.flight_id, :userId, passenger.passenger_name, passenger.seat_number, " +
+            "           passenger.price, :ticketClass, :ticketStatus, :ticketCreatedAt " +
+            "    FROM seat CROSS JOIN passenger ORDER BY passenger.position " +
+            "    RETURNING ticket_id, flight_id, seat_number" +
+            "), reservation AS (" +
+            "    INSERT INTO reservations (user_id, ticket_id, flight_id, status, reservation_date, created_at) " +
+            "    SELECT :userId, ticket_id, flight_id, :reservationStatus, :reservationDate, :createdAt " +
+            "    FROM ticket " +
+            "    RETURNING *" +
+            ") " +
+            // RETURNING no garantiza orden: se ordena por la posición del pasajero en la solicitud
+            "SELECT reservation.* FROM reservation " +
+            "JOIN ticket ON ticket.ticket_id = reservation.ticket_id " +
+            "JOIN passenger ON passenger.seat_number = ticket.seat_number " +
+            "ORDER BY passenger.position";
+
+    private final R2dbcEntityTemplate template;
+
+    public Flux<ReservationEntity> bookSeats(Long flightId, Long userId, String[] passengerNames,
+                                             String[] seatNumbers, BigDecimal[] prices, String ticketClass,
+                                             String ticketStatus, LocalDateTime ticketCreatedAt,
+                                             String reservationStatus, LocalDateTime reservationDate,
+                                             LocalDateTime createdAt) {
+        return template.getDatabaseClient().sql(BOOK_SEATS_SQL)
+                .bind("seats", passengerNames.length)
+                .bind("flightId", flightId)
+                .bind("userId", userId)
+                .bind("passengerNames", passengerNames)
+                .bind("seatNumbers", seatNumbers)
+                .bind("prices", prices)
+                .bind("ticketClass", ticketClass)
+                .bind("ticketStatus", ticketStatus)
+                .bind("ticketCreatedAt", ticketCreatedAt)
+                .bind("reservationStatus", reservationStatus)
+                .bind("reservationDate", reservationDate)
+                .bind("createdAt", createdAt)
+                .map((row, metadata) -> template.getConverter().read(ReservationEntity.class, row, metadata))
+                .all();
+    }
+}
@@ -7,15 +7,22 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 /**
  * Repositorio R2DBC para ReservationEntity
  */
 @Repository
 public interface ReservationR2dbcRepository extends ReactiveCrudRepository<ReservationEntity, Long> {
 
-    @Query("SELECT * FROM reservations WHERE user_id = :userId")
+    @Query("SELECT * FROM reservations WHERE user_id = :userId ORDER BY reservation_id")
     Flux<ReservationEntity> findByUserId(Long userId);
 
+    @Query("SELECT * FROM reservations WHERE user_id = :userId AND reservation_id > :afterId " +
+           "ORDER BY reservation_id LIMIT :limit")
+    Flux<ReservationEntity> findByUserIdAfter(Long userId, Long afterId, int limit);
+
     @Query("SELECT * FROM reservations WHERE flight_id = :flightId")
     Flux<ReservationEntity> findByFlightId(Long flightId);
 
@@ -27,5 +34,50 @@ public interface ReservationR2dbcRepository extends ReactiveCrudRepository<Reser
 
     @Query("SELECT COUNT(*) FROM reservations WHERE flight_id = :flightId")
     Mono<Long> countByFlightId(Long flightId);
+
+    /**
+     * Reserva completa en una sola sentencia (CTE con escritura):
+     * descuenta el asiento, inserta el ticket e inserta la reservación.
+     * No retorna fila si el vuelo no tiene asientos disponibles.
+     */
+    @Query("WITH seat AS (" +
+           "    UPDATE flights SET available_seats = available_seats - 1, updated_at = NOW() " +
+           "    WHERE flight_id = :flightId AND available_seats >= 1 " +
+           "    RETURNING flight_id" +
+           "), ticket AS (" +
+           "    INSERT INTO tickets (flight_id, user_id, passenger_name, seat_number, price, " +
+           "                         ticket_class, status, created_at) " +
+           "    SELECT flight_id, :userId, :passengerName, :seatNumber, :price, " +
+           "           :ticketClass, :ticketStatus, :ticketCreatedAt FROM seat " +
+           "    RETURNING ticket_id, flight_id" +
+           ") " +
+           "INSERT INTO reservations (user_id, ticket_id, flight_id, status, reservation_date, " +
+           "                          hold_expires_at, created_at) " +
+           "SELECT :userId, ticket_id, flight_id, :reservationStatus, :reservationDate, " +
+           "       :holdExpiresAt, :createdAt FROM ticket " +
+           "RETURNING *")
+    Mono<ReservationEntity> bookSeat(Long flightId, Long userId, String passengerName, String seatNumber,
+                                     BigDecimal price, String ticketClass, String ticketStatus,
+                                     LocalDateTime ticketCreatedAt, String reservationStatus,
+                                     LocalDateTime reservationDate, LocalDateTime holdExpiresAt,
+                                     LocalDateTime createdAt);
+
+    /**
+     * Confirma la retención solo si sigue pendiente y no ha vencido en :now;
+     * su ticket HELD pasa a CONFIRMED en la misma sentencia
+     */
+    @Query("WITH confirmed AS (" +
+           "    UPDATE reservations SET status = 'CONFIRMED', hold_expires_at = NULL, updated_at = :now " +
+           "    WHERE reservation_id = :reservationId AND status = 'PENDING' AND hold_expires_at > :now " +
+           "    RETURNING *" +
+           "), ticket AS (" +
+           "    UPDATE tickets SET status = 'CONFIRMED', updated_at = :now " +
+           "    FROM confirmed WHERE tickets.ticket_id = confirmed.ticket_id AND tickets.status = 'HELD'" +
+           ") " +
+           "SELECT * FROM confirmed")
+    Mono<ReservationEntity> confirmHold(Long reservationId, LocalDateTime now);
+
+    @Query("SELECT * FROM reservations WHERE status = 'PENDING' AND hold_expires_at IS NOT NULL")
+    Flux<ReservationEntity> findPendingHolds();
 }
 
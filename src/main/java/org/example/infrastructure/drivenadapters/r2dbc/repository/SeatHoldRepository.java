@@ -0,0 +1,57 @@
+package org.example.infrastructure.drivenadapters.r2dbc.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vencimiento de un lote de retenciones en una sola sentencia
+ *
+ * Los IDs llegan como arreglo: un UPDATE pasa a EXPIRED las reservaciones que
+ * sigan pendientes y con el plazo cumplido, otro cancela sus tickets y un
+ * tercero devuelve los asientos agrupados por vuelo. Una retención confirmada
+ * mientras tanto no cumple la condición y no se toca, y un ticket que una
+ * cancelación ya canceló no devuelve su asiento otra vez.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatHoldRepository {
+
+    static final String RELEASE_EXPIRED_SQL =
+            "WITH expired AS (" +
+            "    UPDATE reservations SET status = 'EXPIRED', updated_at = :now " +
+            "    WHERE reservation_id = ANY(CAST(:reservationIds AS BIGINT[])) " +
+            "      AND status = 'PENDING' AND hold_expires_at <= :now " +
+            "    RETURNING ticket_id" +
+            "), ticket AS (" +
+            "    UPDATE tickets SET status = 'CANCELLED', updated_at = :now " +
+            "    FROM expired WHERE tickets.ticket_id = expired.ticket_id AND tickets.status <> 'CANCELLED' " +
+            "    RETURNING tickets.flight_id, tickets.seat_number" +
+            "), seat AS (" +
+            "    UPDATE flights SET available_seats = available_seats + released.seats, updated_at = NOW() " +
+            "    FROM (SELECT flight_id, COUNT(*) AS seats FROM ticket GROUP BY flight_id) released " +
+            "    WHERE flights.flight_id = released.flight_id" +
+            ") " +
+            "SELECT flight_id, seat_number FROM ticket";
+
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Retorna (flight_id, seat_number) de cada asiento liberado
+     */
+    public Flux<ReleasedSeatRow> releaseExpired(Long[] reservationIds, LocalDateTime now) {
+        return template.getDatabaseClient().sql(RELEASE_EXPIRED_SQL)
+                .bind("reservationIds", reservationIds)
+                .bind("now", now)
+                .map((row, metadata) -> new ReleasedSeatRow(
+                        row.get("flight_id", Long.class),
+                        row.get("seat_number", String.class)))
+                .all();
+    }
+
+    public record ReleasedSeatRow(Long flightId, String seatNumber) {
+    }
+}
@@ -24,5 +24,12 @@ public interface TicketR2dbcRepository extends ReactiveCrudRepository<TicketEnti
 
     @Query("SELECT EXISTS(SELECT 1 FROM tickets WHERE seat_number = :seatNumber AND flight_id = :flightId AND status != 'CANCELLED')")
     Mono<Boolean> existsBySeatNumberAndFlightId(String seatNumber, Long flightId);
+
+    /**
+     * Cancela el ticket de forma condicional; no retorna fila si ya estaba cancelado
+     */
+    @Query("UPDATE tickets SET status = 'CANCELLED', updated_at = NOW() " +
+           "WHERE ticket_id = :ticketId AND status <> 'CANCELLED' RETURNING *")
+    Mono<TicketEntity> cancel(Long ticketId);
 }
 
@@ -0,0 +1,102 @@
+package org.example.infrastructure.drivenadapters.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.out.PasswordVerifierPort;
+import org.example.domain.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verificación BCrypt fuera de los hilos de Netty
+ *
+ * Cada comparación cuesta decenas de milisegundos de CPU, así que se ejecuta
+ * en un pool propio de tantos hilos como núcleos. La admisión se decide antes
+ * de encolar: si ya hay hilos ocupados más max-queued esperando, el login se
+ * rechaza de inmediato en lugar de acumular espera para todos.
+ */
+@Slf4j
+@Component
+public class BCryptPasswordVerifier implements PasswordVerifierPort {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public BCryptPasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.password-hashing.threads:0}") int threads,
+            @Value("${app.auth.password-hashing.max-queued:64}") int maxQueued) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.maxInFlight = poolSize + maxQueued;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new HashingThreadFactory());
+        this.scheduler = Schedulers.fromExecutorService(executor, "password-hashing");
+
+        this.hashTimer = Timer.builder("auth.password.hash.duration")
+                .description("Tiempo de CPU de cada verificación BCrypt")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Logins rechazados por cola de verificación llena")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Verificaciones esperando un hilo libre")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.in.flight", inFlight, AtomicInteger::get)
+                .description("Verificaciones admitidas en ejecución o en espera")
+                .register(meterRegistry);
+
+        log.info("Verificación de contraseñas con {} hilos y hasta {} en espera", poolSize, maxQueued);
+    }
+
+    @Override
+    public Mono<Boolean> matches(String rawPassword, String passwordHash) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                rejected.increment();
+                return Mono.error(new TooManyRequestsException("Cola de verificación de contraseñas llena"));
+            }
+            return Mono.fromCallable(() -> hashTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash)))
+                    .subscribeOn(scheduler)
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
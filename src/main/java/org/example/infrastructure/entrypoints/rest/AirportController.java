@@ -0,0 +1,44 @@
+package org.example.infrastructure.entrypoints.rest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.in.AutocompleteAirportsUseCase;
+import org.example.infrastructure.entrypoints.rest.dto.response.AirportResponseDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.ApiResponse;
+import org.example.infrastructure.entrypoints.rest.mapper.AirportResponseMapper;
+import org.example.shared.constants.MessageConstants;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/airline/airports")
+@RequiredArgsConstructor
+public class AirportController {
+
+    private final AutocompleteAirportsUseCase autocompleteAirportsUseCase;
+    private final AirportResponseMapper airportResponseMapper;
+
+    /**
+     * Aeropuertos cuyo código, ciudad o alias empieza por q, sin importar tildes ni mayúsculas
+     */
+    @GetMapping("/autocomplete")
+    public Mono<ApiResponse<List<AirportResponseDTO>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.debug("Recibida solicitud de autocompletado de aeropuertos: {}", q);
+
+        return autocompleteAirportsUseCase.execute(q, limit)
+                .map(airportResponseMapper::toResponse)
+                .collectList()
+                .map(airports -> ApiResponse.success(airports, airports.isEmpty()
+                        ? MessageConstants.NO_AIRPORTS_FOUND
+                        : String.format(MessageConstants.AIRPORTS_FOUND, airports.size())));
+    }
+}
@@ -38,12 +38,9 @@ public class AuthController {
             String token = authHeader.substring(7);
 
             try {
-                String username = jwtService.extractUsername(token);
-
-                if (jwtService.validateToken(token, username)) {
-                    return Mono.just(ApiResponse.success(username,
-                            "Token válido. Usuario autenticado: " + username));
-                }
+                String username = jwtService.authenticate(token).username();
+                return Mono.just(ApiResponse.success(username,
+                        "Token válido. Usuario autenticado: " + username));
             } catch (Exception e) {
                 log.error("Error verificando token: {}", e.getMessage());
             }
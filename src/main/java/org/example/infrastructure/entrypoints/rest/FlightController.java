@@ -3,17 +3,37 @@ package org.example.infrastructure.entrypoints.rest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.application.command.FareCalendarCommand;
+import org.example.application.port.in.GetFareCalendarUseCase;
+import org.example.application.port.in.GetSeatMapUseCase;
 import org.example.application.port.in.SearchFlightsUseCase;
+import org.example.domain.valueobject.FlightId;
 import org.example.infrastructure.entrypoints.rest.dto.request.FlightSearchRequestDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.ApiResponse;
+import org.example.infrastructure.entrypoints.rest.dto.response.FareCalendarDayResponseDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.FlightResponseDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.FlightSearchSummaryDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.ItineraryResponseDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.SeatMapResponseDTO;
 import org.example.infrastructure.entrypoints.rest.mapper.FlightResponseMapper;
 import org.example.infrastructure.entrypoints.rest.mapper.FlightRestMapper;
+import org.example.infrastructure.entrypoints.rest.mapper.SeatMapResponseMapper;
 import org.example.shared.constants.MessageConstants;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @Slf4j
 @RestController
@@ -21,9 +41,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FlightController {
 
+    private static final String FLIGHT_EVENT = "flight";
+    private static final String SUMMARY_EVENT = "summary";
+
     private final SearchFlightsUseCase searchFlightsUseCase;
     private final FlightRestMapper flightRestMapper;
     private final FlightResponseMapper flightResponseMapper;
+    private final GetSeatMapUseCase getSeatMapUseCase;
+    private final GetFareCalendarUseCase getFareCalendarUseCase;
+    private final SeatMapResponseMapper seatMapResponseMapper;
 
     @PostMapping("/search")
     public Mono<ApiResponse<List<FlightResponseDTO>>> searchFlights(
@@ -35,16 +61,146 @@ public class FlightController {
         return searchFlightsUseCase.execute(flightRestMapper.toSearchCommand(request))
                 .map(flightResponseMapper::toResponse)
                 .collectList()
-                .map(flights -> {
-                    if (flights.isEmpty()) {
-                        return ApiResponse.success(flights, MessageConstants.NO_FLIGHTS_FOUND);
-                    } else if (flights.size() == 1) {
-                        return ApiResponse.success(flights, MessageConstants.FLIGHTS_FOUND_SINGULAR);
-                    } else {
-                        return ApiResponse.success(flights,
-                                String.format(MessageConstants.FLIGHTS_FOUND, flights.size()));
-                    }
-                })
+                .map(flights -> ApiResponse.success(flights, searchMessage(flights.size())))
                 .defaultIfEmpty(ApiResponse.success(List.of(), MessageConstants.NO_FLIGHTS_FOUND));
     }
+
+    /**
+     * Búsqueda en application/x-ndjson: un vuelo por línea a medida que se
+     * encuentran y una última línea con el resumen
+     */
+    @PostMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> streamFlights(@Valid @RequestBody FlightSearchRequestDTO request) {
+
+        log.info("Recibida solicitud de búsqueda de vuelos (ndjson): {} -> {}",
+                request.getOrigin(), request.getDestination());
+
+        return streamSearch(request, flight -> flight, summary -> summary);
+    }
+
+    /**
+     * Búsqueda en text/event-stream: eventos "flight" seguidos de un evento "summary"
+     */
+    @PostMapping(value = "/search", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamFlightEvents(@Valid @RequestBody FlightSearchRequestDTO request) {
+
+        log.info("Recibida solicitud de búsqueda de vuelos (sse): {} -> {}",
+                request.getOrigin(), request.getDestination());
+
+        return streamSearch(request,
+                flight -> ServerSentEvent.<Object>builder(flight).event(FLIGHT_EVENT).build(),
+                summary -> ServerSentEvent.<Object>builder(summary).event(SUMMARY_EVENT).build());
+    }
+
+    /**
+     * Itinerarios directos y con escalas (maxStops entre 0 y 2) para la ruta y fecha
+     */
+    @PostMapping("/search/connections")
+    public Mono<ApiResponse<List<ItineraryResponseDTO>>> searchConnections(
+            @Valid @RequestBody FlightSearchRequestDTO request,
+            @RequestParam(defaultValue = "1") int maxStops) {
+
+        log.info("Recibida solicitud de búsqueda de itinerarios: {} -> {} (máximo {} escala(s))",
+                request.getOrigin(), request.getDestination(), maxStops);
+
+        return searchFlightsUseCase.searchConnections(flightRestMapper.toSearchCommand(request), maxStops)
+                .map(flightResponseMapper::toItineraryResponse)
+                .collectList()
+                .map(itineraries -> ApiResponse.success(itineraries, itineraries.isEmpty()
+                        ? MessageConstants.NO_ITINERARIES_FOUND
+                        : String.format(MessageConstants.ITINERARIES_FOUND, itineraries.size())));
+    }
+
+    /**
+     * Precio más bajo por día y por clase entre startDate y endDate (dd/MM/yyyy, máximo 90 días)
+     */
+    @GetMapping("/fare-calendar")
+    public Mono<ApiResponse<List<FareCalendarDayResponseDTO>>> getFareCalendar(
+            @RequestParam String origin,
+            @RequestParam String destination,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate endDate,
+            @RequestParam(required = false) Integer passengers) {
+
+        log.info("Recibida solicitud de calendario de tarifas: {} -> {} ({} - {})",
+                origin, destination, startDate, endDate);
+
+        FareCalendarCommand command = new FareCalendarCommand(origin, destination, startDate, endDate, passengers);
+        return getFareCalendarUseCase.execute(command)
+                .map(flightResponseMapper::toFareCalendarResponse)
+                .collectList()
+                .map(days -> ApiResponse.success(days, days.isEmpty()
+                        ? MessageConstants.NO_FARES_FOUND
+                        : String.format(MessageConstants.FARE_CALENDAR_FOUND, days.size())));
+    }
+
+    @GetMapping("/{flightId}/seats")
+    public Mono<ResponseEntity<ApiResponse<SeatMapResponseDTO>>> getSeatMap(
+            @PathVariable Long flightId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.debug("Recibida solicitud de mapa de asientos para vuelo ID: {}", flightId);
+
+        return getSeatMapUseCase.execute(new FlightId(flightId))
+                .map(seatMap -> {
+                    SeatMapResponseDTO response = seatMapResponseMapper.toResponse(flightId, seatMap);
+                    String eTag = seatMapResponseMapper.toETag(response);
+
+                    // El cliente ya tiene este mapa: evitar reenviar el cuerpo
+                    if (matchesAny(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .<ApiResponse<SeatMapResponseDTO>>build();
+                    }
+
+                    return ResponseEntity.ok()
+                            .eTag(eTag)
+                            .cacheControl(CacheControl.noCache())
+                            .body(ApiResponse.success(response, MessageConstants.SEAT_MAP_FOUND));
+                });
+    }
+
+    /**
+     * Compara el ETag con cada etiqueta de If-None-Match (comparación débil, RFC 9110)
+     */
+    private static boolean matchesAny(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> Flux<T> streamSearch(FlightSearchRequestDTO request,
+                                     Function<FlightResponseDTO, T> onFlight,
+                                     Function<FlightSearchSummaryDTO, T> onSummary) {
+        return Flux.defer(() -> {
+            AtomicInteger count = new AtomicInteger();
+            return searchFlightsUseCase.execute(flightRestMapper.toSearchCommand(request))
+                    .map(flightResponseMapper::toResponse)
+                    .doOnNext(flight -> count.incrementAndGet())
+                    .map(onFlight)
+                    .concatWith(Mono.fromSupplier(() -> onSummary.apply(FlightSearchSummaryDTO.builder()
+                            .count(count.get())
+                            .message(searchMessage(count.get()))
+                            .build())));
+        });
+    }
+
+    private String searchMessage(int count) {
+        if (count == 0) {
+            return MessageConstants.NO_FLIGHTS_FOUND;
+        } else if (count == 1) {
+            return MessageConstants.FLIGHTS_FOUND_SINGULAR;
+        }
+        return String.format(MessageConstants.FLIGHTS_FOUND, count);
+    }
 }
@@ -3,12 +3,20 @@ package org.example.infrastructure.entrypoints.rest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.in.BookGroupUseCase;
 import org.example.application.port.in.BookTicketUseCase;
 import org.example.application.port.in.CancelReservationUseCase;
+import org.example.application.port.in.ConfirmHoldUseCase;
 import org.example.application.port.in.GetUserReservationsUseCase;
+import org.example.application.port.in.HoldSeatUseCase;
 import org.example.application.port.in.UpdateReservationUseCase;
+import org.example.domain.exception.AuthenticationException;
+import org.example.domain.model.Reservation;
+import org.example.domain.valueobject.ReservationId;
 import org.example.domain.valueobject.UserId;
+import org.example.infrastructure.drivenadapters.cache.IdempotencyStore;
 import org.example.infrastructure.entrypoints.rest.dto.request.BookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.GroupBookingRequestDTO;
 import org.example.infrastructure.entrypoints.rest.dto.request.UpdateReservationRequestDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.ApiResponse;
 import org.example.infrastructure.entrypoints.rest.dto.response.ReservationResponseDTO;
@@ -16,7 +24,13 @@ import org.example.infrastructure.entrypoints.rest.mapper.ReservationResponseMap
 import org.example.infrastructure.entrypoints.rest.mapper.ReservationRestMapper;
 import org.example.infrastructure.entrypoints.rest.mapper.TicketRestMapper;
 import org.example.shared.constants.MessageConstants;
+import org.example.shared.util.DateUtil;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -27,26 +41,88 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 50;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final BookTicketUseCase bookTicketUseCase;
+    private final BookGroupUseCase bookGroupUseCase;
+    private final HoldSeatUseCase holdSeatUseCase;
+    private final ConfirmHoldUseCase confirmHoldUseCase;
     private final UpdateReservationUseCase updateReservationUseCase;
     private final CancelReservationUseCase cancelReservationUseCase;
     private final GetUserReservationsUseCase getUserReservationsUseCase;
     private final TicketRestMapper ticketRestMapper;
     private final ReservationRestMapper reservationRestMapper;
     private final ReservationResponseMapper reservationResponseMapper;
+    private final IdempotencyStore idempotencyStore;
 
+    /**
+     * Con Idempotency-Key, los reintentos del mismo usuario con la misma clave
+     * y el mismo cuerpo reciben la reserva ya creada en lugar de crear otra
+     */
     @PostMapping
     public Mono<ApiResponse<ReservationResponseDTO>> createReservation(
-            @Valid @RequestBody BookingRequestDTO request) {
+            @Valid @RequestBody BookingRequestDTO request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("Recibida solicitud de reserva para vuelo ID: {}", request.getFlightId());
 
-        return bookTicketUseCase.execute(ticketRestMapper.toCommand(request))
-                .flatMap(reservationResponseMapper::toResponseWithDetails)
+        Mono<ReservationResponseDTO> booking = Mono.defer(() ->
+                bookTicketUseCase.execute(ticketRestMapper.toCommand(request))
+                        .flatMap(reservationResponseMapper::toResponseWithDetails));
+
+        return idempotent(idempotencyKey, request, booking)
                 .map(response -> ApiResponse.created(response,
                         MessageConstants.RESERVATION_CREATED));
     }
 
+    /**
+     * Reserva varios pasajeros del mismo vuelo; todo el grupo queda reservado o ninguno
+     */
+    @PostMapping("/group")
+    public Mono<ApiResponse<List<ReservationResponseDTO>>> createGroupReservation(
+            @Valid @RequestBody GroupBookingRequestDTO request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        log.info("Recibida solicitud de reserva de grupo de {} pasajeros para vuelo ID: {}",
+                request.getPassengers().size(), request.getFlightId());
+
+        Mono<List<ReservationResponseDTO>> booking = Mono.defer(() ->
+                bookGroupUseCase.execute(ticketRestMapper.toGroupCommand(request))
+                        .flatMap(reservations -> reservationResponseMapper.toResponsesWithDetails(reservations)
+                                .collectList()));
+
+        return idempotent(idempotencyKey, request, booking)
+                .map(responses -> ApiResponse.created(responses,
+                        String.format(MessageConstants.GROUP_RESERVATION_CREATED, responses.size())));
+    }
+
+    /**
+     * Retiene el asiento mientras se completa el pago; la reservación queda
+     * PENDING y se libera sola si no se confirma antes de holdExpiresAt
+     */
+    @PostMapping("/hold")
+    public Mono<ApiResponse<ReservationResponseDTO>> holdSeat(@Valid @RequestBody BookingRequestDTO request) {
+
+        log.info("Recibida solicitud de retención de asiento para vuelo ID: {}", request.getFlightId());
+
+        return holdSeatUseCase.execute(ticketRestMapper.toCommand(request))
+                .flatMap(reservationResponseMapper::toResponseWithDetails)
+                .map(response -> ApiResponse.created(response,
+                        String.format(MessageConstants.SEAT_HOLD_CREATED, DateUtil.format(response.getHoldExpiresAt()))));
+    }
+
+    @PostMapping("/{reservationId}/confirm")
+    public Mono<ApiResponse<ReservationResponseDTO>> confirmHold(@PathVariable Long reservationId) {
+
+        log.info("Recibida solicitud de confirmación de retención ID: {}", reservationId);
+
+        return confirmHoldUseCase.execute(new ReservationId(reservationId))
+                .flatMap(reservationResponseMapper::toResponseWithDetails)
+                .map(response -> ApiResponse.success(response, MessageConstants.SEAT_HOLD_CONFIRMED));
+    }
+
     @PutMapping
     public Mono<ApiResponse<ReservationResponseDTO>> updateReservation(
             @Valid @RequestBody UpdateReservationRequestDTO request) {
@@ -74,22 +150,58 @@ public class ReservationController {
 
     @GetMapping("/user/{userId}")
     public Mono<ApiResponse<List<ReservationResponseDTO>>> getUserReservations(
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit) {
 
         log.info("Recibida solicitud de reservas para usuario ID: {}", userId);
 
-        return getUserReservationsUseCase.execute(new UserId(userId))
-                .flatMap(reservationResponseMapper::toResponseWithDetails)
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // Se pide una fila extra para saber si existe una página siguiente
+        return getUserReservationsUseCase.execute(new UserId(userId), cursor, pageSize + 1)
                 .collectList()
-                .map(reservations -> {
-                    if (reservations.isEmpty()) {
-                        return ApiResponse.success(reservations, MessageConstants.NO_RESERVATIONS_FOUND);
-                    } else {
-                        return ApiResponse.success(reservations,
-                                String.format(MessageConstants.RESERVATIONS_FOUND, reservations.size()));
-                    }
-                })
-                .defaultIfEmpty(ApiResponse.success(List.of(),
-                        MessageConstants.NO_RESERVATIONS_FOUND));
+                .flatMap(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    List<Reservation> page = hasMore ? rows.subList(0, pageSize) : rows;
+                    Long nextCursor = hasMore ? page.get(pageSize - 1).getId().value() : null;
+
+                    return reservationResponseMapper.toResponsesWithDetails(page)
+                            .collectList()
+                            .map(reservations -> reservations.isEmpty()
+                                    ? ApiResponse.success(reservations, MessageConstants.NO_RESERVATIONS_FOUND, nextCursor)
+                                    : ApiResponse.success(reservations,
+                                            String.format(MessageConstants.RESERVATIONS_FOUND, reservations.size()),
+                                            nextCursor));
+                });
+    }
+
+    /**
+     * Historial completo en application/x-ndjson: las filas se enriquecen por
+     * lotes a medida que llegan de la base de datos, sin materializar la lista
+     */
+    @GetMapping(value = "/user/{userId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ReservationResponseDTO> streamUserReservations(@PathVariable Long userId) {
+
+        log.info("Recibida solicitud de streaming de reservas para usuario ID: {}", userId);
+
+        return getUserReservationsUseCase.execute(new UserId(userId))
+                .buffer(STREAM_BATCH_SIZE)
+                .concatMap(reservationResponseMapper::toResponsesWithDetails);
+    }
+
+    /**
+     * Sin clave ejecuta la operación; con clave la resuelve en el almacén de
+     * idempotencia bajo el usuario autenticado
+     */
+    private <T> Mono<T> idempotent(String idempotencyKey, Object request, Mono<T> operation) {
+        if (idempotencyKey == null) {
+            return operation;
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication)
+                .map(Authentication::getName)
+                .switchIfEmpty(Mono.error(() -> new AuthenticationException(MessageConstants.AUTH_TOKEN_REQUIRED)))
+                .flatMap(username -> idempotencyStore.execute(username, idempotencyKey, request, operation));
     }
 }
@@ -1,6 +1,7 @@
 package org.example.infrastructure.entrypoints.rest.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -27,5 +28,14 @@ public class FlightSearchRequestDTO {
 
     @Positive(message = "Number of passengers must be positive")
     private Integer passengers;
+
+    /**
+     * DEPARTURE_TIME (por defecto) o PRICE
+     */
+    private String sortBy;
+
+    @Positive(message = "Limit must be positive")
+    @Max(value = 100, message = "Limit cannot exceed 100")
+    private Integer limit;
 }
 
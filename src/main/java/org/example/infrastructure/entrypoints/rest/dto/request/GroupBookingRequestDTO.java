@@ -0,0 +1,32 @@
+package org.example.infrastructure.entrypoints.rest.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.application.command.BookGroupCommand;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingRequestDTO {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotNull(message = "Flight ID is required")
+    private Long flightId;
+
+    @Builder.Default
+    private String ticketClass = "ECONOMY";
+
+    @NotNull(message = "Passengers are required")
+    @Size(min = 1, max = BookGroupCommand.MAX_PASSENGERS, message = "A group must have between 1 and 9 passengers")
+    private List<@Valid PassengerRequestDTO> passengers;
+}
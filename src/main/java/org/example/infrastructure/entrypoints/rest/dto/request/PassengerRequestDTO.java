@@ -0,0 +1,24 @@
+package org.example.infrastructure.entrypoints.rest.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassengerRequestDTO {
+
+    @NotBlank(message = "Passenger name is required")
+    @Size(max = 30, message = "Passenger name must not exceed 30 characters")
+    @Pattern(regexp = "^[a-zA-ZáéíóúÁÉÍÓÚñÑ ]+$", message = "Passenger name must contain only letters")
+    private String passengerName;
+
+    @NotBlank(message = "Seat number is required")
+    private String seatNumber;
+}
@@ -0,0 +1,16 @@
+package org.example.infrastructure.entrypoints.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AirportResponseDTO {
+    private String code;
+    private String city;
+    private String country;
+}
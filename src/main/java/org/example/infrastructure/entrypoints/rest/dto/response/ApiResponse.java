@@ -10,19 +10,21 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Respuesta estándar de la API
- * Formato: { data, status, message }
+ * Formato: { data, status, message, nextCursor }
+ * nextCursor solo se incluye en listados paginados con más resultados
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@JsonPropertyOrder({"data", "status", "message"})
+@JsonPropertyOrder({"data", "status", "message", "nextCursor"})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
 
     private T data;
     private StatusInfo status;
     private String message;
+    private Long nextCursor;
 
     /**
      * Información del estado HTTP
@@ -49,6 +51,12 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, String message, Long nextCursor) {
+        ApiResponse<T> response = success(data, message);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+
     public static <T> ApiResponse<T> created(T data, String message) {
         return ApiResponse.<T>builder()
                 .data(data)
@@ -0,0 +1,26 @@
+package org.example.infrastructure.entrypoints.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Día del calendario de tarifas: precio más bajo por pasajero para cada clase
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareCalendarDayResponseDTO {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate date;
+    private Integer flights;
+    private String currency;
+    private Map<String, BigDecimal> lowestPrices;
+}
@@ -0,0 +1,18 @@
+package org.example.infrastructure.entrypoints.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro final de una búsqueda de vuelos transmitida (NDJSON / SSE)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightSearchSummaryDTO {
+    private Integer count;
+    private String message;
+}
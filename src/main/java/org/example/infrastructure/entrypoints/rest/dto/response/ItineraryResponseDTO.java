@@ -0,0 +1,29 @@
+package org.example.infrastructure.entrypoints.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Itinerario directo o con escalas; el precio total es por pasajero
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItineraryResponseDTO {
+    private String origin;
+    private String destination;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private Integer stops;
+    private Long durationMinutes;
+    private BigDecimal totalPrice;
+    private Integer availableSeats;
+    private List<FlightResponseDTO> legs;
+}
@@ -20,6 +20,7 @@ public class ReservationResponseDTO {
     private String status;
     private String observations;
     private LocalDateTime reservationDate;
+    private LocalDateTime holdExpiresAt;
     private String flightNumber;
     private String origin;
     private String destination;
@@ -0,0 +1,28 @@
+package org.example.infrastructure.entrypoints.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Mapa de asientos de un vuelo
+ *
+ * occupancy es un bitmap en Base64: el asiento de la fila r y columna c
+ * (índice c dentro de columns) ocupa el bit i = r * columns.length() + c,
+ * guardado en el byte i / 8 con el bit menos significativo primero.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapResponseDTO {
+    private Long flightId;
+    private Integer firstRow;
+    private Integer rows;
+    private String columns;
+    private Integer totalSeats;
+    private Integer occupiedSeats;
+    private Integer availableSeats;
+    private String occupancy;
+}
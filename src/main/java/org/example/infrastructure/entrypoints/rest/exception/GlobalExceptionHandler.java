@@ -62,6 +62,13 @@ public class GlobalExceptionHandler {
         return Mono.just(ApiResponse.conflict(MessageConstants.SEAT_ALREADY_TAKEN));
     }
 
+    @ExceptionHandler(HoldExpiredException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Mono<ApiResponse<Void>> handleHoldExpired(HoldExpiredException ex) {
+        log.warn("Retención no vigente: {}", ex.getMessage());
+        return Mono.just(ApiResponse.conflict(MessageConstants.SEAT_HOLD_EXPIRED));
+    }
+
     // ============= EXCEPCIONES DE VALIDACIÓN (400 - BAD REQUEST) =============
 
     @ExceptionHandler(InvalidBookingException.class)
@@ -105,6 +112,24 @@ public class GlobalExceptionHandler {
         return Mono.just(ApiResponse.unauthorized(MessageConstants.AUTH_FAILED));
     }
 
+    // ============= EXCEPCIONES DE IDEMPOTENCIA (422 - UNPROCESSABLE ENTITY) =============
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public Mono<ApiResponse<Void>> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        log.warn("Clave de idempotencia reutilizada: {}", ex.getMessage());
+        return Mono.just(ApiResponse.error(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    // ============= EXCEPCIONES DE CAPACIDAD (429 - TOO MANY REQUESTS) =============
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public Mono<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Solicitud rechazada por capacidad: {}", ex.getMessage());
+        return Mono.just(ApiResponse.error(MessageConstants.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS));
+    }
+
     // ============= EXCEPCIONES GENÉRICAS (500 - INTERNAL SERVER ERROR) =============
 
     /**
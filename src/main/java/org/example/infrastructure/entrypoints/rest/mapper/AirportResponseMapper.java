@@ -0,0 +1,27 @@
+package org.example.infrastructure.entrypoints.rest.mapper;
+
+import org.example.domain.model.Airport;
+import org.example.infrastructure.entrypoints.rest.dto.response.AirportResponseDTO;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper para convertir modelos de dominio Airport a DTOs de respuesta
+ */
+@Component
+public class AirportResponseMapper {
+
+    /**
+     * Convierte un modelo Airport a AirportResponseDTO
+     */
+    public AirportResponseDTO toResponse(Airport airport) {
+        if (airport == null) {
+            return null;
+        }
+
+        return AirportResponseDTO.builder()
+                .code(airport.getCode().value())
+                .city(airport.getCity())
+                .country(airport.getCountry())
+                .build();
+    }
+}
@@ -1,9 +1,19 @@
 package org.example.infrastructure.entrypoints.rest.mapper;
 
+import org.example.domain.model.FareCalendarDay;
 import org.example.domain.model.Flight;
+import org.example.domain.model.Itinerary;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.valueobject.Price;
+import org.example.infrastructure.entrypoints.rest.dto.response.FareCalendarDayResponseDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.FlightResponseDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.ItineraryResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Mapper para convertir modelos de dominio Flight a DTOs de respuesta
  */
@@ -32,5 +42,48 @@ public class FlightResponseMapper {
                 .status(flight.getStatus().name())
                 .build();
     }
-}
 
+    /**
+     * Convierte un Itinerary a ItineraryResponseDTO con el detalle de cada tramo
+     */
+    public ItineraryResponseDTO toItineraryResponse(Itinerary itinerary) {
+        if (itinerary == null) {
+            return null;
+        }
+
+        return ItineraryResponseDTO.builder()
+                .origin(itinerary.getOrigin().value())
+                .destination(itinerary.getDestination().value())
+                .departureTime(itinerary.getDepartureTime())
+                .arrivalTime(itinerary.getArrivalTime())
+                .stops(itinerary.getStops())
+                .durationMinutes(itinerary.getTotalDuration().toMinutes())
+                .totalPrice(itinerary.getTotalPrice().amount())
+                .availableSeats(itinerary.getAvailableSeats())
+                .legs(itinerary.getLegs().stream().map(this::toResponse).toList())
+                .build();
+    }
+
+    /**
+     * Convierte un día del calendario de tarifas; los precios van por código de clase
+     */
+    public FareCalendarDayResponseDTO toFareCalendarResponse(FareCalendarDay day) {
+        if (day == null) {
+            return null;
+        }
+
+        Map<String, BigDecimal> prices = new LinkedHashMap<>();
+        String currency = null;
+        for (Map.Entry<TicketClass, Price> entry : day.getLowestPrices().entrySet()) {
+            prices.put(entry.getKey().getCode(), entry.getValue().amount());
+            currency = entry.getValue().currency();
+        }
+
+        return FareCalendarDayResponseDTO.builder()
+                .date(day.getDate())
+                .flights(day.getFlights())
+                .currency(currency)
+                .lowestPrices(prices)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.infrastructure.entrypoints.rest.mapper;
 
 import org.example.application.command.SearchFlightsCommand;
+import org.example.domain.model.enums.FlightSortOrder;
 import org.example.infrastructure.entrypoints.rest.dto.request.FlightSearchRequestDTO;
 import org.springframework.stereotype.Component;
 
@@ -18,7 +19,9 @@ public class FlightRestMapper {
             dto.getOrigin(),
             dto.getDestination(),
             dto.getDepartureDate(),
-            dto.getPassengers()
+            dto.getPassengers(),
+            FlightSortOrder.fromCode(dto.getSortBy()),
+            dto.getLimit()
         );
     }
 }
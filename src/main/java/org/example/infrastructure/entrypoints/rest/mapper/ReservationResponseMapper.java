@@ -3,11 +3,21 @@ package org.example.infrastructure.entrypoints.rest.mapper;
 import lombok.RequiredArgsConstructor;
 import org.example.application.port.out.FlightRepositoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.model.Flight;
 import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.TicketId;
 import org.example.infrastructure.entrypoints.rest.dto.response.ReservationResponseDTO;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Mapper para convertir modelos de dominio Reservation a DTOs de respuesta
  */
@@ -29,29 +39,61 @@ public class ReservationResponseMapper {
         return Mono.zip(
             ticketRepository.findById(reservation.getTicketId()),
             flightRepository.findById(reservation.getFlightId())
-        ).map(tuple -> {
-            var ticket = tuple.getT1();
-            var flight = tuple.getT2();
+        ).map(tuple -> toDetailedResponse(reservation, tuple.getT1(), tuple.getT2()));
+    }
+
+    /**
+     * Convierte un lote de reservaciones con detalles usando una consulta de
+     * tickets y una de vuelos para todo el lote, conservando el orden recibido
+     */
+    public Flux<ReservationResponseDTO> toResponsesWithDetails(List<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return Flux.empty();
+        }
 
-            return ReservationResponseDTO.builder()
-                    .reservationId(reservation.getId().value())
-                    .userId(reservation.getUserId().value())
-                    .ticketId(reservation.getTicketId().value())
-                    .flightId(reservation.getFlightId().value())
-                    .status(reservation.getStatus().name())
-                    .observations(reservation.getObservations())
-                    .reservationDate(reservation.getReservationDate())
-                    .flightNumber(flight.getFlightNumber().value())
-                    .origin(flight.getOrigin().value())
-                    .destination(flight.getDestination().value())
-                    .departureTime(flight.getDepartureTime())
-                    .passengerName(ticket.getPassengerName())
-                    .seatNumber(ticket.getSeatNumber().value())
-                    .price(ticket.getPrice().amount())
-                    .build();
+        Set<TicketId> ticketIds = new LinkedHashSet<>();
+        Set<FlightId> flightIds = new LinkedHashSet<>();
+        for (Reservation reservation : reservations) {
+            ticketIds.add(reservation.getTicketId());
+            flightIds.add(reservation.getFlightId());
+        }
+
+        return Mono.zip(
+            ticketRepository.findAllById(ticketIds).collectMap(Ticket::getId),
+            flightRepository.findAllById(flightIds).collectMap(Flight::getId)
+        ).flatMapMany(tuple -> {
+            Map<TicketId, Ticket> tickets = tuple.getT1();
+            Map<FlightId, Flight> flights = tuple.getT2();
+
+            return Flux.fromIterable(reservations)
+                    .filter(reservation -> tickets.containsKey(reservation.getTicketId())
+                            && flights.containsKey(reservation.getFlightId()))
+                    .map(reservation -> toDetailedResponse(reservation,
+                            tickets.get(reservation.getTicketId()),
+                            flights.get(reservation.getFlightId())));
         });
     }
 
+    private ReservationResponseDTO toDetailedResponse(Reservation reservation, Ticket ticket, Flight flight) {
+        return ReservationResponseDTO.builder()
+                .reservationId(reservation.getId().value())
+                .userId(reservation.getUserId().value())
+                .ticketId(reservation.getTicketId().value())
+                .flightId(reservation.getFlightId().value())
+                .status(reservation.getStatus().name())
+                .observations(reservation.getObservations())
+                .reservationDate(reservation.getReservationDate())
+                .holdExpiresAt(reservation.getHoldExpiresAt())
+                .flightNumber(flight.getFlightNumber().value())
+                .origin(flight.getOrigin().value())
+                .destination(flight.getDestination().value())
+                .departureTime(flight.getDepartureTime())
+                .passengerName(ticket.getPassengerName())
+                .seatNumber(ticket.getSeatNumber().value())
+                .price(ticket.getPrice().amount())
+                .build();
+    }
+
     /**
      * Convierte una Reservation a ReservationResponse básico (sin detalles)
      */
@@ -68,6 +110,7 @@ public class ReservationResponseMapper {
                 .status(reservation.getStatus().name())
                 .observations(reservation.getObservations())
                 .reservationDate(reservation.getReservationDate())
+                .holdExpiresAt(reservation.getHoldExpiresAt())
                 .build();
     }
 }
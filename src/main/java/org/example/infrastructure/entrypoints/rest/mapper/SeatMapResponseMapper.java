@@ -0,0 +1,69 @@
+package org.example.infrastructure.entrypoints.rest.mapper;
+
+import org.example.domain.model.SeatMap;
+import org.example.infrastructure.entrypoints.rest.dto.response.SeatMapResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Mapper para convertir el SeatMap de dominio a su representación compacta
+ */
+@Component
+public class SeatMapResponseMapper {
+
+    /**
+     * Convierte un SeatMap a SeatMapResponseDTO
+     */
+    public SeatMapResponseDTO toResponse(Long flightId, SeatMap seatMap) {
+        // Conteo y bitmap salen de la misma copia para que no se contradigan
+        long[] snapshot = seatMap.snapshot();
+        int occupiedSeats = seatMap.countOccupied(snapshot);
+
+        return SeatMapResponseDTO.builder()
+                .flightId(flightId)
+                .firstRow(seatMap.getFirstRow())
+                .rows(seatMap.getRows())
+                .columns(SeatMap.COLUMNS)
+                .totalSeats(seatMap.getTotalSeats())
+                .occupiedSeats(occupiedSeats)
+                .availableSeats(seatMap.getTotalSeats() - occupiedSeats)
+                .occupancy(Base64.getEncoder().encodeToString(toBytes(snapshot)))
+                .build();
+    }
+
+    /**
+     * ETag del mapa de asientos: cambia solo cuando cambia la ocupación o la distribución
+     *
+     * Usa SHA-256 del bitmap: dos ocupaciones distintas no comparten ETag, así
+     * que un 304 nunca deja al cliente con un mapa desactualizado.
+     */
+    public String toETag(SeatMapResponseDTO response) {
+        MessageDigest digest = sha256();
+        digest.update(Base64.getDecoder().decode(response.getOccupancy()));
+        return "\"" + response.getFlightId() + "-" + response.getTotalSeats() + "-"
+                + HexFormat.of().formatHex(digest.digest()) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Toda JVM debe incluir SHA-256
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private byte[] toBytes(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+}
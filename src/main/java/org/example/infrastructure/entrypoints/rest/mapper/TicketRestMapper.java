@@ -1,7 +1,9 @@
 package org.example.infrastructure.entrypoints.rest.mapper;
 
+import org.example.application.command.BookGroupCommand;
 import org.example.application.command.BookTicketCommand;
 import org.example.infrastructure.entrypoints.rest.dto.request.BookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.GroupBookingRequestDTO;
 import org.springframework.stereotype.Component;
 
 /**
@@ -22,5 +24,20 @@ public class TicketRestMapper {
             dto.getTicketClass()
         );
     }
-}
 
+    /**
+     * Convierte GroupBookingRequestDTO a BookGroupCommand
+     */
+    public BookGroupCommand toGroupCommand(GroupBookingRequestDTO dto) {
+        return new BookGroupCommand(
+            dto.getUserId(),
+            dto.getFlightId(),
+            dto.getTicketClass(),
+            dto.getPassengers().stream()
+                .map(passenger -> new BookGroupCommand.Passenger(
+                    passenger.getPassengerName(),
+                    passenger.getSeatNumber()))
+                .toList()
+        );
+    }
+}
@@ -10,9 +10,11 @@ public class MessageConstants {
     public static final String AUTH_FAILED = "Las credenciales proporcionadas son incorrectas. Verifique su usuario y contraseña";
     public static final String AUTH_TOKEN_INVALID = "El token de autenticación es inválido o ha expirado";
     public static final String AUTH_TOKEN_REQUIRED = "Se requiere un token de autenticación para acceder a este recurso";
+    public static final String TOO_MANY_REQUESTS = "El servicio está atendiendo demasiadas solicitudes. Intente de nuevo en unos segundos";
 
     // ============= RESERVACIONES =============
     public static final String RESERVATION_CREATED = "Su reservación ha sido creada exitosamente";
+    public static final String GROUP_RESERVATION_CREATED = "Se crearon %d reservaciones para el grupo";
     public static final String RESERVATION_UPDATED = "Su reservación ha sido actualizada correctamente";
     public static final String RESERVATION_CANCELLED = "Su reservación ha sido cancelada. Los asientos han sido liberados";
     public static final String RESERVATION_NOT_FOUND = "No se encontró la reservación con el ID especificado";
@@ -21,6 +23,11 @@ public class MessageConstants {
     public static final String NO_RESERVATIONS_FOUND = "El usuario no tiene reservaciones registradas";
     public static final String RESERVATION_ALREADY_CANCELLED = "La reservación ya se encuentra cancelada";
     public static final String RESERVATION_CANNOT_UPDATE = "No es posible actualizar una reservación cancelada";
+    public static final String SEAT_HOLD_CREATED = "El asiento quedó retenido; confirme la reservación antes de %s";
+    public static final String SEAT_HOLD_CONFIRMED = "Su reservación ha sido confirmada";
+    public static final String SEAT_HOLD_EXPIRED = "La retención del asiento venció o ya no está pendiente";
+    public static final String IDEMPOTENCY_KEY_REUSED = "La clave de idempotencia ya se usó con una solicitud diferente";
+    public static final String IDEMPOTENCY_KEY_INVALID = "La clave de idempotencia debe tener entre 1 y %d caracteres";
 
     // ============= VUELOS =============
     public static final String FLIGHT_NOT_FOUND = "No se encontró el vuelo solicitado";
@@ -28,6 +35,12 @@ public class MessageConstants {
     public static final String FLIGHTS_FOUND = "Se encontraron %d vuelo(s) disponibles para su búsqueda";
     public static final String FLIGHTS_FOUND_SINGULAR = "Se encontró 1 vuelo disponible para su búsqueda";
     public static final String NO_FLIGHTS_FOUND = "No se encontraron vuelos para los criterios de búsqueda especificados";
+    public static final String ITINERARIES_FOUND = "Se encontraron %d itinerario(s) para su búsqueda";
+    public static final String AIRPORTS_FOUND = "Se encontraron %d aeropuerto(s)";
+    public static final String NO_AIRPORTS_FOUND = "No se encontraron aeropuertos para el texto ingresado";
+    public static final String FARE_CALENDAR_FOUND = "Se encontraron tarifas para %d día(s) del rango consultado";
+    public static final String NO_FARES_FOUND = "No hay vuelos con tarifas disponibles en el rango consultado";
+    public static final String NO_ITINERARIES_FOUND = "No se encontraron itinerarios para los criterios de búsqueda especificados";
     public static final String NO_FLIGHTS_AVAILABLE = "No hay vuelos disponibles en este momento";
     public static final String FLIGHT_NOT_BOOKABLE = "El vuelo seleccionado no está disponible para reservas";
 
@@ -37,6 +50,7 @@ public class MessageConstants {
     public static final String SEAT_ALREADY_TAKEN = "El asiento seleccionado ya está ocupado. Por favor, elija otro asiento";
     public static final String SEAT_ALREADY_TAKEN_WITH_NUMBER = "El asiento %s ya está ocupado. Por favor, elija otro asiento";
     public static final String SEATS_RELEASED = "Los asientos han sido liberados correctamente";
+    public static final String SEAT_MAP_FOUND = "Mapa de asientos del vuelo obtenido correctamente";
 
     // ============= RESERVA / BOOKING =============
     public static final String INVALID_BOOKING = "Los datos de la reserva son inválidos. Verifique la información proporcionada";
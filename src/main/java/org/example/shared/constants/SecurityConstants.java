@@ -1,5 +1,7 @@
 package org.example.shared.constants;
 
+import java.util.List;
+
 public class SecurityConstants {
 
     // JWT Configuration
@@ -16,9 +18,24 @@ public class SecurityConstants {
     // API Paths
     public static final String AUTH_PATH = "/airline/auth/**";
     public static final String FLIGHTS_PATH = "/airline/flights/search";
+    public static final String FLIGHT_CONNECTIONS_PATH = "/airline/flights/search/connections";
+    public static final String FLIGHT_FARE_CALENDAR_PATH = "/airline/flights/fare-calendar";
+    public static final String FLIGHT_SEATS_PATH = "/airline/flights/*/seats";
+    public static final String AIRPORTS_PATH = "/airline/airports/**";
     public static final String ACTUATOR_PATH = "/actuator/**";
     public static final String RESERVATIONS_PATH = "/airline/reservations/**";
 
+    // Rutas que no requieren token; las demás exigen autenticación
+    public static final List<String> PUBLIC_PATHS = List.of(
+            AUTH_PATH,
+            FLIGHTS_PATH,
+            FLIGHT_CONNECTIONS_PATH,
+            FLIGHT_FARE_CALENDAR_PATH,
+            FLIGHT_SEATS_PATH,
+            AIRPORTS_PATH,
+            ACTUATOR_PATH
+    );
+
     private SecurityConstants() {}
 }
 
@@ -0,0 +1,147 @@
+package org.example.shared.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catálogo inmutable de aeropuertos cargado desde airports.csv
+ *
+ * Cada línea es "codigo,ciudad,pais,alias1|alias2". El código, la ciudad y los
+ * alias se indexan en un AirportTrie; ante una colisión gana el código, luego
+ * la ciudad y luego el alias, en el orden del archivo. Los datos se guardan en
+ * arreglos paralelos indexados por posición del aeropuerto.
+ */
+public final class AirportCatalog {
+
+    public static final String DEFAULT_RESOURCE = "airports.csv";
+
+    private static final String COMMENT = "#";
+
+    private final String[] codes;
+    private final String[] cities;
+    private final String[] countries;
+    private final AirportTrie index;
+
+    private AirportCatalog(String[] codes, String[] cities, String[] countries, AirportTrie index) {
+        this.codes = codes;
+        this.cities = cities;
+        this.countries = countries;
+        this.index = index;
+    }
+
+    /**
+     * Catálogo del classpath, cargado la primera vez que se usa
+     */
+    public static AirportCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Carga un catálogo desde un flujo en UTF-8
+     */
+    public static AirportCatalog load(InputStream input) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            return fromLines(reader.lines().toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el catálogo de aeropuertos", e);
+        }
+    }
+
+    public static AirportCatalog fromLines(List<String> lines) {
+        List<String[]> rows = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith(COMMENT)) {
+                String[] columns = trimmed.split(",", -1);
+                if (columns.length < 3 || columns[0].isBlank()) {
+                    throw new IllegalArgumentException("Línea inválida en el catálogo de aeropuertos: " + line);
+                }
+                rows.add(columns);
+            }
+        }
+
+        String[] codes = new String[rows.size()];
+        String[] cities = new String[rows.size()];
+        String[] countries = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            String[] columns = rows.get(i);
+            codes[i] = columns[0].trim().toUpperCase();
+            cities[i] = columns[1].trim();
+            countries[i] = columns[2].trim();
+        }
+
+        // El orden de inserción define la prioridad ante claves repetidas
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            keys.putIfAbsent(codes[i], i);
+        }
+        for (int i = 0; i < cities.length; i++) {
+            keys.putIfAbsent(cities[i], i);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            String[] columns = rows.get(i);
+            if (columns.length > 3) {
+                for (String alias : columns[3].split("\\|")) {
+                    keys.putIfAbsent(alias.trim(), i);
+                }
+            }
+        }
+
+        return new AirportCatalog(codes, cities, countries, AirportTrie.build(keys));
+    }
+
+    /**
+     * Código IATA del aeropuerto cuyo código, ciudad o alias coincide, o null
+     */
+    public String findCode(CharSequence name) {
+        int airport = index.get(name);
+        return airport == AirportTrie.NOT_FOUND ? null : codes[airport];
+    }
+
+    /**
+     * Escribe en out las posiciones de los aeropuertos cuyo código, ciudad o
+     * alias empieza por el prefijo; no crea objetos
+     *
+     * @return cantidad de aeropuertos escritos
+     */
+    public int autocomplete(CharSequence prefix, int[] out) {
+        return index.complete(prefix, out);
+    }
+
+    public String getCode(int airport) {
+        return codes[airport];
+    }
+
+    public String getCity(int airport) {
+        return cities[airport];
+    }
+
+    public String getCountry(int airport) {
+        return countries[airport];
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    private static final class DefaultHolder {
+
+        private static final AirportCatalog INSTANCE = loadDefault();
+
+        private static AirportCatalog loadDefault() {
+            InputStream input = AirportCatalog.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+            if (input == null) {
+                throw new IllegalStateException("No se encontró " + DEFAULT_RESOURCE + " en el classpath");
+            }
+            return load(input);
+        }
+    }
+}
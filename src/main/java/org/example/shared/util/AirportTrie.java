@@ -0,0 +1,256 @@
+package org.example.shared.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Trie inmutable sobre arreglos primitivos que asocia claves de texto a un entero
+ *
+ * Las claves se pliegan a mayúsculas sin tildes y sin espacios ni signos, así
+ * "San Andrés", "SAN ANDRES" y "sanandres" son la misma clave. El plegado de
+ * cada carácter latino se precalcula una vez en una tabla; las consultas lo
+ * aplican carácter a carácter mientras recorren el trie, sin crear objetos.
+ *
+ * Los nodos se numeran en preorden sobre las claves ordenadas: cada nodo
+ * cubre un rango contiguo de claves, lo que permite autocompletar un prefijo
+ * recorriendo ese rango.
+ */
+public final class AirportTrie {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final char SKIP = 0;
+    private static final char[] FOLD = new char[0x250];
+
+    static {
+        // Tabla de plegado para Latin-1 y Latin Extended-A/B, calculada con NFD una sola vez
+        for (char c = 0; c < FOLD.length; c++) {
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            FOLD[c] = Character.isLetterOrDigit(base) ? Character.toUpperCase(base) : SKIP;
+        }
+    }
+
+    private final int[] edgeStart;
+    private final int[] nodeValue;
+    private final int[] nodeFirstKey;
+    private final int[] nodeEndKey;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] keyValue;
+
+    private AirportTrie(int[] edgeStart, int[] nodeValue, int[] nodeFirstKey, int[] nodeEndKey,
+                        char[] edgeLabel, int[] edgeTarget, int[] keyValue) {
+        this.edgeStart = edgeStart;
+        this.nodeValue = nodeValue;
+        this.nodeFirstKey = nodeFirstKey;
+        this.nodeEndKey = nodeEndKey;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.keyValue = keyValue;
+    }
+
+    /**
+     * Construye el trie; las claves se pliegan antes de insertarse
+     * y si dos claves coinciden tras plegarse se conserva la primera
+     */
+    public static AirportTrie build(Map<String, Integer> entries) {
+        Map<String, Integer> folded = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            String foldedKey = fold(key);
+            if (!foldedKey.isEmpty()) {
+                folded.putIfAbsent(foldedKey, value);
+            }
+        });
+
+        String[] keys = folded.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        int[] values = new int[keys.length];
+        int maxNodes = 1;
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = folded.get(keys[i]);
+            maxNodes += keys[i].length();
+        }
+
+        TrieBuilder builder = new TrieBuilder(keys, values, maxNodes);
+        builder.node(0, keys.length, 0);
+        return builder.toTrie();
+    }
+
+    /**
+     * Pliega un texto completo; se usa al construir y en pruebas
+     */
+    public static String fold(CharSequence text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c != SKIP) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    private static char fold(char c) {
+        if (c < FOLD.length) {
+            return FOLD[c];
+        }
+        return Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : SKIP;
+    }
+
+    /**
+     * Valor asociado a la clave exacta o NOT_FOUND
+     */
+    public int get(CharSequence key) {
+        int node = find(key);
+        return node == NOT_FOUND ? NOT_FOUND : nodeValue[node];
+    }
+
+    /**
+     * Escribe en out los valores distintos de las claves que empiezan por el
+     * prefijo, en orden alfabético de clave, hasta llenar out
+     *
+     * @return cantidad de valores escritos
+     */
+    public int complete(CharSequence prefix, int[] out) {
+        int node = find(prefix);
+        if (node == NOT_FOUND) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int key = nodeFirstKey[node]; key < nodeEndKey[node] && count < out.length; key++) {
+            int value = keyValue[key];
+            if (!contains(out, count, value)) {
+                out[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cantidad de nodos, útil para dimensionar la memoria usada
+     */
+    public int nodeCount() {
+        return nodeValue.length;
+    }
+
+    private int find(CharSequence key) {
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = fold(key.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+            node = child(node, c);
+            if (node == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+        }
+        return node;
+    }
+
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char candidate = edgeLabel[middle];
+            if (candidate < label) {
+                low = middle + 1;
+            } else if (candidate > label) {
+                high = middle - 1;
+            } else {
+                return edgeTarget[middle];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Construcción recursiva sobre las claves ordenadas: cada nodo reserva sus
+     * aristas antes de crear a sus hijos, así las aristas de un nodo quedan
+     * contiguas y en el mismo orden que los nodos
+     */
+    private static final class TrieBuilder {
+
+        private final String[] keys;
+        private final int[] values;
+        private final int[] edgeStart;
+        private final int[] nodeValue;
+        private final int[] nodeFirstKey;
+        private final int[] nodeEndKey;
+        private final char[] edgeLabel;
+        private final int[] edgeTarget;
+        private int nodes;
+        private int edges;
+
+        TrieBuilder(String[] keys, int[] values, int maxNodes) {
+            this.keys = keys;
+            this.values = values;
+            this.edgeStart = new int[maxNodes + 1];
+            this.nodeValue = new int[maxNodes];
+            this.nodeFirstKey = new int[maxNodes];
+            this.nodeEndKey = new int[maxNodes];
+            this.edgeLabel = new char[maxNodes];
+            this.edgeTarget = new int[maxNodes];
+        }
+
+        int node(int firstKey, int endKey, int depth) {
+            int node = nodes++;
+            nodeFirstKey[node] = firstKey;
+            nodeEndKey[node] = endKey;
+            nodeValue[node] = NOT_FOUND;
+            edgeStart[node] = edges;
+
+            int key = firstKey;
+            if (key < endKey && keys[key].length() == depth) {
+                nodeValue[node] = values[key];
+                key++;
+            }
+
+            // Reservar una arista por cada carácter distinto en esta profundidad
+            int firstEdge = edges;
+            for (int i = key; i < endKey; i++) {
+                char label = keys[i].charAt(depth);
+                if (i == key || label != keys[i - 1].charAt(depth)) {
+                    edgeLabel[edges++] = label;
+                }
+            }
+
+            int groupStart = key;
+            for (int edge = firstEdge; edge < edges && groupStart < endKey; edge++) {
+                char label = edgeLabel[edge];
+                int groupEnd = groupStart;
+                while (groupEnd < endKey && keys[groupEnd].charAt(depth) == label) {
+                    groupEnd++;
+                }
+                edgeTarget[edge] = node(groupStart, groupEnd, depth + 1);
+                groupStart = groupEnd;
+            }
+            return node;
+        }
+
+        AirportTrie toTrie() {
+            edgeStart[nodes] = edges;
+            return new AirportTrie(
+                    Arrays.copyOf(edgeStart, nodes + 1),
+                    Arrays.copyOf(nodeValue, nodes),
+                    Arrays.copyOf(nodeFirstKey, nodes),
+                    Arrays.copyOf(nodeEndKey, nodes),
+                    Arrays.copyOf(edgeLabel, edges),
+                    Arrays.copyOf(edgeTarget, edges),
+                    values);
+        }
+    }
+}
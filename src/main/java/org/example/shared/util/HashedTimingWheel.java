@@ -0,0 +1,290 @@
+package org.example.shared.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Rueda de temporización con hash para muchos vencimientos con poca precisión
+ *
+ * El tiempo se divide en ticks y cada tick cae en una de las casillas de la
+ * rueda (tamaño potencia de dos); un vencimiento más lejano que una vuelta
+ * completa espera las vueltas que le falten en su casilla. Programar y
+ * cancelar cuestan O(1) sin importar cuántos vencimientos haya, y un solo hilo
+ * avanza la rueda. Un vencimiento nunca se dispara antes de su plazo, pero sí
+ * puede dispararse hasta un tick después.
+ *
+ * Las casillas solo las toca el hilo que avanza la rueda: schedule y cancel
+ * dejan el cambio en colas concurrentes que se aplican al inicio de cada tick.
+ * Los valores vencidos en una misma llamada a advance se entregan juntos.
+ */
+@Slf4j
+public final class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final List<Bucket<T>> wheel;
+    private final int mask;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Consumer<List<T>> expiryHandler;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private long tick;
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    /**
+     * @param clock         reloj monotónico en nanosegundos (System::nanoTime)
+     * @param expiryHandler recibe los valores vencidos en el hilo de la rueda
+     */
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, LongSupplier clock,
+                             Consumer<List<T>> expiryHandler) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30");
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize);
+        if (normalizedSize < wheelSize) {
+            normalizedSize <<= 1;
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            wheel.add(new Bucket<>());
+        }
+        this.mask = normalizedSize - 1;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.expiryHandler = expiryHandler;
+    }
+
+    /**
+     * Programa el vencimiento de value dentro de delay; un retraso negativo
+     * vence en el siguiente tick
+     */
+    public Timeout<T> schedule(T value, Duration delay) {
+        long deadline = clock.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        Timeout<T> timeout = new Timeout<>(this, value, deadline);
+        size.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Procesa todos los ticks cumplidos según el reloj y entrega los vencidos
+     *
+     * La llama el hilo de la rueda; sin start() se puede llamar a mano
+     * (pruebas), siempre desde un único hilo.
+     *
+     * @return cantidad de valores vencidos
+     */
+    public int advance() {
+        long elapsed = clock.getAsLong() - startNanos;
+        List<T> expired = new ArrayList<>();
+        while ((tick + 1) * tickNanos <= elapsed) {
+            removeCancelled();
+            transferPending();
+            wheel.get((int) (tick & mask)).expire(expired);
+            tick++;
+        }
+        removeCancelled();
+
+        if (!expired.isEmpty()) {
+            size.addAndGet(-expired.size());
+            expiryHandler.accept(expired);
+        }
+        return expired.size();
+    }
+
+    /**
+     * Vencimientos programados que no han vencido ni se han cancelado
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Arranca el hilo daemon que avanza la rueda en cada tick
+     */
+    public void start(String threadName) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Detiene el hilo; los vencimientos pendientes se descartan
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long waitNanos = (tick + 1) * tickNanos - (clock.getAsLong() - startNanos);
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            try {
+                advance();
+            } catch (RuntimeException error) {
+                // Un fallo del manejador no debe detener la rueda
+                log.error("Error al procesar vencimientos: {}", error.getMessage(), error);
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.size();
+            // Un plazo ya cumplido va a la casilla actual y vence en este tick
+            long ticks = Math.max(calculated, tick);
+            wheel.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout<T> timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Vencimiento programado; cancel puede llamarse desde cualquier hilo
+     */
+    public static final class Timeout<T> {
+
+        private final HashedTimingWheel<T> owner;
+        private final T value;
+        private final long deadline;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        // Estado de la casilla, solo lo toca el hilo de la rueda
+        private long remainingRounds;
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> owner, T value, long deadline) {
+            this.owner = owner;
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        /**
+         * @return false si ya venció o ya estaba cancelado
+         */
+        public boolean cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return false;
+            }
+            owner.size.decrementAndGet();
+            owner.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        private boolean markExpired() {
+            return cancelled.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada para quitar cancelados en O(1)
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(List<T> expired) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.markExpired()) {
+                        expired.add(timeout.value);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -60,6 +60,7 @@ CREATE TABLE reservations (
     status VARCHAR(20) NOT NULL DEFAULT 'CONFIRMED',
     observations VARCHAR(100),
     reservation_date TIMESTAMP NOT NULL,
+    hold_expires_at TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id),
@@ -68,10 +69,17 @@ CREATE TABLE reservations (
 );
 
 -- Indexes for performance
-CREATE INDEX idx_flights_origin_destination ON flights(origin, destination);
+-- Búsqueda por ruta y fecha: solo vuelos reservables, ordenados por salida dentro de la ruta
+CREATE INDEX idx_flights_route_departure_active ON flights(origin, destination, departure_time)
+    WHERE status = 'ACTIVE' AND available_seats > 0;
 CREATE INDEX idx_flights_departure_time ON flights(departure_time);
 CREATE INDEX idx_tickets_user_id ON tickets(user_id);
 CREATE INDEX idx_tickets_flight_id ON tickets(flight_id);
-CREATE INDEX idx_reservations_user_id ON reservations(user_id);
+CREATE INDEX idx_reservations_user_id ON reservations(user_id, reservation_id);
 CREATE INDEX idx_reservations_status ON reservations(status);
+-- Retenciones vigentes: se recorren solo al arrancar para reprogramar su vencimiento
+CREATE INDEX idx_reservations_pending_hold ON reservations(hold_expires_at) WHERE status = 'PENDING';
+
+-- Un asiento solo puede tener un ticket activo por vuelo (protege reservas concurrentes)
+CREATE UNIQUE INDEX uq_tickets_flight_seat_active ON tickets(flight_id, seat_number) WHERE status <> 'CANCELLED';
 
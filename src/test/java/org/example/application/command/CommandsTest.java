@@ -3,7 +3,10 @@ package org.example.application.command;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +51,33 @@ class CommandsTest {
         assertTrue(str.contains("John"));
     }
 
+    // === BookGroupCommand Tests ===
+    @Test
+    @DisplayName("BookGroupCommand - Debe crear con los pasajeros del grupo")
+    void testBookGroupCommand_ShouldCreate() {
+        BookGroupCommand command = new BookGroupCommand(1L, 2L, "ECONOMY", List.of(
+                new BookGroupCommand.Passenger("John Doe", "12A"),
+                new BookGroupCommand.Passenger("Jane Doe", "12B")));
+
+        assertEquals(2, command.passengers().size());
+        assertEquals("12B", command.passengers().get(1).seatNumber());
+    }
+
+    @Test
+    @DisplayName("BookGroupCommand - Debe rechazar grupos vacíos, demasiado grandes o con asientos repetidos")
+    void testBookGroupCommand_WhenInvalidGroup_ShouldThrowException() {
+        BookGroupCommand.Passenger passenger = new BookGroupCommand.Passenger("John Doe", "12A");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookGroupCommand(1L, 2L, "ECONOMY", List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookGroupCommand(1L, 2L, "ECONOMY",
+                        Collections.nCopies(BookGroupCommand.MAX_PASSENGERS + 1, passenger)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookGroupCommand(1L, 2L, "ECONOMY", List.of(passenger,
+                        new BookGroupCommand.Passenger("Jane Doe", "12A"))));
+    }
+
     // === CancelReservationCommand Tests ===
     @Test
     @DisplayName("CancelReservationCommand - Debe crear con todos los parámetros")
@@ -162,5 +192,29 @@ class CommandsTest {
         assertEquals(command1, command2);
         assertEquals(command1.hashCode(), command2.hashCode());
     }
-}
 
+    @Test
+    @DisplayName("FareCalendarCommand - Debe aceptar hasta 90 días")
+    void testFareCalendarCommand_WithMaxRange() {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        FareCalendarCommand command = new FareCalendarCommand("BOG", "MDE", start, start.plusDays(89), null);
+
+        assertEquals(start.plusDays(89), command.endDate());
+        assertNull(command.passengers());
+    }
+
+    @Test
+    @DisplayName("FareCalendarCommand - Debe rechazar rangos inválidos")
+    void testFareCalendarCommand_WithInvalidRange() {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new FareCalendarCommand("BOG", "MDE", start, start.plusDays(90), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FareCalendarCommand("BOG", "MDE", start, start.minusDays(1), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FareCalendarCommand("BOG", "MDE", null, start, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FareCalendarCommand("BOG", "MDE", start, start, 0));
+    }
+}
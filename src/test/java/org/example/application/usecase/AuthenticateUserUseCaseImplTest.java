@@ -2,8 +2,10 @@ package org.example.application.usecase;
 
 import org.example.application.command.AuthenticateUserCommand;
 import org.example.application.port.in.AuthenticateUserUseCase.AuthenticationResult;
+import org.example.application.port.out.PasswordVerifierPort;
 import org.example.application.port.out.UserRepositoryPort;
 import org.example.domain.exception.AuthenticationException;
+import org.example.domain.exception.TooManyRequestsException;
 import org.example.domain.model.User;
 import org.example.domain.model.enums.UserRole;
 import org.example.domain.valueobject.Email;
@@ -18,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -39,7 +40,7 @@ class AuthenticateUserUseCaseImplTest {
     private UserRepositoryPort userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordVerifierPort passwordVerifier;
 
     @Mock
     private JwtService jwtService;
@@ -79,7 +80,7 @@ class AuthenticateUserUseCaseImplTest {
         AuthenticateUserCommand command = new AuthenticateUserCommand("admin", "password");
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Mono.just(adminUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordVerifier.matches(anyString(), anyString())).thenReturn(Mono.just(true));
         when(jwtService.generateToken(anyString())).thenReturn("jwt-token-123");
 
         StepVerifier.create(authenticateUserUseCase.execute(command))
@@ -105,7 +106,7 @@ class AuthenticateUserUseCaseImplTest {
                 .expectError(AuthenticationException.class)
                 .verify();
 
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordVerifier, never()).matches(anyString(), anyString());
         verify(jwtService, never()).generateToken(anyString());
     }
 
@@ -115,7 +116,7 @@ class AuthenticateUserUseCaseImplTest {
         AuthenticateUserCommand command = new AuthenticateUserCommand("admin", "wrongpassword");
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Mono.just(adminUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordVerifier.matches(anyString(), anyString())).thenReturn(Mono.just(false));
 
         StepVerifier.create(authenticateUserUseCase.execute(command))
                 .expectError(AuthenticationException.class)
@@ -130,7 +131,7 @@ class AuthenticateUserUseCaseImplTest {
         AuthenticateUserCommand command = new AuthenticateUserCommand("user", "password");
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Mono.just(regularUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordVerifier.matches(anyString(), anyString())).thenReturn(Mono.just(true));
         when(jwtService.generateToken(anyString())).thenReturn("user-token");
 
         StepVerifier.create(authenticateUserUseCase.execute(command))
@@ -147,13 +148,29 @@ class AuthenticateUserUseCaseImplTest {
         AuthenticateUserCommand command = new AuthenticateUserCommand("admin", "password123");
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Mono.just(adminUser));
-        when(passwordEncoder.matches("password123", adminUser.getPasswordHash())).thenReturn(true);
+        when(passwordVerifier.matches("password123", adminUser.getPasswordHash())).thenReturn(Mono.just(true));
         when(jwtService.generateToken(anyString())).thenReturn("token");
 
         StepVerifier.create(authenticateUserUseCase.execute(command))
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(passwordEncoder).matches("password123", adminUser.getPasswordHash());
+        verify(passwordVerifier).matches("password123", adminUser.getPasswordHash());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el rechazo cuando la cola de verificación está llena")
+    void testExecute_WhenVerifierSaturated_ShouldPropagateTooManyRequests() {
+        AuthenticateUserCommand command = new AuthenticateUserCommand("admin", "password");
+
+        when(userRepository.findByUsername(any(Username.class))).thenReturn(Mono.just(adminUser));
+        when(passwordVerifier.matches(anyString(), anyString()))
+                .thenReturn(Mono.error(new TooManyRequestsException("Cola llena")));
+
+        StepVerifier.create(authenticateUserUseCase.execute(command))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+
+        verify(jwtService, never()).generateToken(anyString());
     }
 }
@@ -0,0 +1,55 @@
+package org.example.application.usecase;
+
+import org.example.shared.util.AirportCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests unitarios para AutocompleteAirportsUseCaseImpl
+ */
+class AutocompleteAirportsUseCaseImplTest {
+
+    private final AutocompleteAirportsUseCaseImpl autocompleteAirportsUseCase = new AutocompleteAirportsUseCaseImpl(
+            AirportCatalog.fromLines(List.of(
+                    "BOG,Bogotá,Colombia,El Dorado",
+                    "BGA,Bucaramanga,Colombia,",
+                    "SMR,Santa Marta,Colombia,",
+                    "ADZ,San Andrés,Colombia,")));
+
+    @Test
+    @DisplayName("Debe sugerir aeropuertos por prefijo sin importar tildes")
+    void testExecute_ShouldSuggestAirports() {
+        StepVerifier.create(autocompleteAirportsUseCase.execute("san", 10))
+                .assertNext(airport -> assertEquals("ADZ", airport.getCode().value()))
+                .assertNext(airport -> assertEquals("Santa Marta", airport.getCity()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite de sugerencias")
+    void testExecute_ShouldApplyLimit() {
+        StepVerifier.create(autocompleteAirportsUseCase.execute("B", 1))
+                .assertNext(airport -> assertEquals("BGA", airport.getCode().value()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe retornar vacío con un prefijo en blanco")
+    void testExecute_WhenPrefixBlank_ShouldReturnEmpty() {
+        StepVerifier.create(autocompleteAirportsUseCase.execute("  ", 10))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar límites fuera de rango")
+    void testExecute_WhenLimitInvalid_ShouldReturnError() {
+        StepVerifier.create(autocompleteAirportsUseCase.execute("B", AutocompleteAirportsUseCaseImpl.MAX_SUGGESTIONS + 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
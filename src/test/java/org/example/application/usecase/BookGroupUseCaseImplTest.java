@@ -0,0 +1,217 @@
+package org.example.application.usecase;
+
+import org.example.application.command.BookGroupCommand;
+import org.example.application.command.BookGroupCommand.Passenger;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.exception.NoSeatsAvailableException;
+import org.example.domain.exception.SeatAlreadyTakenException;
+import org.example.domain.model.Flight;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.model.enums.ReservationStatus;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.service.ReservationDomainService;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para BookGroupUseCaseImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class BookGroupUseCaseImplTest {
+
+    @Mock
+    private FlightRepositoryPort flightRepository;
+
+    @Mock
+    private ReservationRepositoryPort reservationRepository;
+
+    @Mock
+    private ReservationDomainService reservationDomainService;
+
+    @Spy
+    private PriceCalculationService priceCalculationService = new PriceCalculationService();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private TicketRepositoryPort ticketRepository;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
+    @InjectMocks
+    private BookGroupUseCaseImpl bookGroupUseCase;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        flight = Flight.builder()
+                .id(new FlightId(1L))
+                .flightNumber(new FlightNumber("AV101"))
+                .origin(new Location("BOG"))
+                .destination(new Location("MDE"))
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .arrivalTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(200000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<List<Reservation>>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(seatInventory.occupy(any(FlightId.class), any(SeatNumber.class)))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Debe reservar todo el grupo en una sola operación con descuento de grupo")
+    @SuppressWarnings("unchecked")
+    void testExecute_WhenValidGroup_ShouldBookAllWithDiscount() {
+        BookGroupCommand command = command(5);
+
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveGroupBooking(anyList(), any(Reservation.class)))
+                .thenReturn(Flux.range(1, 5).map(this::reservation));
+
+        StepVerifier.create(bookGroupUseCase.execute(command))
+                .assertNext(reservations -> assertEquals(5, reservations.size()))
+                .verifyComplete();
+
+        ArgumentCaptor<List<Ticket>> tickets = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository, times(1)).saveGroupBooking(tickets.capture(), any(Reservation.class));
+        assertEquals(List.of("1A", "1B", "1C", "1D", "1E"),
+                tickets.getValue().stream().map(ticket -> ticket.getSeatNumber().value()).toList());
+        // 10% de descuento para grupos de 5 o más
+        tickets.getValue().forEach(ticket ->
+                assertEquals(0, BigDecimal.valueOf(180000).compareTo(ticket.getPrice().amount())));
+
+        verify(reservationDomainService, times(1)).validateReservation(any(Flight.class), eq(5));
+        verify(transactionalOperator, times(1)).transactional(ArgumentMatchers.<Mono<List<Reservation>>>any());
+        verify(seatInventory, times(5)).occupy(eq(new FlightId(1L)), any(SeatNumber.class));
+        verify(reservationRepository, never()).saveBooking(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar FlightNotFoundException cuando el vuelo no existe")
+    void testExecute_WhenFlightNotFound_ShouldThrowException() {
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(bookGroupUseCase.execute(command(2)))
+                .expectError(FlightNotFoundException.class)
+                .verify();
+
+        verify(reservationRepository, never()).saveGroupBooking(anyList(), any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el grupo completo si un asiento ya está ocupado")
+    void testExecute_WhenOneSeatTaken_ShouldRejectGroup() {
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(new FlightId(1L), new SeatNumber("1B"))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(bookGroupUseCase.execute(command(3)))
+                .expectErrorMatches(error -> error instanceof SeatAlreadyTakenException
+                        && error.getMessage().contains("1B"))
+                .verify();
+
+        verify(reservationRepository, never()).saveGroupBooking(anyList(), any(Reservation.class));
+        verify(seatInventory, never()).occupy(any(FlightId.class), any(SeatNumber.class));
+    }
+
+    @Test
+    @DisplayName("Debe marcar en el inventario los asientos ocupados cuando la base de datos rechaza el grupo")
+    void testExecute_WhenDatabaseRejectsSeat_ShouldResyncInventory() {
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveGroupBooking(anyList(), any(Reservation.class)))
+                .thenReturn(Flux.error(new SeatAlreadyTakenException("1A, 1B, 1C")));
+        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(ticketRepository.isSeatTaken(new FlightId(1L), new SeatNumber("1C"))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(bookGroupUseCase.execute(command(3)))
+                .expectError(SeatAlreadyTakenException.class)
+                .verify();
+
+        verify(ticketRepository, times(3)).isSeatTaken(eq(new FlightId(1L)), any(SeatNumber.class));
+        verify(seatInventory, times(1)).occupy(any(FlightId.class), any(SeatNumber.class));
+        verify(seatInventory, times(1)).occupy(new FlightId(1L), new SeatNumber("1C"));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar NoSeatsAvailableException si la base de datos no tiene asientos para todos")
+    void testExecute_WhenDatabaseHasNoSeats_ShouldThrowException() {
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveGroupBooking(anyList(), any(Reservation.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(bookGroupUseCase.execute(command(2)))
+                .expectError(NoSeatsAvailableException.class)
+                .verify();
+
+        verify(seatInventory, never()).occupy(any(FlightId.class), any(SeatNumber.class));
+    }
+
+    private BookGroupCommand command(int passengers) {
+        List<Passenger> group = IntStream.range(0, passengers)
+                .mapToObj(i -> new Passenger("Pasajero " + i, "1" + (char) ('A' + i)))
+                .toList();
+        return new BookGroupCommand(1L, 1L, "ECONOMY", group);
+    }
+
+    private Reservation reservation(int id) {
+        return Reservation.builder()
+                .id(new ReservationId((long) id))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId((long) id))
+                .status(ReservationStatus.CONFIRMED)
+                .reservationDate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.application.usecase;
 
 import org.example.application.command.BookTicketCommand;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.FlightRepositoryPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
 import org.example.domain.exception.FlightNotFoundException;
 import org.example.domain.exception.NoSeatsAvailableException;
@@ -21,9 +23,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -55,6 +59,15 @@ class BookTicketUseCaseImplTest {
     @Mock
     private PriceCalculationService priceCalculationService;
 
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
     @InjectMocks
     private BookTicketUseCaseImpl bookTicketUseCase;
 
@@ -64,6 +77,10 @@ class BookTicketUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
         flight = Flight.builder()
                 .id(new FlightId(1L))
                 .flightNumber(new FlightNumber("AV101"))
@@ -101,6 +118,11 @@ class BookTicketUseCaseImplTest {
                 .reservationDate(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .build();
+
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Reservation>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(seatInventory.occupy(any(FlightId.class), any(SeatNumber.class)))
+                .thenReturn(Mono.empty());
     }
 
     @Test
@@ -111,12 +133,11 @@ class BookTicketUseCaseImplTest {
         );
 
         when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
         when(priceCalculationService.calculatePrice(any(Price.class), any(TicketClass.class)))
                 .thenReturn(flight.getPrice());
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(Mono.just(savedTicket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
-        when(reservationRepository.save(any(Reservation.class))).thenReturn(Mono.just(savedReservation));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenReturn(Mono.just(savedReservation));
 
         StepVerifier.create(bookTicketUseCase.execute(command))
                 .expectNextMatches(res ->
@@ -126,9 +147,12 @@ class BookTicketUseCaseImplTest {
                 )
                 .verifyComplete();
 
-        verify(ticketRepository, times(1)).save(any(Ticket.class));
-        verify(reservationRepository, times(1)).save(any(Reservation.class));
-        verify(flightRepository, times(1)).update(any(Flight.class));
+        verify(reservationRepository, times(1)).saveBooking(any(Ticket.class), any(Reservation.class));
+        verify(transactionalOperator, times(1)).transactional(ArgumentMatchers.<Mono<Reservation>>any());
+        verify(seatInventory, times(1)).occupy(new FlightId(1L), new SeatNumber("12A"));
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(flightRepository, never()).update(any(Flight.class));
         verify(reservationDomainService, times(1)).validateReservation(any(Flight.class), eq(1));
     }
 
@@ -145,7 +169,7 @@ class BookTicketUseCaseImplTest {
                 .expectError(FlightNotFoundException.class)
                 .verify();
 
-        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(reservationRepository, never()).saveBooking(any(Ticket.class), any(Reservation.class));
     }
 
     @Test
@@ -156,14 +180,13 @@ class BookTicketUseCaseImplTest {
         );
 
         when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(true));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(true));
 
         StepVerifier.create(bookTicketUseCase.execute(command))
                 .expectError(SeatAlreadyTakenException.class)
                 .verify();
 
-        verify(ticketRepository, never()).save(any(Ticket.class));
-        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(reservationRepository, never()).saveBooking(any(Ticket.class), any(Reservation.class));
     }
 
     @Test
@@ -189,13 +212,37 @@ class BookTicketUseCaseImplTest {
         );
 
         when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(fullFlight));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenReturn(Mono.empty());
 
         StepVerifier.create(bookTicketUseCase.execute(command))
                 .expectError(NoSeatsAvailableException.class)
                 .verify();
     }
 
+    @Test
+    @DisplayName("Debe propagar SeatAlreadyTakenException cuando otra reserva gana el asiento")
+    void testExecute_WhenSeatTakenConcurrently_ShouldThrowException() {
+        BookTicketCommand command = new BookTicketCommand(
+                1L, 1L, "John Doe", "12A", "ECONOMY"
+        );
+
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(priceCalculationService.calculatePrice(any(Price.class), any(TicketClass.class)))
+                .thenReturn(flight.getPrice());
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenReturn(Mono.error(new SeatAlreadyTakenException("12A")));
+
+        StepVerifier.create(bookTicketUseCase.execute(command))
+                .expectError(SeatAlreadyTakenException.class)
+                .verify();
+
+        // El inventario en memoria se corrige con el asiento que ganó la otra reserva
+        verify(seatInventory, times(1)).occupy(new FlightId(1L), new SeatNumber("12A"));
+    }
+
     @Test
     @DisplayName("Debe calcular precio correctamente para clase BUSINESS")
     void testExecute_WhenBusinessClass_ShouldCalculateCorrectPrice() {
@@ -206,12 +253,11 @@ class BookTicketUseCaseImplTest {
         Price businessPrice = new Price(BigDecimal.valueOf(500000));
 
         when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
         when(priceCalculationService.calculatePrice(any(Price.class), eq(TicketClass.BUSINESS)))
                 .thenReturn(businessPrice);
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(Mono.just(savedTicket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
-        when(reservationRepository.save(any(Reservation.class))).thenReturn(Mono.just(savedReservation));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenReturn(Mono.just(savedReservation));
 
         StepVerifier.create(bookTicketUseCase.execute(command))
                 .expectNextMatches(res -> res.getId() != null)
@@ -230,12 +276,11 @@ class BookTicketUseCaseImplTest {
         Price firstClassPrice = new Price(BigDecimal.valueOf(750000));
 
         when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
         when(priceCalculationService.calculatePrice(any(Price.class), eq(TicketClass.FIRST_CLASS)))
                 .thenReturn(firstClassPrice);
-        when(ticketRepository.save(any(Ticket.class))).thenReturn(Mono.just(savedTicket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
-        when(reservationRepository.save(any(Reservation.class))).thenReturn(Mono.just(savedReservation));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenReturn(Mono.just(savedReservation));
 
         StepVerifier.create(bookTicketUseCase.execute(command))
                 .expectNextMatches(res -> res.getId() != null)
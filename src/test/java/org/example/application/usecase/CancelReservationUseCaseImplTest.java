@@ -1,9 +1,13 @@
 package org.example.application.usecase;
 
 import org.example.application.command.CancelReservationCommand;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.FlightRepositoryPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.HoldExpiredException;
+import org.example.domain.exception.InvalidBookingException;
 import org.example.domain.exception.ReservationNotFoundException;
 import org.example.domain.model.Flight;
 import org.example.domain.model.Reservation;
@@ -18,9 +22,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -28,6 +34,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -48,6 +55,15 @@ class CancelReservationUseCaseImplTest {
     @Mock
     private ReservationDomainService reservationDomainService;
 
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private CancelReservationUseCaseImpl cancelReservationUseCase;
 
@@ -57,6 +73,12 @@ class CancelReservationUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Ticket>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
         reservation = Reservation.builder()
                 .id(new ReservationId(1L))
                 .userId(new UserId(1L))
@@ -101,10 +123,9 @@ class CancelReservationUseCaseImplTest {
         CancelReservationCommand command = new CancelReservationCommand(1L, "User requested");
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
-        when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.update(any(Ticket.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.just(ticket));
+        when(flightRepository.releaseSeats(any(FlightId.class), eq(1))).thenReturn(Mono.just(flight));
+        when(seatInventory.release(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
         when(reservationRepository.update(any(Reservation.class))).thenReturn(Mono.just(reservation));
 
         StepVerifier.create(cancelReservationUseCase.execute(command))
@@ -112,8 +133,13 @@ class CancelReservationUseCaseImplTest {
 
         verify(reservationDomainService, times(1)).validateCancellation(any(Reservation.class));
         verify(reservationRepository, times(1)).update(any(Reservation.class));
-        verify(ticketRepository, times(1)).update(any(Ticket.class));
-        verify(flightRepository, times(1)).update(any(Flight.class));
+        verify(ticketRepository, times(1)).cancel(new TicketId(1L));
+        verify(flightRepository, times(1)).releaseSeats(any(FlightId.class), eq(1));
+        verify(seatInventory, times(1)).release(new FlightId(1L), new SeatNumber("12A"));
+        // Las escrituras en base de datos van en una sola transacción
+        verify(transactionalOperator, times(1)).transactional(ArgumentMatchers.<Mono<Ticket>>any());
+        // La cancelación corre en el turno del vuelo de la reservación
+        verify(flightSequencer, times(1)).serialize(eq(new FlightId(1L)), any());
     }
 
     @Test
@@ -127,8 +153,8 @@ class CancelReservationUseCaseImplTest {
                 .expectError(ReservationNotFoundException.class)
                 .verify();
 
-        verify(ticketRepository, never()).update(any(Ticket.class));
-        verify(flightRepository, never()).update(any(Flight.class));
+        verify(ticketRepository, never()).cancel(any(TicketId.class));
+        verify(flightRepository, never()).releaseSeats(any(FlightId.class), anyInt());
         verify(reservationRepository, never()).update(any(Reservation.class));
     }
 
@@ -138,10 +164,9 @@ class CancelReservationUseCaseImplTest {
         CancelReservationCommand command = new CancelReservationCommand(1L, null);
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
-        when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.update(any(Ticket.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.just(ticket));
+        when(flightRepository.releaseSeats(any(FlightId.class), eq(1))).thenReturn(Mono.just(flight));
+        when(seatInventory.release(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
         when(reservationRepository.update(any(Reservation.class))).thenReturn(Mono.just(reservation));
 
         StepVerifier.create(cancelReservationUseCase.execute(command))
@@ -156,15 +181,105 @@ class CancelReservationUseCaseImplTest {
         CancelReservationCommand command = new CancelReservationCommand(1L, "Cancelación");
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
-        when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.just(flight));
-        when(ticketRepository.update(any(Ticket.class))).thenReturn(Mono.just(ticket));
-        when(flightRepository.update(any(Flight.class))).thenReturn(Mono.just(flight));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.just(ticket));
+        when(flightRepository.releaseSeats(any(FlightId.class), eq(1))).thenReturn(Mono.just(flight));
+        when(seatInventory.release(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
         when(reservationRepository.update(any(Reservation.class))).thenReturn(Mono.just(reservation));
 
         StepVerifier.create(cancelReservationUseCase.execute(command))
                 .verifyComplete();
 
-        verify(flightRepository, times(1)).update(any(Flight.class));
+        verify(flightRepository, times(1)).releaseSeats(any(FlightId.class), eq(1));
+        verify(seatInventory, times(1)).release(new FlightId(1L), new SeatNumber("12A"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la cancelación de una retención vencida sin liberar el asiento")
+    void testExecute_WhenHoldExpired_ShouldRejectWithoutReleasingSeat() {
+        CancelReservationCommand command = new CancelReservationCommand(1L, "User requested");
+        Reservation expired = Reservation.builder()
+                .id(new ReservationId(1L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(1L))
+                .status(ReservationStatus.EXPIRED)
+                .reservationDate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(expired));
+        doThrow(new HoldExpiredException(1L)).when(reservationDomainService).validateCancellation(expired);
+
+        StepVerifier.create(cancelReservationUseCase.execute(command))
+                .expectError(HoldExpiredException.class)
+                .verify();
+
+        verify(ticketRepository, never()).cancel(any(TicketId.class));
+        verify(flightRepository, never()).releaseSeats(any(FlightId.class), anyInt());
+        verify(reservationRepository, never()).update(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("No debe liberar el asiento otra vez si el vencimiento ya canceló el ticket")
+    void testExecute_WhenTicketAlreadyCancelled_ShouldNotReleaseSeatTwice() {
+        CancelReservationCommand command = new CancelReservationCommand(1L, "User requested");
+        Reservation expired = Reservation.builder()
+                .id(new ReservationId(1L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(1L))
+                .status(ReservationStatus.EXPIRED)
+                .reservationDate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // Las dos primeras lecturas ven la retención vigente; la relectura ya la ve vencida
+        when(reservationRepository.findById(any(ReservationId.class)))
+                .thenReturn(Mono.just(reservation), Mono.just(reservation), Mono.just(expired));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(cancelReservationUseCase.execute(command))
+                .expectError(HoldExpiredException.class)
+                .verify();
+
+        // Ubicar el vuelo, releer en el turno y releer tras el ticket inactivo
+        verify(reservationRepository, times(3)).findById(new ReservationId(1L));
+        verify(flightRepository, never()).releaseSeats(any(FlightId.class), anyInt());
+        verify(seatInventory, never()).release(any(FlightId.class), any(SeatNumber.class));
+        verify(reservationRepository, never()).update(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("Debe informar que ya estaba cancelada si el ticket no está activo y la reservación no venció")
+    void testExecute_WhenTicketCancelledButReservationNotExpired_ShouldReportAlreadyCancelled() {
+        CancelReservationCommand command = new CancelReservationCommand(1L, "User requested");
+
+        when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(cancelReservationUseCase.execute(command))
+                .expectError(InvalidBookingException.class)
+                .verify();
+
+        verify(flightRepository, never()).releaseSeats(any(FlightId.class), anyInt());
+        verify(seatInventory, never()).release(any(FlightId.class), any(SeatNumber.class));
+    }
+
+    @Test
+    @DisplayName("No debe tocar el inventario en memoria si la transacción falla")
+    void testExecute_WhenTransactionFails_ShouldNotReleaseInventory() {
+        CancelReservationCommand command = new CancelReservationCommand(1L, "User requested");
+
+        when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
+        when(ticketRepository.cancel(any(TicketId.class))).thenReturn(Mono.just(ticket));
+        when(flightRepository.releaseSeats(any(FlightId.class), eq(1))).thenReturn(Mono.just(flight));
+        when(reservationRepository.update(any(Reservation.class)))
+                .thenReturn(Mono.error(new RuntimeException("Connection reset")));
+
+        StepVerifier.create(cancelReservationUseCase.execute(command))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(seatInventory, never()).release(any(FlightId.class), any(SeatNumber.class));
     }
 }
@@ -0,0 +1,94 @@
+package org.example.application.usecase;
+
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.domain.exception.HoldExpiredException;
+import org.example.domain.exception.ReservationNotFoundException;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.enums.ReservationStatus;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ConfirmHoldUseCaseImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class ConfirmHoldUseCaseImplTest {
+
+    @Mock
+    private ReservationRepositoryPort reservationRepository;
+
+    @Mock
+    private SeatHoldPort seatHold;
+
+    @InjectMocks
+    private ConfirmHoldUseCaseImpl confirmHoldUseCase;
+
+    private final ReservationId reservationId = new ReservationId(1L);
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = Reservation.builder()
+                .id(reservationId)
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(1L))
+                .status(ReservationStatus.CONFIRMED)
+                .reservationDate(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe confirmar la retención y anular su vencimiento")
+    void testExecute_WhenHoldActive_ShouldConfirmAndCancelExpiry() {
+        when(reservationRepository.confirmHold(eq(reservationId), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(reservation));
+        when(seatHold.cancel(reservationId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(confirmHoldUseCase.execute(reservationId))
+                .expectNext(reservation)
+                .verifyComplete();
+
+        verify(seatHold, times(1)).cancel(reservationId);
+        verify(reservationRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar HoldExpiredException si la retención ya no está vigente")
+    void testExecute_WhenHoldExpired_ShouldThrowException() {
+        when(reservationRepository.confirmHold(eq(reservationId), any(LocalDateTime.class))).thenReturn(Mono.empty());
+        when(reservationRepository.findById(reservationId)).thenReturn(Mono.just(reservation));
+
+        StepVerifier.create(confirmHoldUseCase.execute(reservationId))
+                .expectError(HoldExpiredException.class)
+                .verify();
+
+        verify(seatHold, never()).cancel(any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar ReservationNotFoundException si la reservación no existe")
+    void testExecute_WhenReservationMissing_ShouldThrowException() {
+        when(reservationRepository.confirmHold(eq(reservationId), any(LocalDateTime.class))).thenReturn(Mono.empty());
+        when(reservationRepository.findById(reservationId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(confirmHoldUseCase.execute(reservationId))
+                .expectError(ReservationNotFoundException.class)
+                .verify();
+    }
+}
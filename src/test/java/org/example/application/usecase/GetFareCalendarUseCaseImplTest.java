@@ -0,0 +1,82 @@
+package org.example.application.usecase;
+
+import org.example.application.command.FareCalendarCommand;
+import org.example.application.port.out.DailyLowestFare;
+import org.example.application.port.out.FareCalendarCriteria;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.valueobject.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para GetFareCalendarUseCaseImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class GetFareCalendarUseCaseImplTest {
+
+    @Mock
+    private FlightRepositoryPort flightRepository;
+
+    @Spy
+    private PriceCalculationService priceCalculationService = new PriceCalculationService();
+
+    @InjectMocks
+    private GetFareCalendarUseCaseImpl getFareCalendarUseCase;
+
+    private final LocalDate start = LocalDate.now().plusDays(5);
+
+    @Test
+    @DisplayName("Debe calcular el precio más bajo por clase para cada día")
+    void testExecute_ShouldPriceEachTicketClass() {
+        FareCalendarCommand command = new FareCalendarCommand("BOG", "MDE", start, start.plusDays(29), 2);
+
+        when(flightRepository.findLowestFaresByDay(any(FareCalendarCriteria.class)))
+                .thenReturn(Flux.just(new DailyLowestFare(start, new Price(BigDecimal.valueOf(200000)), 3)));
+
+        StepVerifier.create(getFareCalendarUseCase.execute(command))
+                .assertNext(day -> {
+                    assertEquals(start, day.getDate());
+                    assertEquals(3, day.getFlights());
+                    assertEquals(TicketClass.values().length, day.getLowestPrices().size());
+                    assertEquals(0, BigDecimal.valueOf(200000)
+                            .compareTo(day.getLowestPrice(TicketClass.ECONOMY).amount()));
+                    assertEquals(0, BigDecimal.valueOf(800000)
+                            .compareTo(day.getLowestPrice(TicketClass.FIRST_CLASS).amount()));
+                })
+                .verifyComplete();
+
+        verify(flightRepository, times(1)).findLowestFaresByDay(argThat(criteria ->
+                criteria.departureFrom().equals(start.atStartOfDay())
+                        && criteria.departureTo().equals(start.plusDays(30).atStartOfDay())
+                        && criteria.passengers() == 2));
+    }
+
+    @Test
+    @DisplayName("Debe usar un pasajero por defecto y retornar vacío sin tarifas")
+    void testExecute_WhenNoFares_ShouldReturnEmpty() {
+        FareCalendarCommand command = new FareCalendarCommand("BOG", "MDE", start, start, null);
+
+        when(flightRepository.findLowestFaresByDay(any(FareCalendarCriteria.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(getFareCalendarUseCase.execute(command))
+                .verifyComplete();
+
+        verify(flightRepository).findLowestFaresByDay(argThat(criteria -> criteria.passengers() == 1));
+    }
+}
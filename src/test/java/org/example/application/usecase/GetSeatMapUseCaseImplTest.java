@@ -0,0 +1,50 @@
+package org.example.application.usecase;
+
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.model.SeatMap;
+import org.example.domain.valueobject.FlightId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para GetSeatMapUseCaseImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class GetSeatMapUseCaseImplTest {
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @InjectMocks
+    private GetSeatMapUseCaseImpl getSeatMapUseCase;
+
+    @Test
+    @DisplayName("Debe retornar el mapa de asientos del inventario")
+    void testExecute_WhenFlightExists_ShouldReturnSeatMap() {
+        SeatMap seatMap = new SeatMap(50);
+        when(seatInventory.getSeatMap(new FlightId(1L))).thenReturn(Mono.just(seatMap));
+
+        StepVerifier.create(getSeatMapUseCase.execute(new FlightId(1L)))
+                .expectNext(seatMap)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar FlightNotFoundException cuando el vuelo no existe")
+    void testExecute_WhenFlightNotFound_ShouldThrowException() {
+        when(seatInventory.getSeatMap(new FlightId(999L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(getSeatMapUseCase.execute(new FlightId(999L)))
+                .expectError(FlightNotFoundException.class)
+                .verify();
+    }
+}
@@ -112,5 +112,31 @@ class GetUserReservationsUseCaseImplTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
-}
 
+    @Test
+    @DisplayName("Debe consultar la página desde el inicio cuando no hay cursor")
+    void testExecutePage_WhenNoCursor_ShouldStartFromZero() {
+        UserId userId = new UserId(1L);
+
+        when(reservationRepository.findByUserIdAfter(userId, 0L, 21))
+                .thenReturn(Flux.just(reservation1, reservation2));
+
+        StepVerifier.create(getUserReservationsUseCase.execute(userId, null, 21))
+                .expectNext(reservation1)
+                .expectNext(reservation2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe consultar la página posterior al cursor")
+    void testExecutePage_WithCursor_ShouldQueryAfterCursor() {
+        UserId userId = new UserId(1L);
+
+        when(reservationRepository.findByUserIdAfter(userId, 1L, 10))
+                .thenReturn(Flux.just(reservation2));
+
+        StepVerifier.create(getUserReservationsUseCase.execute(userId, 1L, 10))
+                .expectNext(reservation2)
+                .verifyComplete();
+    }
+}
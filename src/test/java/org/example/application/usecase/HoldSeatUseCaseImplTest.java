@@ -0,0 +1,169 @@
+package org.example.application.usecase;
+
+import org.example.application.command.BookTicketCommand;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatHoldPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.exception.NoSeatsAvailableException;
+import org.example.domain.exception.SeatAlreadyTakenException;
+import org.example.domain.model.Flight;
+import org.example.domain.model.Reservation;
+import org.example.domain.model.Ticket;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.model.enums.ReservationStatus;
+import org.example.domain.model.enums.TicketStatus;
+import org.example.domain.service.PriceCalculationService;
+import org.example.domain.service.ReservationDomainService;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para HoldSeatUseCaseImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class HoldSeatUseCaseImplTest {
+
+    @Mock
+    private FlightRepositoryPort flightRepository;
+
+    @Mock
+    private ReservationRepositoryPort reservationRepository;
+
+    @Mock
+    private ReservationDomainService reservationDomainService;
+
+    @Spy
+    private PriceCalculationService priceCalculationService = new PriceCalculationService();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private SeatHoldPort seatHold;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
+    @InjectMocks
+    private HoldSeatUseCaseImpl holdSeatUseCase;
+
+    private final BookTicketCommand command = new BookTicketCommand(1L, 1L, "John Doe", "12A", "ECONOMY");
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        flight = Flight.builder()
+                .id(new FlightId(1L))
+                .flightNumber(new FlightNumber("AV101"))
+                .origin(new Location("BOG"))
+                .destination(new Location("MDE"))
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .arrivalTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(200000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Reservation>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(seatInventory.occupy(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
+        lenient().when(seatHold.holdDuration()).thenReturn(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Debe crear la reservación PENDING con vencimiento y programar su liberación")
+    void testExecute_WhenSeatFree_ShouldCreatePendingHoldAndSchedule() {
+        LocalDateTime before = LocalDateTime.now();
+        when(flightRepository.findById(new FlightId(1L))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(new FlightId(1L), new SeatNumber("12A"))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class)))
+                .thenAnswer(invocation -> Mono.just(saved(invocation.getArgument(1))));
+        when(seatHold.schedule(any(ReservationId.class), any(FlightId.class), any(LocalDateTime.class)))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(holdSeatUseCase.execute(command))
+                .assertNext(hold -> assertEquals(ReservationStatus.PENDING, hold.getStatus()))
+                .verifyComplete();
+
+        ArgumentCaptor<Ticket> ticket = ArgumentCaptor.forClass(Ticket.class);
+        ArgumentCaptor<Reservation> hold = ArgumentCaptor.forClass(Reservation.class);
+        verify(reservationRepository).saveBooking(ticket.capture(), hold.capture());
+        assertEquals(TicketStatus.HELD, ticket.getValue().getStatus());
+        assertTrue(hold.getValue().isPending());
+        assertFalse(hold.getValue().getHoldExpiresAt().isBefore(before.plusMinutes(10)));
+
+        verify(seatInventory).occupy(new FlightId(1L), new SeatNumber("12A"));
+        verify(seatHold).schedule(new ReservationId(7L), new FlightId(1L), hold.getValue().getHoldExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un asiento ocupado sin tocar la base de datos")
+    void testExecute_WhenSeatTaken_ShouldThrowException() {
+        when(flightRepository.findById(new FlightId(1L))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(new FlightId(1L), new SeatNumber("12A"))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(holdSeatUseCase.execute(command))
+                .expectError(SeatAlreadyTakenException.class)
+                .verify();
+
+        verify(reservationRepository, never()).saveBooking(any(), any());
+        verify(seatHold, never()).schedule(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("No debe programar vencimiento si la base de datos no tenía asientos")
+    void testExecute_WhenDatabaseHasNoSeats_ShouldThrowException() {
+        when(flightRepository.findById(new FlightId(1L))).thenReturn(Mono.just(flight));
+        when(seatInventory.isSeatTaken(new FlightId(1L), new SeatNumber("12A"))).thenReturn(Mono.just(false));
+        when(reservationRepository.saveBooking(any(Ticket.class), any(Reservation.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(holdSeatUseCase.execute(command))
+                .expectError(NoSeatsAvailableException.class)
+                .verify();
+
+        verify(seatHold, never()).schedule(any(), any(), any());
+    }
+
+    private Reservation saved(Reservation hold) {
+        return Reservation.builder()
+                .id(new ReservationId(7L))
+                .userId(hold.getUserId())
+                .flightId(hold.getFlightId())
+                .ticketId(new TicketId(3L))
+                .status(hold.getStatus())
+                .holdExpiresAt(hold.getHoldExpiresAt())
+                .reservationDate(hold.getReservationDate())
+                .build();
+    }
+}
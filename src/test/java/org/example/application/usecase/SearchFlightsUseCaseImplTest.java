@@ -1,8 +1,13 @@
 package org.example.application.usecase;
 
 import org.example.application.command.SearchFlightsCommand;
+import org.example.application.port.out.ConnectionSearchCriteria;
 import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.application.port.out.RouteGraphPort;
 import org.example.domain.model.Flight;
+import org.example.domain.model.Itinerary;
+import org.example.domain.model.enums.FlightSortOrder;
 import org.example.domain.model.enums.FlightStatus;
 import org.example.domain.valueobject.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +22,7 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +36,9 @@ class SearchFlightsUseCaseImplTest {
     @Mock
     private FlightRepositoryPort flightRepository;
 
+    @Mock
+    private RouteGraphPort routeGraph;
+
     @InjectMocks
     private SearchFlightsUseCaseImpl searchFlightsUseCase;
 
@@ -92,14 +101,14 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", LocalDateTime.now().plusDays(1), 2
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.just(bookableFlight, nonBookableFlight));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
                 .expectNext(bookableFlight)
                 .verifyComplete();
 
-        verify(flightRepository, times(1)).searchFlights(anyString(), anyString(), any(LocalDateTime.class));
+        verify(flightRepository, times(1)).searchFlights(any(FlightSearchCriteria.class));
     }
 
     @Test
@@ -109,7 +118,7 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "CTG", LocalDateTime.now().plusDays(1), 1
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.empty());
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
@@ -123,7 +132,7 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", LocalDateTime.now().plusDays(1), null
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.just(bookableFlight));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
@@ -138,7 +147,7 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", LocalDateTime.now().plusDays(1), 1
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.just(bookableFlight, cancelledFlight));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
@@ -153,7 +162,7 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", LocalDateTime.now().plusDays(1), 100
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.just(bookableFlight));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
@@ -167,14 +176,57 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", null, 1
         );
 
-        when(flightRepository.searchFlights(eq("BOG"), eq("MDE"), isNull()))
+        when(flightRepository.searchFlights(argThat(criteria -> criteria.departureDate() == null)))
+                .thenReturn(Flux.just(bookableFlight));
+
+        StepVerifier.create(searchFlightsUseCase.execute(command))
+                .expectNext(bookableFlight)
+                .verifyComplete();
+
+        verify(flightRepository).searchFlights(argThat(criteria ->
+                criteria.origin().equals("BOG") && criteria.destination().equals("MDE")
+                        && criteria.departureDate() == null));
+    }
+
+    @Test
+    @DisplayName("Debe delegar pasajeros, corte de salida, orden y límite a la consulta")
+    void testExecute_ShouldPushFiltersIntoCriteria() {
+        SearchFlightsCommand command = new SearchFlightsCommand(
+                "BOG", "MDE", null, 3, FlightSortOrder.PRICE, 10
+        );
+        LocalDateTime before = LocalDateTime.now();
+
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.just(bookableFlight));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
                 .expectNext(bookableFlight)
                 .verifyComplete();
 
-        verify(flightRepository).searchFlights(eq("BOG"), eq("MDE"), isNull());
+        verify(flightRepository).searchFlights(argThat(criteria ->
+                criteria.passengers() == 3
+                        && !criteria.departureAfter().isBefore(before)
+                        && criteria.sortOrder() == FlightSortOrder.PRICE
+                        && criteria.limit() == 10));
+    }
+
+    @Test
+    @DisplayName("Debe buscar al menos un asiento cuando passengers es null")
+    void testExecute_WhenPassengersNull_ShouldRequireOneSeat() {
+        SearchFlightsCommand command = new SearchFlightsCommand(
+                "BOG", "MDE", null, null
+        );
+
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(searchFlightsUseCase.execute(command))
+                .verifyComplete();
+
+        verify(flightRepository).searchFlights(argThat(criteria ->
+                criteria.passengers() == 1
+                        && criteria.sortOrder() == FlightSortOrder.DEPARTURE_TIME
+                        && criteria.limit() == null));
     }
 
     @Test
@@ -184,11 +236,62 @@ class SearchFlightsUseCaseImplTest {
                 "BOG", "MDE", LocalDateTime.now().plusDays(1), 1
         );
 
-        when(flightRepository.searchFlights(anyString(), anyString(), any(LocalDateTime.class)))
+        when(flightRepository.searchFlights(any(FlightSearchCriteria.class)))
                 .thenReturn(Flux.error(new RuntimeException("Database error")));
 
         StepVerifier.create(searchFlightsUseCase.execute(command))
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Debe buscar itinerarios con escalas dentro del día solicitado")
+    void testSearchConnections_ShouldSearchWithinRequestedDay() {
+        LocalDateTime day = LocalDateTime.now().plusDays(3).withHour(15);
+        SearchFlightsCommand command = new SearchFlightsCommand("PEI", "ADZ", day, 2);
+        Itinerary itinerary = new Itinerary(List.of(bookableFlight));
+
+        when(routeGraph.findItineraries(any(ConnectionSearchCriteria.class)))
+                .thenReturn(Flux.just(itinerary));
+
+        StepVerifier.create(searchFlightsUseCase.searchConnections(command, 2))
+                .expectNext(itinerary)
+                .verifyComplete();
+
+        verify(routeGraph).findItineraries(argThat(criteria ->
+                criteria.departureFrom().equals(day.toLocalDate().atStartOfDay())
+                        && criteria.departureTo().equals(day.toLocalDate().plusDays(1).atStartOfDay())
+                        && criteria.passengers() == 2
+                        && criteria.maxStops() == 2));
+        verifyNoInteractions(flightRepository);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el límite de resultados a los itinerarios")
+    void testSearchConnections_ShouldApplyLimit() {
+        SearchFlightsCommand command = new SearchFlightsCommand(
+                "BOG", "MDE", null, 1, FlightSortOrder.DEPARTURE_TIME, 1);
+        Itinerary itinerary = new Itinerary(List.of(bookableFlight));
+
+        when(routeGraph.findItineraries(any(ConnectionSearchCriteria.class)))
+                .thenReturn(Flux.just(itinerary, itinerary));
+
+        StepVerifier.create(searchFlightsUseCase.searchConnections(command, 1))
+                .expectNext(itinerary)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar más escalas de las permitidas")
+    void testSearchConnections_WhenTooManyStops_ShouldReturnError() {
+        SearchFlightsCommand command = new SearchFlightsCommand(
+                "PEI", "ADZ", LocalDateTime.now().plusDays(1), 1
+        );
+
+        StepVerifier.create(searchFlightsUseCase.searchConnections(command, 3))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(routeGraph);
+    }
 }
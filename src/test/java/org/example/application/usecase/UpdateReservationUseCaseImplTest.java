@@ -1,8 +1,11 @@
 package org.example.application.usecase;
 
 import org.example.application.command.UpdateReservationCommand;
+import org.example.application.port.out.FlightMutationSequencerPort;
 import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
 import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.exception.HoldExpiredException;
 import org.example.domain.exception.ReservationNotFoundException;
 import org.example.domain.exception.SeatAlreadyTakenException;
 import org.example.domain.model.Reservation;
@@ -43,6 +46,12 @@ class UpdateReservationUseCaseImplTest {
     @Mock
     private ReservationDomainService reservationDomainService;
 
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
     @InjectMocks
     private UpdateReservationUseCaseImpl updateReservationUseCase;
 
@@ -51,6 +60,10 @@ class UpdateReservationUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
         reservation = Reservation.builder()
                 .id(new ReservationId(1L))
                 .userId(new UserId(1L))
@@ -98,16 +111,19 @@ class UpdateReservationUseCaseImplTest {
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
         when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
         when(ticketRepository.update(any(Ticket.class))).thenReturn(Mono.just(ticket));
+        when(seatInventory.move(any(FlightId.class), any(SeatNumber.class), any(SeatNumber.class)))
+                .thenReturn(Mono.empty());
         when(reservationRepository.update(any(Reservation.class))).thenReturn(Mono.just(reservation));
 
         StepVerifier.create(updateReservationUseCase.execute(command))
                 .expectNextMatches(res -> res.getId() != null)
                 .verifyComplete();
 
-        verify(ticketRepository, times(1)).isSeatTaken(any(FlightId.class), any(SeatNumber.class));
+        verify(seatInventory, times(1)).isSeatTaken(any(FlightId.class), any(SeatNumber.class));
         verify(ticketRepository, times(1)).update(any(Ticket.class));
+        verify(seatInventory, times(1)).move(new FlightId(1L), new SeatNumber("12A"), new SeatNumber("15B"));
     }
 
     @Test
@@ -117,7 +133,7 @@ class UpdateReservationUseCaseImplTest {
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
         when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(true));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(true));
 
         StepVerifier.create(updateReservationUseCase.execute(command))
                 .expectError(SeatAlreadyTakenException.class)
@@ -126,6 +142,27 @@ class UpdateReservationUseCaseImplTest {
         verify(ticketRepository, never()).update(any(Ticket.class));
     }
 
+    @Test
+    @DisplayName("Debe marcar el asiento en el inventario cuando la base de datos lo rechaza")
+    void testExecute_WhenDatabaseRejectsSeat_ShouldResyncInventory() {
+        UpdateReservationCommand command = new UpdateReservationCommand(1L, "15B", null);
+
+        when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
+        when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(ticketRepository.update(any(Ticket.class)))
+                .thenReturn(Mono.error(new SeatAlreadyTakenException("15B")));
+        when(seatInventory.occupy(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(updateReservationUseCase.execute(command))
+                .expectError(SeatAlreadyTakenException.class)
+                .verify();
+
+        verify(seatInventory, times(1)).occupy(new FlightId(1L), new SeatNumber("15B"));
+        verify(seatInventory, never()).move(any(FlightId.class), any(SeatNumber.class), any(SeatNumber.class));
+        verify(reservationRepository, never()).update(any(Reservation.class));
+    }
+
     @Test
     @DisplayName("Debe actualizar asiento y observaciones simultáneamente")
     void testExecute_WhenUpdateBothSeatAndObservations_ShouldUpdateBoth() {
@@ -133,8 +170,10 @@ class UpdateReservationUseCaseImplTest {
 
         when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(reservation));
         when(ticketRepository.findById(any(TicketId.class))).thenReturn(Mono.just(ticket));
-        when(ticketRepository.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
+        when(seatInventory.isSeatTaken(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.just(false));
         when(ticketRepository.update(any(Ticket.class))).thenReturn(Mono.just(ticket));
+        when(seatInventory.move(any(FlightId.class), any(SeatNumber.class), any(SeatNumber.class)))
+                .thenReturn(Mono.empty());
         when(reservationRepository.update(any(Reservation.class))).thenReturn(Mono.just(reservation));
 
         StepVerifier.create(updateReservationUseCase.execute(command))
@@ -158,7 +197,7 @@ class UpdateReservationUseCaseImplTest {
                 .expectNextMatches(res -> res.getId() != null)
                 .verifyComplete();
 
-        verify(ticketRepository, never()).isSeatTaken(any(FlightId.class), any(SeatNumber.class));
+        verify(seatInventory, never()).isSeatTaken(any(FlightId.class), any(SeatNumber.class));
     }
 
     @Test
@@ -234,5 +273,30 @@ class UpdateReservationUseCaseImplTest {
 
         verify(ticketRepository, never()).findById(any(TicketId.class));
     }
-}
 
+    @Test
+    @DisplayName("Debe rechazar la actualización de una retención vencida sin tocar el ticket")
+    void testExecute_WhenHoldExpired_ShouldRejectWithoutTouchingTicket() {
+        UpdateReservationCommand command = new UpdateReservationCommand(1L, "15B", "Nueva observación");
+        Reservation expired = Reservation.builder()
+                .id(new ReservationId(1L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(1L))
+                .status(ReservationStatus.EXPIRED)
+                .reservationDate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(reservationRepository.findById(any(ReservationId.class))).thenReturn(Mono.just(expired));
+        doThrow(new HoldExpiredException(1L)).when(reservationDomainService).validateUpdate(expired);
+
+        StepVerifier.create(updateReservationUseCase.execute(command))
+                .expectError(HoldExpiredException.class)
+                .verify();
+
+        verify(ticketRepository, never()).findById(any(TicketId.class));
+        verify(ticketRepository, never()).update(any(Ticket.class));
+        verify(reservationRepository, never()).update(any(Reservation.class));
+    }
+}
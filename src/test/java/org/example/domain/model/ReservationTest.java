@@ -70,6 +70,22 @@ class ReservationTest {
         assertNotNull(newReservation.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Debe crear una retención PENDING que vence en la fecha indicada")
+    void testHold_ShouldCreatePendingReservationWithExpiration() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        Reservation hold = Reservation.hold(new UserId(1L), new FlightId(1L), expiresAt);
+
+        assertTrue(hold.isPending());
+        assertEquals(expiresAt, hold.getHoldExpiresAt());
+        assertFalse(hold.isHoldExpired(expiresAt.minusSeconds(1)));
+        assertTrue(hold.isHoldExpired(expiresAt));
+
+        hold.confirm();
+        assertTrue(hold.isConfirmed());
+        assertNull(hold.getHoldExpiresAt());
+    }
+
     @Test
     @DisplayName("Debe confirmar reservación pendiente")
     void testConfirm_WhenPending_ShouldSetStatusToConfirmed() {
@@ -0,0 +1,163 @@
+package org.example.domain.model;
+
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RouteGraph
+ */
+class RouteGraphTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 5, 10, 0, 0);
+
+    private RouteGraph routeGraph;
+
+    @BeforeEach
+    void setUp() {
+        routeGraph = new RouteGraph(Duration.ofMinutes(45), Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar una conexión de una escala respetando el tiempo mínimo")
+    void testFindItineraries_ShouldRespectMinimumConnectionTime() {
+        routeGraph.replaceAll(List.of(
+                flight(1L, "PEI", "BOG", 8, 0, 9, 0),
+                flight(2L, "BOG", "ADZ", 9, 30, 11, 0),
+                flight(3L, "BOG", "ADZ", 10, 0, 11, 30)));
+
+        List<Itinerary> itineraries = routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 1);
+
+        assertEquals(1, itineraries.size());
+        assertEquals(List.of(1L, 3L), legIds(itineraries.get(0)));
+        assertEquals(1, itineraries.get(0).getStops());
+        assertEquals(BigDecimal.valueOf(200), itineraries.get(0).getTotalPrice().amount());
+    }
+
+    @Test
+    @DisplayName("Debe encontrar conexiones de dos escalas solo si se permiten")
+    void testFindItineraries_ShouldLimitStops() {
+        routeGraph.replaceAll(List.of(
+                flight(1L, "PEI", "BOG", 6, 0, 7, 0),
+                flight(2L, "BOG", "MDE", 8, 0, 9, 0),
+                flight(3L, "MDE", "ADZ", 10, 0, 12, 0)));
+
+        assertTrue(routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 1).isEmpty());
+
+        List<Itinerary> itineraries = routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 2);
+        assertEquals(1, itineraries.size());
+        assertEquals(List.of(1L, 2L, 3L), legIds(itineraries.get(0)));
+    }
+
+    @Test
+    @DisplayName("Debe descartar itinerarios dominados por otro que sale después y llega antes")
+    void testFindItineraries_ShouldDropDominatedItineraries() {
+        routeGraph.replaceAll(List.of(
+                flight(1L, "PEI", "BOG", 6, 0, 7, 0),
+                flight(2L, "BOG", "ADZ", 12, 0, 14, 0),
+                flight(3L, "PEI", "ADZ", 8, 0, 11, 0),
+                flight(4L, "PEI", "ADZ", 15, 0, 18, 0)));
+
+        List<Itinerary> itineraries = routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 1);
+
+        assertEquals(List.of(List.of(3L), List.of(4L)), itineraries.stream().map(this::legIds).toList());
+    }
+
+    @Test
+    @DisplayName("Debe respetar la espera máxima, los asientos y la ventana de salida")
+    void testFindItineraries_ShouldFilterLayoverSeatsAndWindow() {
+        routeGraph.replaceAll(List.of(
+                flight(1L, "PEI", "BOG", 6, 0, 7, 0),
+                flight(2L, "BOG", "ADZ", 14, 0, 15, 0),
+                flight(3L, "PEI", "ADZ", 9, 0, 10, 0).toBuilder().availableSeats(1).build(),
+                flight(4L, "PEI", "ADZ", 5, 0, 6, 0)));
+
+        List<Itinerary> itineraries = routeGraph.findItineraries(
+                "PEI", "ADZ", DAY.plusHours(5).plusMinutes(30), DAY.plusDays(1), 2, 1);
+
+        assertTrue(itineraries.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar cambios incrementales y retirar vuelos inactivos")
+    void testUpsertAndRemove_ShouldUpdateAdjacency() {
+        Flight direct = flight(1L, "PEI", "ADZ", 8, 0, 10, 0);
+        routeGraph.upsert(direct);
+        routeGraph.upsert(flight(2L, "PEI", "ADZ", 7, 0, 9, 0));
+        assertEquals(2, routeGraph.size());
+        assertEquals(List.of(2L), legIds(routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 0).get(0)));
+
+        routeGraph.upsert(flight(2L, "PEI", "ADZ", 7, 0, 9, 0).toBuilder().status(FlightStatus.CANCELLED).build());
+        assertEquals(1, routeGraph.size());
+
+        routeGraph.remove(direct.getId());
+        assertEquals(0, routeGraph.size());
+        assertTrue(routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe ajustar los asientos disponibles sin salir de la capacidad del vuelo")
+    void testAdjustSeats_ShouldClampToCapacity() {
+        routeGraph.upsert(flight(1L, "PEI", "ADZ", 8, 0, 10, 0).toBuilder().availableSeats(1).build());
+
+        assertTrue(routeGraph.adjustSeats(new FlightId(1L), -1));
+        assertTrue(routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, 0).isEmpty());
+
+        assertTrue(routeGraph.adjustSeats(new FlightId(1L), 100));
+        assertEquals(1, routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 50, 0).size());
+        assertTrue(routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 51, 0).isEmpty());
+
+        assertFalse(routeGraph.adjustSeats(new FlightId(99L), -1));
+    }
+
+    @Test
+    @DisplayName("Debe retirar solo los vuelos que ya salieron")
+    void testRemoveDepartedBy_ShouldDropPastDepartures() {
+        routeGraph.replaceAll(List.of(
+                flight(1L, "PEI", "BOG", 6, 0, 7, 0),
+                flight(2L, "PEI", "BOG", 9, 0, 10, 0),
+                flight(3L, "BOG", "ADZ", 8, 0, 10, 0)));
+
+        assertEquals(2, routeGraph.removeDepartedBy(DAY.withHour(8)));
+        assertEquals(1, routeGraph.size());
+        assertEquals(List.of(2L), legIds(routeGraph.findItineraries("PEI", "BOG", DAY, DAY.plusDays(1), 1, 0).get(0)));
+        assertTrue(routeGraph.findItineraries("BOG", "ADZ", DAY, DAY.plusDays(1), 1, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar más escalas de las permitidas")
+    void testFindItineraries_WhenTooManyStops_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> routeGraph.findItineraries("PEI", "ADZ", DAY, DAY.plusDays(1), 1, RouteGraph.MAX_STOPS + 1));
+    }
+
+    private List<Long> legIds(Itinerary itinerary) {
+        return itinerary.getLegs().stream().map(leg -> leg.getId().value()).toList();
+    }
+
+    private Flight flight(Long id, String origin, String destination,
+                          int departureHour, int departureMinute, int arrivalHour, int arrivalMinute) {
+        return Flight.builder()
+                .id(new FlightId(id))
+                .flightNumber(new FlightNumber("AV" + (100 + id)))
+                .origin(new Location(origin))
+                .destination(new Location(destination))
+                .departureTime(DAY.withHour(departureHour).withMinute(departureMinute))
+                .arrivalTime(DAY.withHour(arrivalHour).withMinute(arrivalMinute))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(100)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+    }
+}
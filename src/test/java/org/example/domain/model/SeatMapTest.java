@@ -0,0 +1,74 @@
+package org.example.domain.model;
+
+import org.example.domain.valueobject.SeatNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SeatMap
+ */
+class SeatMapTest {
+
+    @Test
+    @DisplayName("Debe calcular la posición del asiento por fila y columna")
+    void testIndexOf_ShouldMapRowAndColumn() {
+        assertEquals(6, SeatMap.indexOf(new SeatNumber("1A")));
+        assertEquals(77, SeatMap.indexOf(new SeatNumber("12F")));
+        assertEquals(599, SeatMap.indexOf(new SeatNumber("99F")));
+        assertEquals(new SeatNumber("12F"), SeatMap.seatAt(77));
+    }
+
+    @Test
+    @DisplayName("Debe ocupar y liberar asientos")
+    void testOccupyAndRelease() {
+        SeatMap seatMap = new SeatMap(50);
+        SeatNumber seat = new SeatNumber("12A");
+
+        assertFalse(seatMap.isTaken(seat));
+        assertTrue(seatMap.occupy(seat));
+        assertTrue(seatMap.isTaken(seat));
+        assertFalse(seatMap.occupy(seat));
+
+        assertTrue(seatMap.release(seat));
+        assertFalse(seatMap.isTaken(seat));
+        assertFalse(seatMap.release(seat));
+    }
+
+    @Test
+    @DisplayName("Debe mover la ocupación de un asiento a otro")
+    void testMove() {
+        SeatMap seatMap = new SeatMap(50);
+        seatMap.occupy(new SeatNumber("3C"));
+
+        seatMap.move(new SeatNumber("3C"), new SeatNumber("4D"));
+
+        assertFalse(seatMap.isTaken(new SeatNumber("3C")));
+        assertTrue(seatMap.isTaken(new SeatNumber("4D")));
+    }
+
+    @Test
+    @DisplayName("Debe retornar los primeros asientos libres dentro de la distribución")
+    void testFindFreeSeats() {
+        SeatMap seatMap = new SeatMap(8);
+        seatMap.occupy(new SeatNumber("1A"));
+        seatMap.occupy(new SeatNumber("1C"));
+
+        List<SeatNumber> freeSeats = seatMap.findFreeSeats(3);
+
+        assertEquals(List.of(new SeatNumber("1B"), new SeatNumber("1D"), new SeatNumber("1E")), freeSeats);
+        assertEquals(6, seatMap.findFreeSeats(10).size());
+        assertEquals(2, seatMap.getOccupiedSeats());
+        assertEquals(2, seatMap.getRows());
+    }
+
+    @Test
+    @DisplayName("Debe limitar la distribución a los asientos representables")
+    void testConstructor_ShouldClampLayout() {
+        assertEquals(594, new SeatMap(1000).getTotalSeats());
+        assertThrows(IllegalArgumentException.class, () -> new SeatMap(-1));
+    }
+}
@@ -66,6 +66,23 @@ class TicketTest {
         assertNotNull(newTicket.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Debe crear ticket de retención con status HELD")
+    void testHold_ShouldCreateTicketWithHeldStatus() {
+        Ticket heldTicket = Ticket.hold(
+                new UserId(1L),
+                new FlightId(1L),
+                "John Doe",
+                new SeatNumber("1A"),
+                new Price(BigDecimal.valueOf(100000)),
+                TicketClass.ECONOMY
+        );
+
+        assertEquals(TicketStatus.HELD, heldTicket.getStatus());
+        assertFalse(heldTicket.isActive());
+        assertFalse(heldTicket.isCancelled());
+    }
+
     @Test
     @DisplayName("Debe cancelar ticket correctamente")
     void testCancel_ShouldSetStatusToCancelled() {
@@ -1,5 +1,6 @@
 package org.example.domain.service;
 
+import org.example.domain.exception.HoldExpiredException;
 import org.example.domain.exception.InvalidBookingException;
 import org.example.domain.exception.NoSeatsAvailableException;
 import org.example.domain.model.Flight;
@@ -173,6 +174,26 @@ class ReservationDomainServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Debe lanzar HoldExpiredException al cancelar una retención vencida")
+    void testValidateCancellation_WhenExpired_ShouldThrowException() {
+        Reservation expiredReservation = expiredReservation();
+
+        assertThrows(HoldExpiredException.class, () ->
+            reservationDomainService.validateCancellation(expiredReservation)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe lanzar HoldExpiredException al actualizar una retención vencida")
+    void testValidateUpdate_WhenExpired_ShouldThrowException() {
+        Reservation expiredReservation = expiredReservation();
+
+        assertThrows(HoldExpiredException.class, () ->
+            reservationDomainService.validateUpdate(expiredReservation)
+        );
+    }
+
     @Test
     @DisplayName("Debe validar múltiples asientos correctamente")
     void testValidateReservation_MultipleSeats_ShouldValidate() {
@@ -180,5 +201,16 @@ class ReservationDomainServiceTest {
             reservationDomainService.validateReservation(bookableFlight, 5)
         );
     }
-}
 
+    private Reservation expiredReservation() {
+        return Reservation.builder()
+                .id(new ReservationId(1L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(1L))
+                .status(ReservationStatus.EXPIRED)
+                .reservationDate(LocalDateTime.now().minusMinutes(15))
+                .holdExpiresAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+}
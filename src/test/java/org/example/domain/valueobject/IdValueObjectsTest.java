@@ -233,6 +233,13 @@ class IdValueObjectsTest {
         assertEquals("1B", seatNumber.value());
     }
 
+    @Test
+    @DisplayName("SeatNumber - Debe quitar ceros a la izquierda de la fila")
+    void testSeatNumber_LeadingZero_ShouldNormalize() {
+        assertEquals(new SeatNumber("5A"), new SeatNumber("05A"));
+        assertEquals("0C", new SeatNumber("00C").value());
+    }
+
     @Test
     @DisplayName("SeatNumber - Debe lanzar excepción para null")
     void testSeatNumber_Null_ShouldThrowException() {
@@ -1,9 +1,13 @@
 package org.example.infrastructure.config;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -112,4 +116,53 @@ class JwtServiceTest {
         assertEquals("user1", jwtService.extractUsername(token1));
         assertEquals("user2", jwtService.extractUsername(token2));
     }
+
+    @Test
+    @DisplayName("Debe autenticar con una sola lectura y devolver usuario y expiración")
+    void testAuthenticate_ShouldReturnPrincipal() {
+        String token = jwtService.generateToken("admin");
+
+        JwtPrincipal principal = jwtService.authenticate(token);
+
+        assertEquals("admin", principal.username());
+        assertTrue(principal.expiresAt().isAfter(Instant.now()));
+        assertSame(principal, jwtService.authenticate(token));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con firma alterada aunque otro válido esté en caché")
+    void testAuthenticate_WhenSignatureTampered_ShouldThrowException() {
+        String token = jwtService.generateToken("admin");
+        jwtService.authenticate(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.authenticate(tampered));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token en caché una vez expirado")
+    void testAuthenticate_WhenCachedTokenExpires_ShouldThrowException() throws InterruptedException {
+        JwtService shortExpirationService = new JwtService(SECRET, 1500L);
+        String token = shortExpirationService.generateToken("admin");
+        assertEquals("admin", shortExpirationService.authenticate(token).username());
+
+        Thread.sleep(1600);
+
+        assertThrows(ExpiredJwtException.class, () -> shortExpirationService.authenticate(token));
+    }
+
+    @Test
+    @DisplayName("Debe funcionar sin caché cuando el tamaño es cero")
+    void testAuthenticate_WithoutCache_ShouldParseEveryTime() {
+        JwtService uncachedService = new JwtService(SECRET, EXPIRATION, 0);
+        String token = uncachedService.generateToken("admin");
+
+        JwtPrincipal first = uncachedService.authenticate(token);
+        JwtPrincipal second = uncachedService.authenticate(token);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
 }
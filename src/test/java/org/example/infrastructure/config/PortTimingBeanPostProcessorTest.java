@@ -0,0 +1,125 @@
+package org.example.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.command.CancelReservationCommand;
+import org.example.application.port.in.AutocompleteAirportsUseCase;
+import org.example.application.port.in.CancelReservationUseCase;
+import org.example.application.port.out.PasswordVerifierPort;
+import org.example.domain.exception.ReservationNotFoundException;
+import org.example.domain.model.Airport;
+import org.example.domain.valueobject.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PortTimingBeanPostProcessor
+ */
+class PortTimingBeanPostProcessorTest {
+
+    private MeterRegistry meterRegistry;
+    private PortTimingBeanPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        postProcessor = new PortTimingBeanPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Debe dejar intactos los beans que no implementan puertos")
+    void testPostProcess_WhenNotAPort_ShouldReturnSameBean() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    @Test
+    @DisplayName("Debe medir un adaptador desde la suscripción con resultado success")
+    void testMono_ShouldRecordAdapterTimerOnSubscription() {
+        PasswordVerifierPort verifier = proxy(new FixedPasswordVerifier(), PasswordVerifierPort.class);
+
+        Mono<Boolean> matches = verifier.matches("secret", "hash");
+        assertNull(meterRegistry.find(PortTimingBeanPostProcessor.ADAPTER_TIMER).timer());
+
+        StepVerifier.create(matches).expectNext(true).verifyComplete();
+
+        Timer timer = meterRegistry.get(PortTimingBeanPostProcessor.ADAPTER_TIMER)
+                .tag("port", "PasswordVerifierPort")
+                .tag("class", "FixedPasswordVerifier")
+                .tag("operation", "matches")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Debe etiquetar el resultado con el nombre de la excepción del caso de uso")
+    void testMono_WhenError_ShouldTagOutcomeWithExceptionName() {
+        CancelReservationUseCase useCase = proxy(new FailingCancelReservation(), CancelReservationUseCase.class);
+
+        StepVerifier.create(useCase.execute(new CancelReservationCommand(1L, "Cambio de planes")))
+                .expectError(ReservationNotFoundException.class)
+                .verify();
+
+        assertEquals(1, meterRegistry.get(PortTimingBeanPostProcessor.USE_CASE_TIMER)
+                .tag("port", "CancelReservationUseCase")
+                .tag("outcome", "ReservationNotFoundException")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe medir Flux al completar y marcar cancelled si se corta")
+    void testFlux_ShouldRecordCompletionAndCancellation() {
+        AutocompleteAirportsUseCase useCase = proxy(new TwoAirports(), AutocompleteAirportsUseCase.class);
+
+        StepVerifier.create(useCase.execute("b", 10)).expectNextCount(2).verifyComplete();
+        StepVerifier.create(useCase.execute("b", 10).take(1)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, meterRegistry.get(PortTimingBeanPostProcessor.USE_CASE_TIMER)
+                .tag("operation", "execute").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(PortTimingBeanPostProcessor.USE_CASE_TIMER)
+                .tag("operation", "execute").tag("outcome", "cancelled").timer().count());
+    }
+
+    private <T> T proxy(T bean, Class<T> port) {
+        Object proxied = postProcessor.postProcessAfterInitialization(bean, "bean");
+        assertTrue(AopUtils.isCglibProxy(proxied));
+        assertTrue(bean.getClass().isInstance(proxied));
+        return port.cast(proxied);
+    }
+
+    static class FixedPasswordVerifier implements PasswordVerifierPort {
+        @Override
+        public Mono<Boolean> matches(String rawPassword, String passwordHash) {
+            return Mono.just(true);
+        }
+    }
+
+    static class FailingCancelReservation implements CancelReservationUseCase {
+        @Override
+        public Mono<Void> execute(CancelReservationCommand command) {
+            return Mono.error(new ReservationNotFoundException(command.reservationId()));
+        }
+    }
+
+    static class TwoAirports implements AutocompleteAirportsUseCase {
+        @Override
+        public Flux<Airport> execute(String prefix, int limit) {
+            return Flux.just(
+                    Airport.builder().code(new Location("BOG")).city("Bogotá").country("Colombia").build(),
+                    Airport.builder().code(new Location("BAQ")).city("Barranquilla").country("Colombia").build());
+        }
+    }
+}
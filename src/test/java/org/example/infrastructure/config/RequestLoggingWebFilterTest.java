@@ -1,11 +1,15 @@
 package org.example.infrastructure.config;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
@@ -14,6 +18,7 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -242,5 +247,71 @@ class RequestLoggingWebFilterTest {
 
         verify(chain, times(1)).filter(exchange);
     }
-}
 
+    // ============= MODO ACCESS =============
+
+    @Test
+    @DisplayName("Debe escribir un único registro de acceso con la IP del primer proxy")
+    void testAccessMode_ShouldWriteSingleStructuredRecord() {
+        ListAppender<ILoggingEvent> accessLog = attachAccessLog();
+        try {
+            RequestLoggingWebFilter accessFilter = new RequestLoggingWebFilter(RequestLoggingWebFilter.Mode.ACCESS, 1.0);
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                    .get("/airline/flights/search?origin=BOG")
+                    .header("X-Forwarded-For", " 192.168.1.1 , 10.0.0.1")
+                    .build());
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            when(chain.filter(any())).thenReturn(Mono.empty());
+
+            StepVerifier.create(accessFilter.filter(exchange, chain))
+                    .verifyComplete();
+
+            assertEquals(1, accessLog.list.size());
+            String record = accessLog.list.get(0).getFormattedMessage();
+            assertTrue(record.startsWith("method=GET path=/airline/flights/search query=origin=BOG status=200 durationMicros="));
+            assertTrue(record.endsWith("ip=192.168.1.1 outcome=completed"));
+        } finally {
+            detachAccessLog(accessLog);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe omitir peticiones exitosas no muestreadas pero registrar siempre los errores")
+    void testAccessMode_WithZeroSampling_ShouldOnlyLogErrors() {
+        ListAppender<ILoggingEvent> accessLog = attachAccessLog();
+        try {
+            RequestLoggingWebFilter accessFilter = new RequestLoggingWebFilter(RequestLoggingWebFilter.Mode.ACCESS, 0.0);
+            MockServerWebExchange ok = MockServerWebExchange.from(MockServerHttpRequest.get("/airline/flights").build());
+            ok.getResponse().setStatusCode(HttpStatus.OK);
+            MockServerWebExchange failed = MockServerWebExchange.from(MockServerHttpRequest.get("/airline/flights").build());
+            when(chain.filter(ok)).thenReturn(Mono.empty());
+            when(chain.filter(failed)).thenReturn(Mono.error(new RuntimeException("Test error")));
+
+            StepVerifier.create(accessFilter.filter(ok, chain)).verifyComplete();
+            StepVerifier.create(accessFilter.filter(failed, chain)).expectError(RuntimeException.class).verify();
+
+            assertEquals(1, accessLog.list.size());
+            assertTrue(accessLog.list.get(0).getFormattedMessage().endsWith("ip=unknown outcome=error"));
+        } finally {
+            detachAccessLog(accessLog);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una tasa de muestreo fuera de rango")
+    void testConstructor_WhenSampleRateOutOfRange_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RequestLoggingWebFilter(RequestLoggingWebFilter.Mode.ACCESS, 1.5));
+    }
+
+    private ListAppender<ILoggingEvent> attachAccessLog() {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(RequestLoggingWebFilter.ACCESS_LOGGER)).addAppender(appender);
+        return appender;
+    }
+
+    private void detachAccessLog(ListAppender<ILoggingEvent> appender) {
+        ((Logger) LoggerFactory.getLogger(RequestLoggingWebFilter.ACCESS_LOGGER)).detachAppender(appender);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.infrastructure.config;
+
+import org.example.infrastructure.config.RouteClassifier.RouteAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RouteClassifier
+ */
+class RouteClassifierTest {
+
+    private RouteClassifier routeClassifier;
+
+    @BeforeEach
+    void setUp() {
+        routeClassifier = new RouteClassifier();
+    }
+
+    @Test
+    @DisplayName("Debe clasificar como públicas las rutas de SecurityConstants.PUBLIC_PATHS")
+    void testClassify_PublicPaths() {
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/auth/login"));
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/flights/search"));
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/flights/search/connections"));
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/flights/fare-calendar"));
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/flights/15/seats"));
+        assertEquals(RouteAccess.PUBLIC, classify("/airline/airports/autocomplete"));
+        assertEquals(RouteAccess.PUBLIC, classify("/actuator/health"));
+    }
+
+    @Test
+    @DisplayName("Debe clasificar como protegidas las reservas y rutas desconocidas")
+    void testClassify_ProtectedPaths() {
+        assertEquals(RouteAccess.PROTECTED, classify("/airline/reservations"));
+        assertEquals(RouteAccess.PROTECTED, classify("/airline/reservations/user/1"));
+        assertEquals(RouteAccess.PROTECTED, classify("/airline/flights/15/seats/12A"));
+        assertEquals(RouteAccess.PROTECTED, classify("/airline/flights"));
+        assertEquals(RouteAccess.PROTECTED, classify("/otra"));
+    }
+
+    @Test
+    @DisplayName("Debe guardar la decisión en el exchange y reutilizarla en el matcher")
+    void testClassify_ShouldStoreDecisionInExchange() {
+        MockServerWebExchange exchange = exchange("/airline/reservations");
+        exchange.getAttributes().put(RouteClassifier.ROUTE_ACCESS_ATTRIBUTE, RouteAccess.PUBLIC);
+
+        assertTrue(routeClassifier.isPublic(exchange));
+        StepVerifier.create(routeClassifier.publicRoutes().matches(exchange).map(MatchResult::isMatch))
+                .expectNext(true)
+                .verifyComplete();
+
+        MockServerWebExchange fresh = exchange("/airline/reservations");
+        assertFalse(routeClassifier.isPublic(fresh));
+        assertEquals(RouteAccess.PROTECTED, fresh.getAttribute(RouteClassifier.ROUTE_ACCESS_ATTRIBUTE));
+        StepVerifier.create(routeClassifier.publicRoutes().matches(fresh).map(MatchResult::isMatch))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    private RouteAccess classify(String path) {
+        return routeClassifier.classify(exchange(path));
+    }
+
+    private MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+    }
+}
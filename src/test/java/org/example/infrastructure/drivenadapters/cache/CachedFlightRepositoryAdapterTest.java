@@ -0,0 +1,179 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.Flight;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.valueobject.*;
+import org.example.infrastructure.drivenadapters.memory.FlightChange;
+import org.example.infrastructure.drivenadapters.memory.FlightChangeNotifier;
+import org.example.infrastructure.drivenadapters.r2dbc.adapter.FlightRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para CachedFlightRepositoryAdapter
+ */
+@ExtendWith(MockitoExtension.class)
+class CachedFlightRepositoryAdapterTest {
+
+    @Mock
+    private FlightRepositoryAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlightSearchCache searchCache;
+    private FlightChangeNotifier flightChangeNotifier;
+    private CachedFlightRepositoryAdapter adapter;
+
+    private final FlightId flightId = new FlightId(1L);
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new FlightSearchCache(meterRegistry, 100, Duration.ofMinutes(1));
+        flightChangeNotifier = new FlightChangeNotifier();
+        adapter = new CachedFlightRepositoryAdapter(delegate, searchCache, flightChangeNotifier,
+                meterRegistry, 100, Duration.ofMinutes(10));
+
+        flight = Flight.builder()
+                .id(flightId)
+                .flightNumber(new FlightNumber("AV101"))
+                .origin(new Location("BOG"))
+                .destination(new Location("MDE"))
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .arrivalTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe cargar el vuelo completo una vez y luego consultar solo los asientos")
+    void testFindById_ShouldReadOnlyAvailableSeatsOnHit() {
+        when(delegate.findById(flightId)).thenReturn(Mono.just(flight));
+        when(delegate.findAvailableSeats(flightId)).thenReturn(Mono.just(42));
+
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextMatches(result -> result.getAvailableSeats() == 50)
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextMatches(result -> result.getAvailableSeats() == 42
+                        && result.getFlightNumber().equals(flight.getFlightNumber()))
+                .verifyComplete();
+
+        verify(delegate, times(1)).findById(flightId);
+        verify(delegate, times(1)).findAvailableSeats(flightId);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "flights").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "flights").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada cuando el vuelo ya no existe")
+    void testFindById_WhenFlightRemoved_ShouldInvalidate() {
+        when(delegate.findById(flightId)).thenReturn(Mono.just(flight));
+        when(delegate.findAvailableSeats(flightId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(flightId))
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findById(flightId);
+    }
+
+    @Test
+    @DisplayName("Debe volver a cargar el vuelo después de eliminarlo")
+    void testDeleteById_ShouldInvalidate() {
+        when(delegate.findById(flightId)).thenReturn(Mono.just(flight));
+        when(delegate.deleteById(flightId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.deleteById(flightId))
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findById(flightId);
+        verify(delegate, never()).findAvailableSeats(flightId);
+    }
+
+    @Test
+    @DisplayName("No debe exponer la entrada cacheada a mutaciones del llamador")
+    void testUpdate_ShouldCacheDefensiveCopy() {
+        when(delegate.update(flight)).thenReturn(Mono.just(flight));
+        when(delegate.findAvailableSeats(flightId)).thenReturn(Mono.just(49));
+
+        StepVerifier.create(adapter.update(flight))
+                .expectNext(flight)
+                .verifyComplete();
+        flight.reserveSeats(10);
+
+        StepVerifier.create(adapter.findById(flightId))
+                .expectNextMatches(result -> result.getAvailableSeats() == 49 && result != flight)
+                .verifyComplete();
+        verify(delegate, never()).findById(flightId);
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la búsqueda hasta que cambie la ocupación de un vuelo de la ruta")
+    void testSearchFlights_ShouldInvalidateOnSeatChange() {
+        FlightSearchCriteria criteria = new FlightSearchCriteria("BOG", "MDE", flight.getDepartureTime(), 1,
+                LocalDateTime.now(), null, null);
+        when(delegate.searchFlights(any(FlightSearchCriteria.class))).thenReturn(Flux.just(flight));
+
+        StepVerifier.create(adapter.searchFlights(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.searchFlights(criteria)).expectNextCount(1).verifyComplete();
+        verify(delegate, times(1)).searchFlights(any(FlightSearchCriteria.class));
+
+        flightChangeNotifier.publish(FlightChange.occupancy(flight, -1));
+
+        StepVerifier.create(adapter.searchFlights(criteria)).expectNextCount(1).verifyComplete();
+        verify(delegate, times(2)).searchFlights(any(FlightSearchCriteria.class));
+        // La ruta viene en el aviso: no se consulta el vuelo para invalidar
+        verify(delegate, never()).findById(flightId);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar las búsquedas de la ruta al liberar asientos")
+    void testReleaseSeats_ShouldInvalidateRouteSearches() {
+        FlightSearchCriteria criteria = new FlightSearchCriteria("BOG", "MDE", null, 1,
+                LocalDateTime.now(), null, null);
+        when(delegate.searchFlights(any(FlightSearchCriteria.class))).thenReturn(Flux.just(flight));
+        when(delegate.releaseSeats(flightId, 1)).thenReturn(Mono.just(flight));
+
+        StepVerifier.create(adapter.searchFlights(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.releaseSeats(flightId, 1)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.searchFlights(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(2)).searchFlights(any(FlightSearchCriteria.class));
+        verify(delegate, never()).findById(flightId);
+    }
+}
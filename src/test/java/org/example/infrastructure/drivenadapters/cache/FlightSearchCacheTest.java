@@ -0,0 +1,209 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.Flight;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para FlightSearchCache
+ */
+class FlightSearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlightSearchCache searchCache;
+    private Flight flight;
+    private final LocalDateTime departure = LocalDateTime.of(2030, 3, 15, 8, 0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new FlightSearchCache(meterRegistry, 100, Duration.ofMinutes(1));
+
+        flight = Flight.builder()
+                .id(new FlightId(1L))
+                .flightNumber(new FlightNumber("AV101"))
+                .origin(new Location("BOG"))
+                .destination(new Location("MDE"))
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(1))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+    }
+
+    private FlightSearchCriteria criteria(String origin, String destination, LocalDateTime date) {
+        return new FlightSearchCriteria(origin, destination, date, 1, LocalDateTime.now(), null, null);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("flight.search.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Debe compartir la clave entre nombres de ciudad y códigos IATA")
+    void testSearch_ShouldNormalizeKeyAndCountHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(searchCache.search(criteria("Bogota", "Medellin", departure), c -> {
+                    loads.incrementAndGet();
+                    return Flux.just(flight);
+                }))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", departure.withHour(20)), c -> {
+                    loads.incrementAndGet();
+                    return Flux.just(flight);
+                }))
+                .expectNextMatches(result -> result != flight && result.getFlightNumber().equals(flight.getFlightNumber()))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+        assertEquals(0.5, meterRegistry.get("flight.search.cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe unir búsquedas idénticas concurrentes en una sola consulta")
+    void testSearch_WhenConcurrent_ShouldCoalesce() {
+        Sinks.Many<Flight> database = Sinks.many().replay().all();
+        AtomicInteger loads = new AtomicInteger();
+
+        Flux<Flight> first = searchCache.search(criteria("BOG", "MDE", departure), c -> {
+            loads.incrementAndGet();
+            return database.asFlux();
+        });
+        Flux<Flight> second = searchCache.search(criteria("BOG", "MDE", departure), c -> {
+            loads.incrementAndGet();
+            return database.asFlux();
+        });
+
+        StepVerifier.create(Flux.merge(first, second))
+                .then(() -> {
+                    database.tryEmitNext(flight);
+                    database.tryEmitComplete();
+                })
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("coalesced"));
+    }
+
+    @Test
+    @DisplayName("Debe entregar las filas de un fallo de caché antes de que termine la consulta")
+    void testSearch_OnMiss_ShouldStreamBeforeLoadCompletes() {
+        Sinks.Many<Flight> database = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", departure), c -> database.asFlux()))
+                .then(() -> database.tryEmitNext(flight))
+                .expectNextCount(1)
+                .then(database::tryEmitComplete)
+                .verifyComplete();
+
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", departure),
+                        c -> Flux.error(new IllegalStateException("No debe consultar"))))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("No debe servir una consulta que empezó antes de una invalidación")
+    void testInvalidate_WhenLoadInFlight_ShouldReloadLaterSearches() {
+        Sinks.Many<Flight> database = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", departure), c -> {
+                    loads.incrementAndGet();
+                    return database.asFlux();
+                }))
+                .then(() -> {
+                    searchCache.invalidate(flight);
+                    // La consulta anterior termina después de la invalidación
+                    database.tryEmitNext(flight);
+                    database.tryEmitComplete();
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", departure), c -> {
+                    loads.incrementAndGet();
+                    return Flux.just(flight);
+                }))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+        assertEquals(2.0, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la ruta para el día afectado y las búsquedas sin fecha")
+    void testInvalidate_ShouldRemoveOnlyAffectedEntries() {
+        AtomicInteger loads = new AtomicInteger();
+        FlightSearchCriteria sameDay = criteria("BOG", "MDE", departure);
+        FlightSearchCriteria anyDay = criteria("BOG", "MDE", null);
+        FlightSearchCriteria otherDay = criteria("BOG", "MDE", departure.plusDays(1));
+        FlightSearchCriteria otherRoute = criteria("BOG", "CTG", departure);
+
+        for (FlightSearchCriteria c : new FlightSearchCriteria[]{sameDay, anyDay, otherDay, otherRoute}) {
+            searchCache.search(c, k -> {
+                loads.incrementAndGet();
+                return Flux.just(flight);
+            }).blockLast();
+        }
+        assertEquals(4, loads.get());
+
+        searchCache.invalidate(flight);
+
+        for (FlightSearchCriteria c : new FlightSearchCriteria[]{sameDay, anyDay, otherDay, otherRoute}) {
+            searchCache.search(c, k -> {
+                loads.incrementAndGet();
+                return Flux.just(flight);
+            }).blockLast();
+        }
+        assertEquals(6, loads.get());
+        assertEquals(2.0, meterRegistry.get("flight.search.cache.invalidations").counter().count());
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché búsquedas fallidas")
+    void testSearch_WhenLoaderFails_ShouldNotCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", null), c -> {
+                    loads.incrementAndGet();
+                    return Flux.error(new RuntimeException("Database error"));
+                }))
+                .expectError(RuntimeException.class)
+                .verify();
+        StepVerifier.create(searchCache.search(criteria("BOG", "MDE", null), c -> {
+                    loads.incrementAndGet();
+                    return Flux.just(flight);
+                }))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.infrastructure.drivenadapters.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para IdempotencyStore
+ */
+class IdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore idempotencyStore;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyStore = new IdempotencyStore(meterRegistry, 100, Duration.ofMinutes(1));
+        executions = new AtomicInteger();
+    }
+
+    private Mono<String> operation(String result) {
+        return Mono.fromCallable(() -> result + "-" + executions.incrementAndGet());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("idempotency.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Debe devolver el resultado guardado sin volver a ejecutar")
+    void testExecute_WhenKeyRepeated_ShouldReturnStoredResult() {
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-1")
+                .verifyComplete();
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-1")
+                .verifyComplete();
+
+        assertEquals(1, executions.get());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Debe hacer esperar a los duplicados concurrentes a la ejecución en curso")
+    void testExecute_WhenDuplicateInFlight_ShouldShareResult() {
+        Sinks.One<String> pending = Sinks.one();
+        Mono<String> first = idempotencyStore.execute("jdoe", "key-1", "request", pending.asMono());
+        Mono<String> second = idempotencyStore.execute("jdoe", "key-1", "request", operation("otra"));
+
+        StepVerifier.create(first.zipWith(second))
+                .then(() -> pending.tryEmitValue("reserva"))
+                .assertNext(results -> {
+                    assertEquals("reserva", results.getT1());
+                    assertEquals("reserva", results.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(0, executions.get());
+        assertEquals(1.0, requests("coalesced"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una clave reutilizada con otra solicitud")
+    void testExecute_WhenFingerprintDiffers_ShouldThrowException() {
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-1")
+                .verifyComplete();
+
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "other", operation("reserva")))
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+
+        assertEquals(1, executions.get());
+        assertEquals(1.0, requests("rejected"));
+    }
+
+    @Test
+    @DisplayName("Debe separar las claves de cada usuario")
+    void testExecute_WhenSameKeyFromAnotherUser_ShouldRunSeparately() {
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-1")
+                .verifyComplete();
+
+        // Otro cuerpo con la misma clave no es un reuso, y el mismo cuerpo no devuelve la reserva ajena
+        StepVerifier.create(idempotencyStore.execute("asmith", "key-1", "other", operation("reserva")))
+                .expectNext("reserva-2")
+                .verifyComplete();
+        StepVerifier.create(idempotencyStore.execute("mlopez", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-3")
+                .verifyComplete();
+
+        assertEquals(0.0, requests("rejected"));
+        assertEquals(0.0, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar si el intento anterior falló")
+    void testExecute_WhenOperationFails_ShouldNotStoreError() {
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request",
+                        Mono.error(new IllegalStateException("Database error"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("reserva")))
+                .expectNext("reserva-1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe terminar la operación aunque el cliente se desconecte")
+    void testExecute_WhenSubscriberCancels_ShouldKeepResult() {
+        Sinks.One<String> pending = Sinks.one();
+
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", pending.asMono()))
+                .thenCancel()
+                .verify();
+        pending.tryEmitValue("reserva");
+
+        StepVerifier.create(idempotencyStore.execute("jdoe", "key-1", "request", operation("otra")))
+                .expectNext("reserva")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar claves vacías o demasiado largas")
+    void testExecute_WhenKeyInvalid_ShouldThrowException() {
+        StepVerifier.create(idempotencyStore.execute("jdoe", " ", "request", operation("reserva")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(idempotencyStore.execute("jdoe", "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1),
+                        "request", operation("reserva")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        assertEquals(0, executions.get());
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.out.ConnectionSearchCriteria;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.domain.model.Flight;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para RouteGraphIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class RouteGraphIndexTest {
+
+    @Mock
+    private FlightRepositoryPort flightRepository;
+
+    private FlightChangeNotifier flightChangeNotifier;
+    private SimpleMeterRegistry meterRegistry;
+    private RouteGraphIndex routeGraphIndex;
+
+    private final LocalDateTime day = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.DAYS);
+    private Flight firstLeg;
+    private Flight secondLeg;
+
+    @BeforeEach
+    void setUp() {
+        flightChangeNotifier = new FlightChangeNotifier();
+        meterRegistry = new SimpleMeterRegistry();
+        routeGraphIndex = new RouteGraphIndex(flightRepository, flightChangeNotifier, meterRegistry,
+                Duration.ofMinutes(45), Duration.ofHours(12), Duration.ofMinutes(5));
+
+        firstLeg = flight(1L, "PEI", "BOG", 8, 9);
+        secondLeg = flight(2L, "BOG", "ADZ", 11, 13);
+    }
+
+    @Test
+    @DisplayName("Debe cargar el grafo una sola vez y normalizar las ciudades")
+    void testFindItineraries_ShouldLoadOnceAndNormalizeCities() {
+        when(flightRepository.findActiveDepartingAfter(any(LocalDateTime.class)))
+                .thenReturn(Flux.just(firstLeg, secondLeg));
+
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("Pereira", "San Andres")))
+                .assertNext(itinerary -> assertEquals(1, itinerary.getStops()))
+                .verifyComplete();
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(flightRepository, times(1)).findActiveDepartingAfter(any(LocalDateTime.class));
+        verify(flightRepository, never()).findAll();
+        assertEquals(2.0, meterRegistry.get("flight.route.graph.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar los avisos de FlightChangeNotifier sin consultar la base de datos")
+    void testFlightChange_ShouldApplyNoticeWithoutQuery() {
+        when(flightRepository.findActiveDepartingAfter(any(LocalDateTime.class)))
+                .thenReturn(Flux.just(firstLeg, secondLeg));
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        flightChangeNotifier.publish(FlightChange.occupancy(secondLeg, -50));
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .verifyComplete();
+
+        flightChangeNotifier.publish(FlightChange.occupancy(secondLeg, 1));
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        flightChangeNotifier.publish(FlightChange.deleted(secondLeg.getId()));
+
+        assertEquals(1.0, meterRegistry.get("flight.route.graph.size").gauge().value());
+        verify(flightRepository, never()).findById(any(FlightId.class));
+        verify(flightRepository, times(1)).findActiveDepartingAfter(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Debe retirar los vuelos que ya salieron al recibir su aviso o en la limpieza")
+    void testDepartedFlights_ShouldBeRemoved() {
+        Flight departed = firstLeg.toBuilder()
+                .departureTime(LocalDateTime.now().minusHours(2))
+                .arrivalTime(LocalDateTime.now().minusHours(1))
+                .build();
+        when(flightRepository.findActiveDepartingAfter(any(LocalDateTime.class)))
+                .thenReturn(Flux.just(departed, secondLeg));
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("BOG", "ADZ")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        routeGraphIndex.removeDeparted();
+        assertEquals(1.0, meterRegistry.get("flight.route.graph.size").gauge().value());
+
+        flightChangeNotifier.publish(FlightChange.updated(secondLeg.toBuilder()
+                .departureTime(LocalDateTime.now().minusMinutes(1))
+                .build()));
+        assertEquals(0.0, meterRegistry.get("flight.route.graph.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("No debe cargar el grafo por un aviso y debe releer los vuelos que cambian durante la carga")
+    void testFlightChange_BeforeAndDuringLoad() {
+        flightChangeNotifier.publish(FlightChange.occupancy(secondLeg, -1));
+        verifyNoInteractions(flightRepository);
+
+        Sinks.Many<Flight> loading = Sinks.many().unicast().onBackpressureBuffer();
+        when(flightRepository.findActiveDepartingAfter(any(LocalDateTime.class))).thenReturn(loading.asFlux());
+        when(flightRepository.findAllById(anyCollection()))
+                .thenReturn(Flux.just(secondLeg.toBuilder().availableSeats(0).build()));
+
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .then(() -> {
+                    flightChangeNotifier.publish(FlightChange.occupancy(secondLeg, -50));
+                    loading.tryEmitNext(firstLeg);
+                    loading.tryEmitNext(secondLeg);
+                    loading.tryEmitComplete();
+                })
+                .verifyComplete();
+
+        verify(flightRepository, times(1)).findAllById(Set.of(secondLeg.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe reintentar la carga si la anterior falló")
+    void testFindItineraries_WhenLoadFails_ShouldRetry() {
+        when(flightRepository.findActiveDepartingAfter(any(LocalDateTime.class)))
+                .thenReturn(Flux.error(new RuntimeException("Database error")))
+                .thenReturn(Flux.just(firstLeg, secondLeg));
+
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .expectError(RuntimeException.class)
+                .verify();
+        StepVerifier.create(routeGraphIndex.findItineraries(criteria("PEI", "ADZ")))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    private ConnectionSearchCriteria criteria(String origin, String destination) {
+        return new ConnectionSearchCriteria(origin, destination, day, day.plusDays(1), 1, 1);
+    }
+
+    private Flight flight(Long id, String origin, String destination, int departureHour, int arrivalHour) {
+        return Flight.builder()
+                .id(new FlightId(id))
+                .flightNumber(new FlightNumber("AV" + (100 + id)))
+                .origin(new Location(origin))
+                .destination(new Location(destination))
+                .departureTime(day.withHour(departureHour))
+                .arrivalTime(day.withHour(arrivalHour))
+                .availableSeats(50)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+    }
+}
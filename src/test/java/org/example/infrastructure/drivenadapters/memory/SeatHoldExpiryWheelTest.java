@@ -0,0 +1,147 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.out.ReleasedSeat;
+import org.example.application.port.out.FlightMutationSequencerPort;
+import org.example.application.port.out.ReservationRepositoryPort;
+import org.example.application.port.out.SeatInventoryPort;
+import org.example.domain.valueobject.FlightId;
+import org.example.domain.valueobject.ReservationId;
+import org.example.domain.valueobject.SeatNumber;
+import org.example.infrastructure.drivenadapters.memory.SeatHoldExpiryWheel.Hold;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para SeatHoldExpiryWheel
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatHoldExpiryWheelTest {
+
+    @Mock
+    private ReservationRepositoryPort reservationRepository;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private FlightMutationSequencerPort flightSequencer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldExpiryWheel seatHoldExpiryWheel;
+
+    @BeforeEach
+    void setUp() {
+        // Sin carriles en las pruebas: la mutación se ejecuta directamente
+        lenient().when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        seatHoldExpiryWheel = new SeatHoldExpiryWheel(reservationRepository, seatInventory, flightSequencer,
+                meterRegistry, Duration.ofMinutes(10), Duration.ofSeconds(1), 64, 2, () -> 0L);
+    }
+
+    @Test
+    @DisplayName("Debe liberar las retenciones vencidas por lotes y devolver sus asientos al inventario")
+    void testExpire_ShouldReleaseInBatchesAndFreeSeats() {
+        when(reservationRepository.releaseExpiredHolds(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<ReservationId>>getArgument(0))
+                        .map(id -> new ReleasedSeat(new FlightId(1L), new SeatNumber(id.value() + "A"))));
+        when(seatInventory.release(any(FlightId.class), any(SeatNumber.class))).thenReturn(Mono.empty());
+
+        seatHoldExpiryWheel.expire(holds(1L, 1, 5));
+
+        // Lotes de 2: [1, 2], [3, 4], [5]
+        verify(reservationRepository, times(3)).releaseExpiredHolds(anyList(), any(LocalDateTime.class));
+        verify(reservationRepository).releaseExpiredHolds(eq(ids(5, 5)), any(LocalDateTime.class));
+        verify(seatInventory, times(5)).release(eq(new FlightId(1L)), any(SeatNumber.class));
+        assertEquals(5.0, meterRegistry.get("seat.hold.expired").counter().count());
+    }
+
+    @Test
+    @DisplayName("No debe liberar asientos de retenciones confirmadas mientras vencían")
+    void testExpire_WhenHoldConfirmed_ShouldNotReleaseSeat() {
+        when(reservationRepository.releaseExpiredHolds(anyList(), any(LocalDateTime.class))).thenReturn(Flux.empty());
+
+        seatHoldExpiryWheel.expire(holds(1L, 1, 1));
+
+        verify(seatInventory, never()).release(any(), any());
+        assertEquals(0.0, meterRegistry.get("seat.hold.expired").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe reprogramar el lote si la liberación falla")
+    void testExpire_WhenReleaseFails_ShouldReschedule() {
+        when(reservationRepository.releaseExpiredHolds(anyList(), any(LocalDateTime.class)))
+                .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        seatHoldExpiryWheel.expire(holds(1L, 1, 2));
+
+        assertEquals(2.0, meterRegistry.get("seat.hold.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe liberar cada lote en el turno de su vuelo")
+    void testExpire_ShouldSerializeBatchesPerFlight() {
+        when(reservationRepository.releaseExpiredHolds(anyList(), any(LocalDateTime.class))).thenReturn(Flux.empty());
+
+        seatHoldExpiryWheel.expire(Stream.concat(holds(1L, 1, 3).stream(), holds(2L, 4, 4).stream()).toList());
+
+        // Vuelo 1: [1, 2], [3]; vuelo 2: [4]
+        verify(flightSequencer, times(2)).serialize(eq(new FlightId(1L)), any());
+        verify(flightSequencer, times(1)).serialize(eq(new FlightId(2L)), any());
+        verify(reservationRepository).releaseExpiredHolds(eq(ids(4, 4)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Debe reprogramar el lote si su turno supera el límite de tiempo")
+    void testExpire_WhenTurnTimesOut_ShouldReschedule() {
+        when(flightSequencer.serialize(any(FlightId.class), any()))
+                .thenReturn(Mono.error(new TimeoutException("turn timed out")));
+
+        seatHoldExpiryWheel.expire(holds(1L, 1, 3));
+
+        verify(reservationRepository, never()).releaseExpiredHolds(anyList(), any(LocalDateTime.class));
+        assertEquals(3.0, meterRegistry.get("seat.hold.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe contar las retenciones programadas y descontar las canceladas")
+    void testScheduleAndCancel_ShouldTrackPendingHolds() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        seatHoldExpiryWheel.schedule(new ReservationId(1L), new FlightId(1L), expiresAt).block();
+        seatHoldExpiryWheel.schedule(new ReservationId(2L), new FlightId(1L), expiresAt).block();
+        // Reprogramar la misma retención no la duplica
+        seatHoldExpiryWheel.schedule(new ReservationId(2L), new FlightId(1L), expiresAt.plusMinutes(1)).block();
+        assertEquals(2.0, meterRegistry.get("seat.hold.pending").gauge().value());
+
+        seatHoldExpiryWheel.cancel(new ReservationId(1L)).block();
+        assertEquals(1.0, meterRegistry.get("seat.hold.pending").gauge().value());
+    }
+
+    private List<ReservationId> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(ReservationId::new).toList();
+    }
+
+    private List<Hold> holds(long flightId, long from, long to) {
+        return ids(from, to).stream().map(id -> new Hold(id, new FlightId(flightId))).toList();
+    }
+}
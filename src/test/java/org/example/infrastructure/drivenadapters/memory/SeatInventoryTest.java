@@ -0,0 +1,171 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.out.FlightRepositoryPort;
+import org.example.application.port.out.TicketRepositoryPort;
+import org.example.domain.model.Flight;
+import org.example.domain.model.Ticket;
+import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.model.enums.TicketClass;
+import org.example.domain.model.enums.TicketStatus;
+import org.example.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para SeatInventory
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    @Mock
+    private FlightRepositoryPort flightRepository;
+
+    @Mock
+    private TicketRepositoryPort ticketRepository;
+
+    @Mock
+    private FlightChangeNotifier flightChangeNotifier;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatInventory seatInventory;
+
+    private final FlightId flightId = new FlightId(1L);
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        seatInventory = new SeatInventory(flightRepository, ticketRepository, flightChangeNotifier,
+                meterRegistry, 100, Duration.ofMinutes(30));
+
+        flight = Flight.builder()
+                .id(flightId)
+                .flightNumber(new FlightNumber("AV101"))
+                .origin(new Location("BOG"))
+                .destination(new Location("MDE"))
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .arrivalTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .availableSeats(48)
+                .totalSeats(50)
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .airline(new Airline("Avianca"))
+                .status(FlightStatus.ACTIVE)
+                .build();
+    }
+
+    private Ticket ticket(String seat, TicketStatus status) {
+        return Ticket.builder()
+                .id(new TicketId(1L))
+                .flightId(flightId)
+                .userId(new UserId(1L))
+                .passengerName("John Doe")
+                .seatNumber(new SeatNumber(seat))
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .ticketClass(TicketClass.ECONOMY)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe cargar la ocupación una sola vez ignorando tickets cancelados")
+    void testIsSeatTaken_ShouldHydrateOnceFromTickets() {
+        when(flightRepository.findById(flightId)).thenReturn(Mono.just(flight));
+        when(ticketRepository.findByFlightId(flightId)).thenReturn(Flux.just(
+                ticket("12A", TicketStatus.CONFIRMED),
+                ticket("12B", TicketStatus.CANCELLED)
+        ));
+
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("12A")))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("12B")))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(ticketRepository, times(1)).findByFlightId(flightId);
+        assertEquals(1.0, meterRegistry.get("cache.size").tag("cache", "seat-maps").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe recargar desde tickets un vuelo cuyo mapa se descartó")
+    void testIsSeatTaken_WhenEntryExpired_ShouldHydrateAgain() {
+        seatInventory = new SeatInventory(flightRepository, ticketRepository, flightChangeNotifier,
+                meterRegistry, 100, Duration.ZERO);
+        when(flightRepository.findById(flightId)).thenReturn(Mono.just(flight));
+        when(ticketRepository.findByFlightId(flightId)).thenReturn(Flux.just(ticket("12A", TicketStatus.CONFIRMED)));
+
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("12A")))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("12A")))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(ticketRepository, times(2)).findByFlightId(flightId);
+    }
+
+    @Test
+    @DisplayName("Debe reflejar reservas, cancelaciones y cambios de asiento")
+    void testMutations_ShouldUpdateOccupancy() {
+        when(flightRepository.findById(flightId)).thenReturn(Mono.just(flight));
+        when(ticketRepository.findByFlightId(flightId)).thenReturn(Flux.empty());
+
+        StepVerifier.create(seatInventory.occupy(flightId, new SeatNumber("1A"))
+                        .then(seatInventory.occupy(flightId, new SeatNumber("1B")))
+                        .then(seatInventory.release(flightId, new SeatNumber("1A")))
+                        .then(seatInventory.move(flightId, new SeatNumber("1B"), new SeatNumber("1C")))
+                        .then(seatInventory.findFreeSeats(flightId, 3)))
+                .expectNext(List.of(new SeatNumber("1A"), new SeatNumber("1B"), new SeatNumber("1D")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe avisar cambios de ocupación solo cuando el mapa cambia")
+    void testOccupyAndRelease_ShouldPublishChanges() {
+        when(flightRepository.findById(flightId)).thenReturn(Mono.just(flight));
+        when(ticketRepository.findByFlightId(flightId)).thenReturn(Flux.just(ticket("12A", TicketStatus.CONFIRMED)));
+
+        StepVerifier.create(seatInventory.occupy(flightId, new SeatNumber("12A"))
+                        .then(seatInventory.occupy(flightId, new SeatNumber("12B")))
+                        .then(seatInventory.release(flightId, new SeatNumber("12A")))
+                        .then(seatInventory.release(flightId, new SeatNumber("12A"))))
+                .verifyComplete();
+
+        // El aviso lleva la ruta del vuelo y los asientos tomados o devueltos
+        verify(flightChangeNotifier, times(1)).publish(FlightChange.occupancy(flight, -1));
+        verify(flightChangeNotifier, times(1)).publish(FlightChange.occupancy(flight, 1));
+        verifyNoMoreInteractions(flightChangeNotifier);
+    }
+
+    @Test
+    @DisplayName("Debe responder libre y reintentar la carga cuando el vuelo no existe")
+    void testIsSeatTaken_WhenFlightNotFound_ShouldNotCache() {
+        when(flightRepository.findById(any(FlightId.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("1A")))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(seatInventory.isSeatTaken(flightId, new SeatNumber("1A")))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(flightRepository, times(2)).findById(flightId);
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.infrastructure.drivenadapters.memory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.valueobject.FlightId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para StripedFlightSequencer
+ */
+class StripedFlightSequencerTest {
+
+    private static final FlightId FLIGHT = new FlightId(1L);
+    private static final FlightId OTHER_FLIGHT = new FlightId(2L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedFlightSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sequencer = new StripedFlightSequencer(meterRegistry, 256, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Debe iniciar la siguiente mutación del vuelo solo cuando termina la anterior")
+    void testSerialize_SameFlight_ShouldRunOneAtATime() {
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger secondStarted = new AtomicInteger();
+
+        Mono<String> firstResult = sequencer.serialize(FLIGHT, first.asMono()).cache();
+        firstResult.subscribe();
+        Mono<String> secondResult = sequencer.serialize(FLIGHT,
+                Mono.fromCallable(() -> "second").doOnSubscribe(subscription -> secondStarted.incrementAndGet()))
+                .cache();
+        secondResult.subscribe();
+
+        assertEquals(0, secondStarted.get());
+        assertEquals(1.0, meterRegistry.get("flight.mutation.queued").gauge().value());
+
+        first.tryEmitValue("first");
+
+        StepVerifier.create(firstResult).expectNext("first").verifyComplete();
+        StepVerifier.create(secondResult).expectNext("second").verifyComplete();
+        assertEquals(1, secondStarted.get());
+        assertEquals(0.0, meterRegistry.get("flight.mutation.queued").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar mutaciones de varios hilos a la vez sin perder ninguna ni solaparlas")
+    void testSerialize_ConcurrentProducers_ShouldRunAllOneAtATime() throws InterruptedException {
+        int threads = 8;
+        int perThread = 5_000;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads * perThread);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perThread; i++) {
+                    sequencer.serialize(FLIGHT, Mono.fromRunnable(() -> {
+                        if (running.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        running.decrementAndGet();
+                    })).subscribe(null, error -> {
+                        failures.incrementAndGet();
+                        done.countDown();
+                    }, done::countDown);
+                }
+            }).start();
+        }
+        start.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, failures.get());
+        assertEquals(0, overlaps.get());
+        assertEquals(0.0, meterRegistry.get("flight.mutation.queued").gauge().value());
+    }
+
+    @Test
+    @DisplayName("No debe esperar las mutaciones de otro vuelo")
+    void testSerialize_DifferentFlights_ShouldRunInParallel() {
+        Sinks.One<String> blocked = Sinks.one();
+        Disposable pending = sequencer.serialize(FLIGHT, blocked.asMono()).subscribe();
+
+        StepVerifier.create(sequencer.serialize(OTHER_FLIGHT, Mono.just("other")))
+                .expectNext("other")
+                .verifyComplete();
+
+        pending.dispose();
+        blocked.tryEmitValue("done");
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error de una mutación sin detener el carril")
+    void testSerialize_WhenMutationFails_ShouldKeepLaneRunning() {
+        StepVerifier.create(sequencer.serialize(FLIGHT, Mono.error(new IllegalStateException("boom"))))
+                .expectErrorMessage("boom")
+                .verify();
+
+        StepVerifier.create(sequencer.serialize(FLIGHT, Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("No debe ejecutar una mutación cancelada antes de su turno")
+    void testSerialize_WhenCancelledWhileQueued_ShouldSkipMutation() {
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger cancelledStarted = new AtomicInteger();
+        sequencer.serialize(FLIGHT, first.asMono()).subscribe();
+
+        Disposable queued = sequencer.serialize(FLIGHT,
+                Mono.fromCallable(() -> "late").doOnSubscribe(subscription -> cancelledStarted.incrementAndGet()))
+                .subscribe();
+        queued.dispose();
+        first.tryEmitValue("first");
+
+        StepVerifier.create(sequencer.serialize(FLIGHT, Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+        assertEquals(0, cancelledStarted.get());
+    }
+
+    @Test
+    @DisplayName("Debe cancelar por tiempo una mutación atascada y liberar el carril")
+    void testSerialize_WhenMutationHangs_ShouldTimeout() {
+        sequencer = new StripedFlightSequencer(meterRegistry, 4, Duration.ofMillis(50));
+
+        StepVerifier.create(sequencer.serialize(FLIGHT, Mono.never()))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(sequencer.serialize(FLIGHT, Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.infrastructure.drivenadapters.r2dbc.repository;
+
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.enums.FlightSortOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica con EXPLAIN que la búsqueda de vuelos use el índice parcial de ruta y fecha
+ *
+ * Requiere PostgreSQL (se habilita con DB_HOST). La tabla flights y sus índices
+ * se crean como objetos temporales a partir de schema.sql, sin tocar datos reales.
+ */
+@EnabledIfEnvironmentVariable(named = "DB_HOST", matches = ".+")
+class FlightSearchQueryPlanTest {
+
+    private static final String INDEX_NAME = "idx_flights_route_departure_active";
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+    private static final Pattern FULL_SORT_NODE = Pattern.compile("^\\s*(->\\s+)?Sort\\s+\\(");
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        String url = String.format("jdbc:postgresql://%s:%s/%s",
+                System.getenv("DB_HOST"), env("DB_PORT", "5432"), env("DB_NAME", "airline_db"));
+        connection = DriverManager.getConnection(url, env("DB_USER", "postgres"), env("DB_PASSWORD", "admin"));
+
+        try (Statement statement = connection.createStatement()) {
+            for (String ddl : flightsDdl()) {
+                statement.execute(ddl);
+            }
+            // Con tablas vacías el planificador preferiría un seq scan aunque el índice sirva
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("La búsqueda por ruta y fecha debe resolverse con el índice parcial")
+    void testSearchByDate_ShouldUseRouteDepartureIndex() throws Exception {
+        LocalDateTime dayStart = LocalDateTime.of(2026, 3, 15, 0, 0);
+        FlightSearchCriteria criteria = new FlightSearchCriteria("BOG", "MDE", dayStart, 2,
+                dayStart.minusDays(1), FlightSortOrder.DEPARTURE_TIME, 20);
+
+        String plan = explain(FlightSearchRepository.sql(criteria), Map.of(
+                "origin", "BOG",
+                "destination", "MDE",
+                "passengers", "2",
+                "departureAfter", dayStart.minusDays(1).toString(),
+                "departureFrom", dayStart.toString(),
+                "departureTo", dayStart.plusDays(1).toString(),
+                "limit", "20"));
+
+        assertTrue(plan.contains(INDEX_NAME), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        // El rango de fechas debe recorrer el índice, no filtrarse fila a fila
+        assertTrue(plan.lines().anyMatch(line -> line.contains("Index Cond:") && line.contains("departure_time")), plan);
+        assertFalse(plan.lines().anyMatch(line -> line.contains("Filter:") && line.contains("departure_time")), plan);
+        // El orden por salida lo entrega el índice; solo se admite desempatar por flight_id (Incremental Sort)
+        assertFalse(plan.lines().anyMatch(line -> FULL_SORT_NODE.matcher(line).find()), plan);
+    }
+
+    @Test
+    @DisplayName("La búsqueda por ruta sin fecha debe resolverse con el índice parcial")
+    void testSearchByRoute_ShouldUseRouteDepartureIndex() throws Exception {
+        FlightSearchCriteria criteria = new FlightSearchCriteria("BOG", "MDE", null, 1,
+                LocalDateTime.of(2026, 3, 15, 0, 0), FlightSortOrder.PRICE, null);
+
+        String plan = explain(FlightSearchRepository.sql(criteria), Map.of(
+                "origin", "BOG",
+                "destination", "MDE",
+                "passengers", "1",
+                "departureAfter", "2026-03-15T00:00"));
+
+        assertTrue(plan.contains(INDEX_NAME), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("El calendario de tarifas debe recorrer el rango en el índice parcial")
+    void testLowestFaresByDay_ShouldUseRouteDepartureIndex() throws Exception {
+        LocalDateTime rangeStart = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+        String plan = explain(FlightSearchRepository.LOWEST_FARES_BY_DAY_SQL, Map.of(
+                "origin", "BOG",
+                "destination", "MDE",
+                "passengers", "1",
+                "departureAfter", rangeStart.minusDays(1).toString(),
+                "departureFrom", rangeStart.toString(),
+                "departureTo", rangeStart.plusDays(90).toString()));
+
+        assertTrue(plan.contains(INDEX_NAME), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertTrue(plan.lines().anyMatch(line -> line.contains("Index Cond:") && line.contains("departure_time")), plan);
+    }
+
+    private String explain(String sql, Map<String, String> parameters) throws SQLException {
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = parameters.get(matcher.group(1)).replace("'", "''");
+            matcher.appendReplacement(bound, Matcher.quoteReplacement("'" + value + "'"));
+        }
+        matcher.appendTail(bound);
+
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + bound)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Sentencias de schema.sql que crean la tabla flights y sus índices, como objetos temporales
+     */
+    private static List<String> flightsDdl() throws IOException {
+        String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        return Arrays.stream(schema.split(";"))
+                .map(statement -> statement.lines()
+                        .filter(line -> !line.trim().startsWith("--"))
+                        .collect(Collectors.joining("\n"))
+                        .trim())
+                .filter(statement -> statement.startsWith("CREATE TABLE flights")
+                        || (statement.startsWith("CREATE INDEX") && statement.contains(" ON flights(")))
+                .map(statement -> statement.replaceFirst("^CREATE TABLE flights", "CREATE TEMP TABLE flights"))
+                .toList();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
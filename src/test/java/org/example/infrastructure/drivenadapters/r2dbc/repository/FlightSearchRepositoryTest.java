@@ -0,0 +1,66 @@
+package org.example.infrastructure.drivenadapters.r2dbc.repository;
+
+import org.example.application.port.out.FlightSearchCriteria;
+import org.example.domain.model.enums.FlightSortOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para la construcción del SQL de FlightSearchRepository
+ */
+class FlightSearchRepositoryTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("Debe filtrar asientos, corte de salida y rango de fecha en SQL")
+    void testSql_WithDate_ShouldIncludeAllFilters() {
+        String sql = FlightSearchRepository.sql(new FlightSearchCriteria(
+                "BOG", "MDE", now.plusDays(2), 2, now, FlightSortOrder.DEPARTURE_TIME, null));
+
+        assertTrue(sql.contains("status = 'ACTIVE' AND available_seats > 0"));
+        assertTrue(sql.contains("available_seats >= :passengers"));
+        assertTrue(sql.contains("departure_time > :departureAfter"));
+        assertTrue(sql.contains("departure_time >= :departureFrom AND departure_time < :departureTo"));
+        assertTrue(sql.endsWith("ORDER BY departure_time, flight_id"));
+        assertFalse(sql.contains("DATE("));
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por precio y limitar sin rango de fecha")
+    void testSql_SortedByPriceWithLimit_ShouldAppendOrderAndLimit() {
+        String sql = FlightSearchRepository.sql(new FlightSearchCriteria(
+                "BOG", "MDE", null, 1, now, FlightSortOrder.PRICE, 10));
+
+        assertFalse(sql.contains(":departureFrom"));
+        assertTrue(sql.endsWith("ORDER BY price, departure_time, flight_id LIMIT :limit"));
+    }
+
+    @Test
+    @DisplayName("El calendario de tarifas debe agregar por día con los mismos filtros de la búsqueda")
+    void testLowestFaresByDaySql_ShouldGroupByDepartureDay() {
+        String sql = FlightSearchRepository.LOWEST_FARES_BY_DAY_SQL;
+
+        assertTrue(sql.contains("MIN(price)"));
+        assertTrue(sql.contains("status = 'ACTIVE' AND available_seats > 0"));
+        assertTrue(sql.contains("departure_time >= :departureFrom AND departure_time < :departureTo"));
+        assertTrue(sql.endsWith("GROUP BY departure_day ORDER BY departure_day"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar criterios inválidos")
+    void testCriteria_WhenInvalid_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FlightSearchCriteria("BOG", "MDE", null, 0, now, null, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FlightSearchCriteria("BOG", "MDE", null, 1, null, null, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FlightSearchCriteria("BOG", "MDE", null, 1, now, null, 0));
+        assertEquals(FlightSortOrder.DEPARTURE_TIME,
+                new FlightSearchCriteria("BOG", "MDE", null, 1, now, null, null).sortOrder());
+    }
+}
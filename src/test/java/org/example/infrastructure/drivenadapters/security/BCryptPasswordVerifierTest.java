@@ -0,0 +1,93 @@
+package org.example.infrastructure.drivenadapters.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para BCryptPasswordVerifier
+ */
+class BCryptPasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BCryptPasswordVerifier passwordVerifier;
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe verificar BCrypt fuera del hilo que se suscribe y medir la latencia")
+    void testMatches_ShouldRunOnHashingPoolAndRecordLatency() {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        String hash = encoder.encode("secret");
+        passwordVerifier = new BCryptPasswordVerifier(encoder, meterRegistry, 1, 1);
+
+        StepVerifier.create(passwordVerifier.matches("secret", hash)
+                        .map(matches -> matches && Thread.currentThread().getName().startsWith("password-hashing-")))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(passwordVerifier.matches("wrong", hash))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertEquals(2, meterRegistry.get("auth.password.hash.duration").timer().count());
+        assertEquals(0.0, meterRegistry.get("auth.password.in.flight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando los hilos y la cola están ocupados y admitir al liberarse")
+    void testMatches_WhenSaturated_ShouldRejectThenRecover() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        passwordVerifier = new BCryptPasswordVerifier(blockingEncoder, meterRegistry, 1, 1);
+
+        Mono<Boolean> running = passwordVerifier.matches("a", "a").cache();
+        Mono<Boolean> queued = passwordVerifier.matches("b", "b").cache();
+        running.subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queued.subscribe();
+
+        StepVerifier.create(passwordVerifier.matches("c", "c"))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.password.queue.depth").gauge().value());
+
+        release.countDown();
+        StepVerifier.create(running).expectNext(true).verifyComplete();
+        StepVerifier.create(queued).expectNext(true).verifyComplete();
+        StepVerifier.create(passwordVerifier.matches("d", "d"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
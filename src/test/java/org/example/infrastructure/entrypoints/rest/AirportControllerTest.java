@@ -0,0 +1,66 @@
+package org.example.infrastructure.entrypoints.rest;
+
+import org.example.application.port.in.AutocompleteAirportsUseCase;
+import org.example.domain.model.Airport;
+import org.example.domain.valueobject.Location;
+import org.example.infrastructure.entrypoints.rest.mapper.AirportResponseMapper;
+import org.example.shared.constants.MessageConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para AirportController
+ */
+@ExtendWith(MockitoExtension.class)
+class AirportControllerTest {
+
+    @Mock
+    private AutocompleteAirportsUseCase autocompleteAirportsUseCase;
+
+    @Spy
+    private AirportResponseMapper airportResponseMapper = new AirportResponseMapper();
+
+    @InjectMocks
+    private AirportController airportController;
+
+    @Test
+    @DisplayName("Debe retornar las sugerencias de aeropuertos")
+    void testAutocomplete_ShouldReturnAirports() {
+        Airport airport = Airport.builder()
+                .code(new Location("BOG"))
+                .city("Bogotá")
+                .country("Colombia")
+                .build();
+        when(autocompleteAirportsUseCase.execute("bog", 10)).thenReturn(Flux.just(airport));
+
+        StepVerifier.create(airportController.autocomplete("bog", 10))
+                .expectNextMatches(response ->
+                    response.getData().size() == 1 &&
+                    response.getData().get(0).getCode().equals("BOG") &&
+                    response.getMessage().equals(String.format(MessageConstants.AIRPORTS_FOUND, 1))
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe retornar lista vacía cuando no hay coincidencias")
+    void testAutocomplete_WhenNoMatches_ShouldReturnEmptyList() {
+        when(autocompleteAirportsUseCase.execute("zz", 10)).thenReturn(Flux.empty());
+
+        StepVerifier.create(airportController.autocomplete("zz", 10))
+                .expectNextMatches(response ->
+                    response.getData().isEmpty() &&
+                    response.getMessage().equals(MessageConstants.NO_AIRPORTS_FOUND)
+                )
+                .verifyComplete();
+    }
+}
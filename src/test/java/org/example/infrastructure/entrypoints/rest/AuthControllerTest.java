@@ -1,8 +1,10 @@
 package org.example.infrastructure.entrypoints.rest;
 
+import io.jsonwebtoken.JwtException;
 import org.example.application.command.AuthenticateUserCommand;
 import org.example.application.port.in.AuthenticateUserUseCase;
 import org.example.application.port.in.AuthenticateUserUseCase.AuthenticationResult;
+import org.example.infrastructure.config.JwtPrincipal;
 import org.example.infrastructure.config.JwtService;
 import org.example.infrastructure.entrypoints.rest.dto.request.LoginRequestDTO;
 import org.example.infrastructure.entrypoints.rest.mapper.UserRestMapper;
@@ -16,6 +18,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -83,8 +87,8 @@ class AuthControllerTest {
         String validToken = "valid-jwt-token";
         String authHeader = "Bearer " + validToken;
 
-        when(jwtService.extractUsername(validToken)).thenReturn("admin");
-        when(jwtService.validateToken(validToken, "admin")).thenReturn(true);
+        when(jwtService.authenticate(validToken))
+                .thenReturn(new JwtPrincipal("admin", Instant.now().plusSeconds(3600)));
 
         StepVerifier.create(authController.verifyToken(authHeader))
                 .expectNextMatches(response ->
@@ -93,8 +97,7 @@ class AuthControllerTest {
                 )
                 .verifyComplete();
 
-        verify(jwtService, times(1)).extractUsername(validToken);
-        verify(jwtService, times(1)).validateToken(validToken, "admin");
+        verify(jwtService, times(1)).authenticate(validToken);
     }
 
     @Test
@@ -103,8 +106,7 @@ class AuthControllerTest {
         String invalidToken = "invalid-jwt-token";
         String authHeader = "Bearer " + invalidToken;
 
-        when(jwtService.extractUsername(invalidToken)).thenReturn("admin");
-        when(jwtService.validateToken(invalidToken, "admin")).thenReturn(false);
+        when(jwtService.authenticate(invalidToken)).thenThrow(new JwtException("Token expirado"));
 
         StepVerifier.create(authController.verifyToken(authHeader))
                 .expectNextMatches(response ->
@@ -124,7 +126,7 @@ class AuthControllerTest {
                 )
                 .verifyComplete();
 
-        verify(jwtService, never()).extractUsername(anyString());
+        verify(jwtService, never()).authenticate(anyString());
     }
 
     @Test
@@ -143,7 +145,7 @@ class AuthControllerTest {
         String token = "bad-token";
         String authHeader = "Bearer " + token;
 
-        when(jwtService.extractUsername(token)).thenThrow(new RuntimeException("Token parsing error"));
+        when(jwtService.authenticate(token)).thenThrow(new RuntimeException("Token parsing error"));
 
         StepVerifier.create(authController.verifyToken(authHeader))
                 .expectNextMatches(response ->
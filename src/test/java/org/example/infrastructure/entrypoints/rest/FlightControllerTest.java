@@ -1,27 +1,47 @@
 package org.example.infrastructure.entrypoints.rest;
 
 import org.example.application.command.SearchFlightsCommand;
+import org.example.application.command.FareCalendarCommand;
+import org.example.application.port.in.GetFareCalendarUseCase;
+import org.example.application.port.in.GetSeatMapUseCase;
 import org.example.application.port.in.SearchFlightsUseCase;
+import org.example.domain.exception.FlightNotFoundException;
+import org.example.domain.model.FareCalendarDay;
+import org.example.domain.model.SeatMap;
 import org.example.domain.model.Flight;
+import org.example.domain.model.Itinerary;
 import org.example.domain.model.enums.FlightStatus;
+import org.example.domain.model.enums.TicketClass;
 import org.example.domain.valueobject.*;
 import org.example.infrastructure.entrypoints.rest.dto.request.FlightSearchRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.FareCalendarDayResponseDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.FlightResponseDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.FlightSearchSummaryDTO;
+import org.example.infrastructure.entrypoints.rest.dto.response.ItineraryResponseDTO;
 import org.example.infrastructure.entrypoints.rest.mapper.FlightResponseMapper;
 import org.example.infrastructure.entrypoints.rest.mapper.FlightRestMapper;
+import org.example.infrastructure.entrypoints.rest.mapper.SeatMapResponseMapper;
+import org.example.shared.constants.MessageConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +60,15 @@ class FlightControllerTest {
     @Mock
     private FlightResponseMapper flightResponseMapper;
 
+    @Mock
+    private GetSeatMapUseCase getSeatMapUseCase;
+
+    @Mock
+    private GetFareCalendarUseCase getFareCalendarUseCase;
+
+    @Spy
+    private SeatMapResponseMapper seatMapResponseMapper = new SeatMapResponseMapper();
+
     @InjectMocks
     private FlightController flightController;
 
@@ -103,6 +132,35 @@ class FlightControllerTest {
         verify(searchFlightsUseCase, times(1)).execute(any());
     }
 
+    @Test
+    @DisplayName("Debe transmitir vuelos en NDJSON con un resumen final")
+    void testStreamFlights_ShouldEmitFlightsThenSummary() {
+        when(flightRestMapper.toSearchCommand(any(FlightSearchRequestDTO.class))).thenReturn(searchCommand);
+        when(searchFlightsUseCase.execute(any(SearchFlightsCommand.class))).thenReturn(Flux.just(flight, flight));
+        when(flightResponseMapper.toResponse(any(Flight.class))).thenReturn(flightResponse);
+
+        StepVerifier.create(flightController.streamFlights(searchRequest))
+                .expectNext(flightResponse, flightResponse)
+                .expectNextMatches(record -> record instanceof FlightSearchSummaryDTO summary
+                        && summary.getCount() == 2
+                        && summary.getMessage().equals(String.format(MessageConstants.FLIGHTS_FOUND, 2)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe transmitir eventos SSE con resumen aunque no haya vuelos")
+    void testStreamFlightEvents_WhenNoFlights_ShouldEmitOnlySummary() {
+        when(flightRestMapper.toSearchCommand(any(FlightSearchRequestDTO.class))).thenReturn(searchCommand);
+        when(searchFlightsUseCase.execute(any(SearchFlightsCommand.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(flightController.streamFlightEvents(searchRequest))
+                .expectNextMatches(event -> "summary".equals(event.event())
+                        && event.data() instanceof FlightSearchSummaryDTO summary
+                        && summary.getCount() == 0
+                        && summary.getMessage().equals(MessageConstants.NO_FLIGHTS_FOUND))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Debe retornar lista vacía cuando no hay vuelos")
     void testSearchFlights_WhenNoFlights_ShouldReturnEmptyList() {
@@ -117,6 +175,63 @@ class FlightControllerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Debe retornar itinerarios con escalas")
+    void testSearchConnections_ShouldReturnItineraries() {
+        Itinerary itinerary = new Itinerary(List.of(flight));
+        ItineraryResponseDTO itineraryResponse = ItineraryResponseDTO.builder()
+                .origin("BOG")
+                .destination("MDE")
+                .stops(0)
+                .legs(List.of(flightResponse))
+                .build();
+
+        when(flightRestMapper.toSearchCommand(any(FlightSearchRequestDTO.class))).thenReturn(searchCommand);
+        when(searchFlightsUseCase.searchConnections(searchCommand, 2)).thenReturn(Flux.just(itinerary));
+        when(flightResponseMapper.toItineraryResponse(itinerary)).thenReturn(itineraryResponse);
+
+        StepVerifier.create(flightController.searchConnections(searchRequest, 2))
+                .expectNextMatches(response ->
+                    response.getData().size() == 1 &&
+                    response.getData().get(0).getStops() == 0 &&
+                    response.getMessage().equals(String.format(MessageConstants.ITINERARIES_FOUND, 1))
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe retornar el calendario de tarifas del rango")
+    void testGetFareCalendar_ShouldReturnDays() {
+        LocalDate start = LocalDate.now().plusDays(1);
+        FareCalendarDay day = new FareCalendarDay(start, 2,
+                Map.of(TicketClass.ECONOMY, new Price(BigDecimal.valueOf(250000))));
+        FareCalendarDayResponseDTO dayResponse = FareCalendarDayResponseDTO.builder()
+                .date(start)
+                .flights(2)
+                .lowestPrices(Map.of("ECONOMY", BigDecimal.valueOf(250000)))
+                .build();
+
+        when(getFareCalendarUseCase.execute(any(FareCalendarCommand.class))).thenReturn(Flux.just(day));
+        when(flightResponseMapper.toFareCalendarResponse(day)).thenReturn(dayResponse);
+
+        StepVerifier.create(flightController.getFareCalendar("BOG", "MDE", start, start.plusDays(30), null))
+                .expectNextMatches(response ->
+                    response.getData().size() == 1 &&
+                    response.getMessage().equals(String.format(MessageConstants.FARE_CALENDAR_FOUND, 1))
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un calendario de más de 90 días")
+    void testGetFareCalendar_WhenRangeTooLong_ShouldThrowException() {
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> flightController.getFareCalendar("BOG", "MDE", start, start.plusDays(120), null));
+        verifyNoInteractions(getFareCalendarUseCase);
+    }
+
     @Test
     @DisplayName("Debe retornar múltiples vuelos")
     void testSearchFlights_WhenMultipleFlights_ShouldReturnAll() {
@@ -157,5 +272,65 @@ class FlightControllerTest {
                 )
                 .verifyComplete();
     }
-}
 
+    @Test
+    @DisplayName("Debe retornar el mapa de asientos con ETag")
+    void testGetSeatMap_ShouldReturnSeatMapWithETag() {
+        SeatMap seatMap = new SeatMap(50);
+        seatMap.occupy(new SeatNumber("1A"));
+        when(getSeatMapUseCase.execute(new FlightId(1L))).thenReturn(Mono.just(seatMap));
+
+        StepVerifier.create(flightController.getSeatMap(1L, null))
+                .expectNextMatches(response ->
+                    response.getStatusCode() == HttpStatus.OK &&
+                    response.getHeaders().getETag() != null &&
+                    response.getBody().getData().getOccupiedSeats() == 1 &&
+                    response.getBody().getData().getAvailableSeats() == 49
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe retornar 304 cuando el mapa de asientos no ha cambiado")
+    void testGetSeatMap_WhenETagMatches_ShouldReturnNotModified() {
+        SeatMap seatMap = new SeatMap(50);
+        when(getSeatMapUseCase.execute(new FlightId(1L))).thenReturn(Mono.just(seatMap));
+
+        String eTag = flightController.getSeatMap(1L, null).block().getHeaders().getETag();
+
+        StepVerifier.create(flightController.getSeatMap(1L, eTag))
+                .expectNextMatches(response ->
+                    response.getStatusCode() == HttpStatus.NOT_MODIFIED &&
+                    response.getBody() == null
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe comparar cada etiqueta de If-None-Match de forma exacta")
+    void testGetSeatMap_ShouldMatchEntityTagsExactly() {
+        SeatMap seatMap = new SeatMap(50);
+        when(getSeatMapUseCase.execute(new FlightId(1L))).thenReturn(Mono.just(seatMap));
+
+        String eTag = flightController.getSeatMap(1L, null).block().getHeaders().getETag();
+
+        StepVerifier.create(flightController.getSeatMap(1L, "\"stale\", W/" + eTag))
+                .expectNextMatches(response -> response.getStatusCode() == HttpStatus.NOT_MODIFIED)
+                .verifyComplete();
+        // Contener el ETag dentro de otra etiqueta no es coincidir con él
+        StepVerifier.create(flightController.getSeatMap(1L, "\"x" + eTag + "\""))
+                .expectNextMatches(response -> response.getStatusCode() == HttpStatus.OK)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe propagar FlightNotFoundException cuando el vuelo no existe")
+    void testGetSeatMap_WhenFlightNotFound_ShouldThrowException() {
+        when(getSeatMapUseCase.execute(new FlightId(999L)))
+                .thenReturn(Mono.error(new FlightNotFoundException(999L)));
+
+        StepVerifier.create(flightController.getSeatMap(999L, null))
+                .expectError(FlightNotFoundException.class)
+                .verify();
+    }
+}
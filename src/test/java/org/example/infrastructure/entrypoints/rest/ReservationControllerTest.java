@@ -1,16 +1,24 @@
 package org.example.infrastructure.entrypoints.rest;
 
+import org.example.application.command.BookGroupCommand;
 import org.example.application.command.BookTicketCommand;
 import org.example.application.command.CancelReservationCommand;
 import org.example.application.command.UpdateReservationCommand;
+import org.example.application.port.in.BookGroupUseCase;
 import org.example.application.port.in.BookTicketUseCase;
 import org.example.application.port.in.CancelReservationUseCase;
+import org.example.application.port.in.ConfirmHoldUseCase;
 import org.example.application.port.in.GetUserReservationsUseCase;
+import org.example.application.port.in.HoldSeatUseCase;
 import org.example.application.port.in.UpdateReservationUseCase;
+import org.example.domain.exception.AuthenticationException;
 import org.example.domain.model.Reservation;
 import org.example.domain.model.enums.ReservationStatus;
 import org.example.domain.valueobject.*;
+import org.example.infrastructure.drivenadapters.cache.IdempotencyStore;
 import org.example.infrastructure.entrypoints.rest.dto.request.BookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.GroupBookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.PassengerRequestDTO;
 import org.example.infrastructure.entrypoints.rest.dto.request.UpdateReservationRequestDTO;
 import org.example.infrastructure.entrypoints.rest.dto.response.ReservationResponseDTO;
 import org.example.infrastructure.entrypoints.rest.mapper.ReservationResponseMapper;
@@ -23,14 +31,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -42,6 +55,15 @@ class ReservationControllerTest {
     @Mock
     private BookTicketUseCase bookTicketUseCase;
 
+    @Mock
+    private BookGroupUseCase bookGroupUseCase;
+
+    @Mock
+    private HoldSeatUseCase holdSeatUseCase;
+
+    @Mock
+    private ConfirmHoldUseCase confirmHoldUseCase;
+
     @Mock
     private UpdateReservationUseCase updateReservationUseCase;
 
@@ -60,6 +82,9 @@ class ReservationControllerTest {
     @Mock
     private ReservationResponseMapper reservationResponseMapper;
 
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     @InjectMocks
     private ReservationController reservationController;
 
@@ -112,7 +137,7 @@ class ReservationControllerTest {
         when(reservationResponseMapper.toResponseWithDetails(any(Reservation.class)))
                 .thenReturn(Mono.just(reservationResponse));
 
-        StepVerifier.create(reservationController.createReservation(bookingRequest))
+        StepVerifier.create(reservationController.createReservation(bookingRequest, null))
                 .expectNextMatches(response ->
                     response.getData() != null &&
                     response.getData().getReservationId().equals(1L)
@@ -122,6 +147,94 @@ class ReservationControllerTest {
         verify(bookTicketUseCase, times(1)).execute(any());
     }
 
+    @Test
+    @DisplayName("Debe crear la reserva de grupo y devolver una reservación por pasajero")
+    void testCreateGroupReservation_WhenValid_ShouldReturnAllReservations() {
+        GroupBookingRequestDTO groupRequest = GroupBookingRequestDTO.builder()
+                .userId(1L)
+                .flightId(1L)
+                .passengers(List.of(
+                        new PassengerRequestDTO("John Doe", "12A"),
+                        new PassengerRequestDTO("Jane Doe", "12B")))
+                .build();
+        BookGroupCommand command = new BookGroupCommand(1L, 1L, "ECONOMY", List.of(
+                new BookGroupCommand.Passenger("John Doe", "12A"),
+                new BookGroupCommand.Passenger("Jane Doe", "12B")));
+
+        when(ticketRestMapper.toGroupCommand(groupRequest)).thenReturn(command);
+        when(bookGroupUseCase.execute(command)).thenReturn(Mono.just(List.of(reservation, reservation)));
+        when(reservationResponseMapper.toResponsesWithDetails(anyList()))
+                .thenReturn(Flux.just(reservationResponse, reservationResponse));
+
+        StepVerifier.create(reservationController.createGroupReservation(groupRequest, null))
+                .expectNextMatches(response -> response.getData().size() == 2
+                        && response.getStatus().getCode() == 201)
+                .verifyComplete();
+
+        verify(bookTicketUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe delegar en el almacén de idempotencia cuando llega Idempotency-Key")
+    void testCreateReservation_WithIdempotencyKey_ShouldUseStoredResponse() {
+        when(idempotencyStore.execute(eq("jdoe"), eq("retry-1"), eq(bookingRequest), any()))
+                .thenReturn(Mono.just(reservationResponse));
+
+        StepVerifier.create(reservationController.createReservation(bookingRequest, "retry-1")
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                new UsernamePasswordAuthenticationToken("jdoe", null, List.of()))))
+                .expectNextMatches(response -> response.getData().getReservationId().equals(1L))
+                .verifyComplete();
+
+        verify(bookTicketUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe exigir usuario autenticado para usar Idempotency-Key")
+    void testCreateReservation_WithIdempotencyKeyWithoutUser_ShouldThrowException() {
+        StepVerifier.create(reservationController.createReservation(bookingRequest, "retry-1"))
+                .expectError(AuthenticationException.class)
+                .verify();
+
+        verifyNoInteractions(idempotencyStore);
+        verify(bookTicketUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe retener el asiento e informar hasta cuándo")
+    void testHoldSeat_WhenValid_ShouldReturnPendingReservation() {
+        BookTicketCommand command = new BookTicketCommand(1L, 1L, "John Doe", "12A", "ECONOMY");
+        ReservationResponseDTO holdResponse = ReservationResponseDTO.builder()
+                .reservationId(1L)
+                .status("PENDING")
+                .holdExpiresAt(LocalDateTime.of(2030, 5, 10, 8, 30))
+                .build();
+
+        when(ticketRestMapper.toCommand(bookingRequest)).thenReturn(command);
+        when(holdSeatUseCase.execute(command)).thenReturn(Mono.just(reservation));
+        when(reservationResponseMapper.toResponseWithDetails(reservation)).thenReturn(Mono.just(holdResponse));
+
+        StepVerifier.create(reservationController.holdSeat(bookingRequest))
+                .expectNextMatches(response -> response.getStatus().getCode() == 201
+                        && response.getData().getStatus().equals("PENDING")
+                        && response.getMessage().contains("10/05/2030 08:30:00"))
+                .verifyComplete();
+
+        verify(bookTicketUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Debe confirmar una retención vigente")
+    void testConfirmHold_WhenActive_ShouldReturnConfirmedReservation() {
+        when(confirmHoldUseCase.execute(new ReservationId(1L))).thenReturn(Mono.just(reservation));
+        when(reservationResponseMapper.toResponseWithDetails(reservation)).thenReturn(Mono.just(reservationResponse));
+
+        StepVerifier.create(reservationController.confirmHold(1L))
+                .expectNextMatches(response -> response.getStatus().getCode() == 200
+                        && response.getData().getStatus().equals("CONFIRMED"))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Debe actualizar reservación exitosamente")
     void testUpdateReservation_WhenValid_ShouldUpdateReservation() {
@@ -177,26 +290,27 @@ class ReservationControllerTest {
     @Test
     @DisplayName("Debe obtener reservaciones del usuario")
     void testGetUserReservations_WhenReservationsExist_ShouldReturnReservations() {
-        when(getUserReservationsUseCase.execute(any(UserId.class))).thenReturn(Flux.just(reservation));
-        when(reservationResponseMapper.toResponseWithDetails(any(Reservation.class)))
-                .thenReturn(Mono.just(reservationResponse));
+        when(getUserReservationsUseCase.execute(any(UserId.class), isNull(), eq(21))).thenReturn(Flux.just(reservation));
+        when(reservationResponseMapper.toResponsesWithDetails(List.of(reservation)))
+                .thenReturn(Flux.just(reservationResponse));
 
-        StepVerifier.create(reservationController.getUserReservations(1L))
+        StepVerifier.create(reservationController.getUserReservations(1L, null, 20))
                 .expectNextMatches(response ->
                     response.getData() != null &&
                     response.getData().size() == 1
                 )
                 .verifyComplete();
 
-        verify(getUserReservationsUseCase, times(1)).execute(any(UserId.class));
+        verify(getUserReservationsUseCase, times(1)).execute(any(UserId.class), isNull(), eq(21));
     }
 
     @Test
     @DisplayName("Debe retornar lista vacía cuando usuario no tiene reservaciones")
     void testGetUserReservations_WhenNoReservations_ShouldReturnEmptyList() {
-        when(getUserReservationsUseCase.execute(any(UserId.class))).thenReturn(Flux.empty());
+        when(getUserReservationsUseCase.execute(any(UserId.class), isNull(), eq(21))).thenReturn(Flux.empty());
+        when(reservationResponseMapper.toResponsesWithDetails(List.of())).thenReturn(Flux.empty());
 
-        StepVerifier.create(reservationController.getUserReservations(999L))
+        StepVerifier.create(reservationController.getUserReservations(999L, null, 20))
                 .expectNextMatches(response ->
                     response.getData() != null &&
                     response.getData().isEmpty()
@@ -225,16 +339,67 @@ class ReservationControllerTest {
                 .status("CONFIRMED")
                 .build();
 
-        when(getUserReservationsUseCase.execute(any(UserId.class))).thenReturn(Flux.just(reservation, reservation2));
-        when(reservationResponseMapper.toResponseWithDetails(reservation)).thenReturn(Mono.just(reservationResponse));
-        when(reservationResponseMapper.toResponseWithDetails(reservation2)).thenReturn(Mono.just(reservationResponse2));
+        when(getUserReservationsUseCase.execute(any(UserId.class), isNull(), eq(21))).thenReturn(Flux.just(reservation, reservation2));
+        when(reservationResponseMapper.toResponsesWithDetails(List.of(reservation, reservation2)))
+                .thenReturn(Flux.just(reservationResponse, reservationResponse2));
 
-        StepVerifier.create(reservationController.getUserReservations(1L))
+        StepVerifier.create(reservationController.getUserReservations(1L, null, 20))
                 .expectNextMatches(response ->
                     response.getData() != null &&
                     response.getData().size() == 2
                 )
                 .verifyComplete();
     }
-}
 
+    @Test
+    @DisplayName("Debe retornar nextCursor cuando existen más reservaciones que el límite")
+    void testGetUserReservations_WhenMorePages_ShouldReturnNextCursor() {
+        Reservation reservation2 = Reservation.builder()
+                .id(new ReservationId(2L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(2L))
+                .status(ReservationStatus.CONFIRMED)
+                .build();
+
+        when(getUserReservationsUseCase.execute(any(UserId.class), eq(0L), eq(2)))
+                .thenReturn(Flux.just(reservation, reservation2));
+        when(reservationResponseMapper.toResponsesWithDetails(List.of(reservation)))
+                .thenReturn(Flux.just(reservationResponse));
+
+        StepVerifier.create(reservationController.getUserReservations(1L, 0L, 1))
+                .expectNextMatches(response ->
+                    response.getData().size() == 1 &&
+                    Long.valueOf(1L).equals(response.getNextCursor())
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe limitar el tamaño de página al máximo permitido")
+    void testGetUserReservations_WhenLimitTooLarge_ShouldClamp() {
+        when(getUserReservationsUseCase.execute(any(UserId.class), isNull(), eq(101)))
+                .thenReturn(Flux.just(reservation));
+        when(reservationResponseMapper.toResponsesWithDetails(List.of(reservation)))
+                .thenReturn(Flux.just(reservationResponse));
+
+        StepVerifier.create(reservationController.getUserReservations(1L, null, 5000))
+                .expectNextMatches(response ->
+                    response.getData().size() == 1 &&
+                    response.getNextCursor() == null
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe transmitir el historial enriquecido por lotes")
+    void testStreamUserReservations_ShouldEmitEnrichedRows() {
+        when(getUserReservationsUseCase.execute(any(UserId.class))).thenReturn(Flux.just(reservation));
+        when(reservationResponseMapper.toResponsesWithDetails(List.of(reservation)))
+                .thenReturn(Flux.just(reservationResponse));
+
+        StepVerifier.create(reservationController.streamUserReservations(1L))
+                .expectNext(reservationResponse)
+                .verifyComplete();
+    }
+}
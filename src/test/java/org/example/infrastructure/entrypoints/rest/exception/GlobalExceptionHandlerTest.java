@@ -172,6 +172,34 @@ class GlobalExceptionHandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Debe manejar TooManyRequestsException")
+    void testHandleTooManyRequests() {
+        TooManyRequestsException ex = new TooManyRequestsException("Cola llena");
+
+        StepVerifier.create(exceptionHandler.handleTooManyRequests(ex))
+                .expectNextMatches(response -> {
+                    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus().getCode());
+                    assertEquals(MessageConstants.TOO_MANY_REQUESTS, response.getMessage());
+                    return true;
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe manejar IdempotencyKeyReusedException con 422")
+    void testHandleIdempotencyKeyReused() {
+        IdempotencyKeyReusedException ex = new IdempotencyKeyReusedException(MessageConstants.IDEMPOTENCY_KEY_REUSED);
+
+        StepVerifier.create(exceptionHandler.handleIdempotencyKeyReused(ex))
+                .expectNextMatches(response -> {
+                    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getStatus().getCode());
+                    assertEquals(MessageConstants.IDEMPOTENCY_KEY_REUSED, response.getMessage());
+                    return true;
+                })
+                .verifyComplete();
+    }
+
     // ============= GENERIC EXCEPTIONS =============
 
     @Test
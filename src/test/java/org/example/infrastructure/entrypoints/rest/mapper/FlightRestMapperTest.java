@@ -1,6 +1,7 @@
 package org.example.infrastructure.entrypoints.rest.mapper;
 
 import org.example.application.command.SearchFlightsCommand;
+import org.example.domain.model.enums.FlightSortOrder;
 import org.example.infrastructure.entrypoints.rest.dto.request.FlightSearchRequestDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +41,36 @@ class FlightRestMapperTest {
         assertEquals("MDE", command.destination());
         assertEquals(departureDate, command.departureDate());
         assertEquals(2, command.passengers());
+        assertEquals(FlightSortOrder.DEPARTURE_TIME, command.sortOrder());
+        assertNull(command.limit());
+    }
+
+    @Test
+    @DisplayName("Debe convertir orden y límite de la búsqueda")
+    void testToSearchCommand_WithSortAndLimit_ShouldMap() {
+        FlightSearchRequestDTO dto = FlightSearchRequestDTO.builder()
+                .origin("BOG")
+                .destination("MDE")
+                .sortBy("price")
+                .limit(5)
+                .build();
+
+        SearchFlightsCommand command = mapper.toSearchCommand(dto);
+
+        assertEquals(FlightSortOrder.PRICE, command.sortOrder());
+        assertEquals(5, command.limit());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un orden de búsqueda desconocido")
+    void testToSearchCommand_WithInvalidSort_ShouldThrow() {
+        FlightSearchRequestDTO dto = FlightSearchRequestDTO.builder()
+                .origin("BOG")
+                .destination("MDE")
+                .sortBy("duration")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.toSearchCommand(dto));
     }
 
     @Test
@@ -18,15 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests unitarios para ReservationResponseMapper - 100% Coverage
@@ -119,6 +123,54 @@ class ReservationResponseMapperTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Debe enriquecer un lote con una consulta de tickets y una de vuelos")
+    void testToResponsesWithDetails_ShouldBatchLookups() {
+        Reservation reservation2 = Reservation.builder()
+                .id(new ReservationId(2L))
+                .userId(new UserId(1L))
+                .flightId(new FlightId(1L))
+                .ticketId(new TicketId(2L))
+                .status(ReservationStatus.CONFIRMED)
+                .build();
+        Ticket ticket2 = Ticket.builder()
+                .id(new TicketId(2L))
+                .passengerName("Jane Doe")
+                .seatNumber(new SeatNumber("12B"))
+                .price(new Price(BigDecimal.valueOf(250000)))
+                .build();
+
+        when(ticketRepository.findAllById(anyCollection())).thenReturn(Flux.just(ticket2, ticket));
+        when(flightRepository.findAllById(anyCollection())).thenReturn(Flux.just(flight));
+
+        StepVerifier.create(mapper.toResponsesWithDetails(List.of(reservation, reservation2)))
+                .expectNextMatches(response -> response.getReservationId() == 1L
+                        && "12A".equals(response.getSeatNumber()))
+                .expectNextMatches(response -> response.getReservationId() == 2L
+                        && "12B".equals(response.getSeatNumber())
+                        && "AV101".equals(response.getFlightNumber()))
+                .verifyComplete();
+
+        verify(ticketRepository, times(1)).findAllById(anyCollection());
+        verify(flightRepository, times(1)).findAllById(Set.of(new FlightId(1L)));
+        verify(ticketRepository, never()).findById(any(TicketId.class));
+        verify(flightRepository, never()).findById(any(FlightId.class));
+    }
+
+    @Test
+    @DisplayName("Debe omitir reservaciones cuyo ticket no existe y no consultar con lote vacío")
+    void testToResponsesWithDetails_WhenTicketMissing_ShouldSkipReservation() {
+        when(ticketRepository.findAllById(anyCollection())).thenReturn(Flux.empty());
+        when(flightRepository.findAllById(anyCollection())).thenReturn(Flux.just(flight));
+
+        StepVerifier.create(mapper.toResponsesWithDetails(List.of(reservation)))
+                .verifyComplete();
+        StepVerifier.create(mapper.toResponsesWithDetails(List.of()))
+                .verifyComplete();
+
+        verify(ticketRepository, times(1)).findAllById(anyCollection());
+    }
+
     @Test
     @DisplayName("Debe convertir a respuesta básica correctamente")
     void testToBasicResponse_ShouldMapBasicFields() {
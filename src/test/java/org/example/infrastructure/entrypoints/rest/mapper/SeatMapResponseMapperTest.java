@@ -0,0 +1,51 @@
+package org.example.infrastructure.entrypoints.rest.mapper;
+
+import org.example.domain.model.SeatMap;
+import org.example.domain.valueobject.SeatNumber;
+import org.example.infrastructure.entrypoints.rest.dto.response.SeatMapResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SeatMapResponseMapper
+ */
+class SeatMapResponseMapperTest {
+
+    private final SeatMapResponseMapper mapper = new SeatMapResponseMapper();
+
+    @Test
+    @DisplayName("Debe empaquetar la ocupación como bitmap con el bit menos significativo primero")
+    void testToResponse_ShouldPackOccupancyBitmap() {
+        SeatMap seatMap = new SeatMap(50);
+        seatMap.occupy(new SeatNumber("1A"));   // bit 6
+        seatMap.occupy(new SeatNumber("2C"));   // bit 14
+
+        SeatMapResponseDTO response = mapper.toResponse(1L, seatMap);
+        byte[] bitmap = Base64.getDecoder().decode(response.getOccupancy());
+
+        assertEquals(80, bitmap.length);
+        assertEquals(1 << 6, bitmap[0]);
+        assertEquals(1 << 6, bitmap[1]);
+        assertEquals(1, response.getFirstRow());
+        assertEquals(9, response.getRows());
+        assertEquals("ABCDEF", response.getColumns());
+        assertEquals(2, response.getOccupiedSeats());
+        assertEquals(48, response.getAvailableSeats());
+    }
+
+    @Test
+    @DisplayName("Debe cambiar el ETag solo cuando cambia la ocupación")
+    void testToETag_ShouldChangeWithOccupancy() {
+        SeatMap seatMap = new SeatMap(50);
+        String initial = mapper.toETag(mapper.toResponse(1L, seatMap));
+
+        assertEquals(initial, mapper.toETag(mapper.toResponse(1L, seatMap)));
+
+        seatMap.occupy(new SeatNumber("10F"));
+        assertNotEquals(initial, mapper.toETag(mapper.toResponse(1L, seatMap)));
+    }
+}
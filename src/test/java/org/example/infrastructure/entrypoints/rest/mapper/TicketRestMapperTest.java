@@ -1,11 +1,16 @@
 package org.example.infrastructure.entrypoints.rest.mapper;
 
+import org.example.application.command.BookGroupCommand;
 import org.example.application.command.BookTicketCommand;
 import org.example.infrastructure.entrypoints.rest.dto.request.BookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.GroupBookingRequestDTO;
+import org.example.infrastructure.entrypoints.rest.dto.request.PassengerRequestDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -72,5 +77,24 @@ class TicketRestMapperTest {
 
         assertEquals("FIRST_CLASS", command.ticketClass());
     }
-}
 
+    @Test
+    @DisplayName("Debe convertir GroupBookingRequestDTO a BookGroupCommand")
+    void testToGroupCommand_ShouldMapPassengers() {
+        GroupBookingRequestDTO dto = GroupBookingRequestDTO.builder()
+                .userId(1L)
+                .flightId(2L)
+                .passengers(List.of(
+                        new PassengerRequestDTO("John Doe", "12A"),
+                        new PassengerRequestDTO("Jane Doe", "12B")))
+                .build();
+
+        BookGroupCommand command = mapper.toGroupCommand(dto);
+
+        assertEquals(1L, command.userId());
+        assertEquals(2L, command.flightId());
+        assertEquals("ECONOMY", command.ticketClass());
+        assertEquals(List.of(new BookGroupCommand.Passenger("John Doe", "12A"),
+                new BookGroupCommand.Passenger("Jane Doe", "12B")), command.passengers());
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.shared.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para AirportCatalog
+ */
+class AirportCatalogTest {
+
+    @Test
+    @DisplayName("Debe resolver códigos, ciudades y alias del catálogo por defecto")
+    void testGetDefault_ShouldResolveCodesCitiesAndAliases() {
+        AirportCatalog catalog = AirportCatalog.getDefault();
+
+        assertEquals("BOG", catalog.findCode("El Dorado"));
+        assertEquals("CUC", catalog.findCode("cucuta"));
+        assertEquals("MDE", catalog.findCode("MED"));
+        assertNull(catalog.findCode("Ciudad Desconocida"));
+    }
+
+    @Test
+    @DisplayName("Debe dar prioridad al código, luego a la ciudad y luego al alias")
+    void testFromLines_ShouldPreferCodesThenCities() {
+        AirportCatalog catalog = AirportCatalog.fromLines(List.of(
+                "# comentario",
+                "AAA,Ccc,Pais,",
+                "BBB,Otra,Pais,AAA|Ccc"));
+
+        assertEquals(2, catalog.size());
+        assertEquals("AAA", catalog.findCode("aaa"));
+        assertEquals("AAA", catalog.findCode("ccc"));
+        assertEquals("Otra", catalog.getCity(1));
+    }
+
+    @Test
+    @DisplayName("Debe autocompletar por prefijo de ciudad o código")
+    void testAutocomplete() {
+        AirportCatalog catalog = AirportCatalog.getDefault();
+        int[] out = new int[5];
+
+        int count = catalog.autocomplete("cart", out);
+
+        assertEquals(1, count);
+        assertEquals("CTG", catalog.getCode(out[0]));
+        assertEquals("Colombia", catalog.getCountry(out[0]));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar líneas inválidas")
+    void testFromLines_WhenLineInvalid_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> AirportCatalog.fromLines(List.of("BOG,Bogotá")));
+    }
+}
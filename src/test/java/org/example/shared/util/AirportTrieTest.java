@@ -0,0 +1,88 @@
+package org.example.shared.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para AirportTrie
+ */
+class AirportTrieTest {
+
+    @Test
+    @DisplayName("Debe plegar tildes, mayúsculas, espacios y signos")
+    void testFold() {
+        assertEquals("SANANDRES", AirportTrie.fold("  San Andrés "));
+        assertEquals("BOGOTADC", AirportTrie.fold("Bogotá D.C."));
+        assertEquals("SAOPAULO", AirportTrie.fold("São Paulo"));
+        assertEquals("CURACAO", AirportTrie.fold("Curaçao"));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar claves exactas sin importar la escritura")
+    void testGet() {
+        AirportTrie trie = AirportTrie.build(entries("BOG", 0, "Bogotá", 0, "BGA", 1, "Bucaramanga", 1));
+
+        assertEquals(0, trie.get("bogota"));
+        assertEquals(0, trie.get("BO G"));
+        assertEquals(1, trie.get("bucaramanga"));
+        assertEquals(AirportTrie.NOT_FOUND, trie.get("BOGO"));
+        assertEquals(AirportTrie.NOT_FOUND, trie.get("XYZ"));
+    }
+
+    @Test
+    @DisplayName("Debe autocompletar valores distintos en orden alfabético")
+    void testComplete() {
+        AirportTrie trie = AirportTrie.build(entries(
+                "BOG", 0, "Bogotá", 0, "BGA", 1, "Bucaramanga", 1, "BAQ", 2, "Barranquilla", 2, "MDE", 3));
+        int[] out = new int[10];
+
+        int count = trie.complete("b", out);
+        assertArrayEquals(new int[] {2, 1, 0}, Arrays.copyOf(out, count));
+
+        assertEquals(2, trie.complete("B", new int[2]));
+        assertEquals(1, trie.complete("bogo", out));
+        assertEquals(0, trie.complete("Z", out));
+    }
+
+    @Test
+    @DisplayName("Debe conservar la primera clave cuando dos coinciden tras plegarse")
+    void testBuild_WhenKeysCollide_ShouldKeepFirst() {
+        AirportTrie trie = AirportTrie.build(entries("San Andrés", 0, "SANANDRES", 1));
+
+        assertEquals(0, trie.get("san andres"));
+    }
+
+    @Test
+    @DisplayName("Debe escalar a miles de aeropuertos")
+    void testBuild_WithManyKeys() {
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            keys.put(code(i), i);
+            keys.put("Ciudad " + i, i);
+        }
+
+        AirportTrie trie = AirportTrie.build(keys);
+
+        assertEquals(1234, trie.get(code(1234)));
+        assertEquals(9999, trie.get("ciudad 9999"));
+        assertTrue(trie.nodeCount() < keys.size() * 4);
+    }
+
+    private static String code(int i) {
+        return "" + (char) ('A' + i / 676 % 26) + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+    }
+
+    private static Map<String, Integer> entries(Object... pairs) {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            entries.put((String) pairs[i], (Integer) pairs[i + 1]);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.shared.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para HashedTimingWheel con un reloj controlado
+ */
+class HashedTimingWheelTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<List<Integer>> batches = new ArrayList<>();
+    private HashedTimingWheel<Integer> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 8, clock::get, batches::add);
+    }
+
+    @Test
+    @DisplayName("No debe vencer antes del plazo y sí a más tardar un tick después")
+    void testAdvance_ShouldNeverExpireEarly() {
+        wheel.schedule(1, Duration.ofMillis(2500));
+
+        advanceTo(Duration.ofMillis(2999));
+        assertTrue(batches.isEmpty());
+
+        advanceTo(Duration.ofSeconds(3));
+        assertEquals(List.of(List.of(1)), batches);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Debe esperar las vueltas completas de un plazo mayor que la rueda")
+    void testAdvance_WhenDelayExceedsWheel_ShouldWaitRounds() {
+        // 8 casillas de 1 s: 20 s son dos vueltas y media
+        wheel.schedule(1, Duration.ofSeconds(20));
+        wheel.schedule(2, Duration.ofSeconds(4));
+
+        advanceTo(Duration.ofSeconds(5));
+        assertEquals(List.of(List.of(2)), batches);
+
+        advanceTo(Duration.ofSeconds(20));
+        assertEquals(1, batches.size());
+
+        advanceTo(Duration.ofSeconds(21));
+        assertEquals(List.of(List.of(2), List.of(1)), batches);
+    }
+
+    @Test
+    @DisplayName("No debe vencer lo cancelado ni contarlo como pendiente")
+    void testCancel_ShouldSkipCancelledTimeouts() {
+        HashedTimingWheel.Timeout<Integer> first = wheel.schedule(1, Duration.ofSeconds(2));
+        wheel.schedule(2, Duration.ofSeconds(2));
+        advanceTo(Duration.ofSeconds(1));
+
+        assertTrue(first.cancel());
+        assertFalse(first.cancel());
+        assertEquals(1, wheel.size());
+
+        advanceTo(Duration.ofSeconds(3));
+        assertEquals(List.of(List.of(2)), batches);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Debe entregar en un solo lote todo lo vencido en el mismo avance")
+    void testAdvance_WithManyTimeouts_ShouldDeliverSingleBatch() {
+        int holds = 50_000;
+        for (int i = 0; i < holds; i++) {
+            wheel.schedule(i, Duration.ofMillis(i % 10_000));
+        }
+        assertEquals(holds, wheel.size());
+
+        advanceTo(Duration.ofSeconds(11));
+
+        assertEquals(1, batches.size());
+        assertEquals(holds, batches.get(0).size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Debe vencer en el siguiente tick un plazo ya cumplido")
+    void testSchedule_WhenDelayNegative_ShouldExpireOnNextTick() {
+        advanceTo(Duration.ofSeconds(5));
+        wheel.schedule(1, Duration.ofSeconds(-3));
+
+        advanceTo(Duration.ofSeconds(6));
+        assertEquals(List.of(List.of(1)), batches);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un tick que no sea positivo")
+    void testConstructor_WhenTickNotPositive_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel<Integer>(Duration.ZERO, 8, clock::get, batch -> { }));
+    }
+
+    private void advanceTo(Duration elapsed) {
+        clock.set(TimeUnit.NANOSECONDS.convert(elapsed));
+        wheel.advance();
+    }
+}